@@ -12,7 +12,8 @@ export const generateResume = async (description) => {
                 'Content-Type': 'application/json'
             }
         });
-        return response;
+        // The API returns { content, model, finishReason, usage }; callers only need the text
+        return response.data.content;
     } catch (error) {
         console.error('Error generating resume:', error);
         throw error;
@@ -32,4 +33,40 @@ if (resume.getSummary() != null && !resume.getSummary().isEmpty()) {
         return generateMockResume(resume);
     }
     return generateResumeFromSummary(resume);
-} 
\ No newline at end of file
+} 
+// Streams the generated resume; onDelta is called with each text chunk as it arrives
+export const streamResume = async (description, onDelta) => {
+    const response = await fetch(`${API_BASE_URL}/generate/stream`, {
+        method: 'POST',
+        headers: {
+            'Content-Type': 'application/json',
+            'Accept': 'text/event-stream'
+        },
+        body: JSON.stringify({ summary: description })
+    });
+
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    let buffer = '';
+    while (true) {
+        const { done, value } = await reader.read();
+        if (done) {
+            break;
+        }
+        buffer += decoder.decode(value, { stream: true });
+        const events = buffer.split('\n\n');
+        buffer = events.pop();
+        for (const event of events) {
+            const name = event.match(/^event:(.*)$/m)?.[1]?.trim();
+            const data = event.split('\n')
+                .filter(line => line.startsWith('data:'))
+                .map(line => line.slice(5))
+                .join('\n');
+            if (name === 'delta') {
+                onDelta(JSON.parse(data).content);
+            } else if (name === 'error') {
+                throw new Error(JSON.parse(data).message);
+            }
+        }
+    }
+};
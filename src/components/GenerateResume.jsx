@@ -2,17 +2,18 @@ const handleGenerate = async () => {
   console.log(description);
   try {
     setLoading(true);
-    const response = await generateResume(description);
-    console.log('Response:', response);
+    // generateResume resolves to the generated text itself
+    const content = await generateResume(description);
+    console.log('Response:', content);
     
     // Update the form data with the response
-    if (response.data) {
+    if (content) {
       const newData = {
         ...data,
-        summary: response.data,
+        summary: content,
         personalInformation: {
           ...data.personalInformation,
-          fullName: response.data.match(/Name: ([^\n]+)/)?.[1] || data.personalInformation.fullName
+          fullName: content.match(/Name: ([^\n]+)/)?.[1] || data.personalInformation.fullName
         }
       };
       setData(newData);
@@ -0,0 +1,60 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.service.DocumentRenderer;
+import com.example.resume.service.DocxDocumentRenderer;
+import com.example.resume.service.LocalResumeRenderer;
+import com.example.resume.service.PdfDocumentRenderer;
+import com.example.resume.service.ResumeMarkup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders per second per core for each document format: one benchmark
+ * thread, so the score is what a single render-pool thread sustains.
+ * Multiply by {@code resume.render.threads} for the pool's ceiling. Input is
+ * the locally rendered text of the {@link ResumeFixtures} payloads, and each
+ * op includes parsing it; output goes to a discarding stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class DocumentRenderBenchmark {
+
+    @Param({"pdf", "docx"})
+    public String format;
+
+    @Param({"typical", "large"})
+    public String size;
+
+    private String content;
+    private DocumentRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        content = new LocalResumeRenderer().render(ResumeFixtures.create(size));
+        renderer = "pdf".equals(format) ? new PdfDocumentRenderer() : new DocxDocumentRenderer();
+    }
+
+    @Benchmark
+    public void render() throws IOException {
+        renderer.render(ResumeMarkup.parse(content), OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@code POST /api/v1/resume/generate} round trip: request binding,
+ * prompt building, the provider call against an in-process stub that
+ * answers immediately, and response writing. The completion cache and
+ * near-duplicate reuse are off so every call reaches the stub, and the
+ * history store is off so no call waits on a disk write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// The JDK stub server writes headers and body separately; without TCP_NODELAY it can stall on delayed ACKs
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class GenerateEndpointBenchmark {
+
+    private static final byte[] COMPLETION = ("{\"id\":\"bench\",\"choices\":[{\"index\":0,\"message\":"
+        + "{\"role\":\"assistant\",\"content\":\"JANE DOE\\nSenior Software Engineer\\n...\"},"
+        + "\"finish_reason\":\"stop\"}],\"usage\":{\"prompt_tokens\":500,\"completion_tokens\":700}}")
+        .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"small", "typical", "large"})
+    public String size;
+
+    @Param({"sync", "async"})
+    public String mode;
+
+    private HttpServer stub;
+    private ConfigurableApplicationContext context;
+    private CloseableHttpClient client;
+    private String url;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, COMPLETION.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(COMPLETION);
+            }
+        });
+        stub.start();
+
+        context = new SpringApplicationBuilder(ResumeApplication.class)
+            .run(
+                "--server.port=0",
+                "--openai.api.key=sk-bench",
+                "--openai.api.url=http://127.0.0.1:" + stub.getAddress().getPort() + "/v1",
+                "--resume.generation.mode=" + mode,
+                "--resume.cache.enabled=false",
+                "--resume.duplicates.enabled=false",
+                "--resume.history.enabled=false",
+                "--resume.limiter.requests-per-minute=100000000",
+                "--resume.limiter.tokens-per-minute=100000000000",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.com.example.resume=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.springframework.web.client=WARN");
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+
+        url = "http://127.0.0.1:" + port + "/api/v1/resume/generate";
+        body = new ObjectMapper().writeValueAsBytes(ResumeFixtures.create(size));
+        client = HttpClients.createDefault();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        context.close();
+        stub.stop(0);
+    }
+
+    @Benchmark
+    public String generate() throws IOException {
+        HttpPost post = new HttpPost(url);
+        post.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+        return client.execute(post, response -> {
+            String text = EntityUtils.toString(response.getEntity());
+            if (response.getCode() != 200) {
+                throw new IllegalStateException("Unexpected status " + response.getCode() + ": " + text);
+            }
+            return text;
+        });
+    }
+}
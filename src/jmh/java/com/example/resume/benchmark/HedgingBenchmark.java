@@ -0,0 +1,146 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tail latency of {@code POST /api/v1/resume/generate} against two stub
+ * providers that usually answer in {@value #LATENCY_MS}ms but stall for
+ * {@value #STALL_MS}ms on {@value #STALL_PERCENT}% of calls, with and
+ * without hedging. Read the p99 and p99.9 of the sample-time results: with
+ * hedging a stalled call is answered by the other provider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class HedgingBenchmark {
+
+    private static final long LATENCY_MS = 20;
+    private static final long STALL_MS = 1000;
+    private static final int STALL_PERCENT = 2;
+
+    private static final byte[] COMPLETION = ("{\"choices\":[{\"index\":0,\"message\":"
+        + "{\"role\":\"assistant\",\"content\":\"JANE DOE\\nSenior Software Engineer\\n...\"},"
+        + "\"finish_reason\":\"stop\"}],\"usage\":{\"prompt_tokens\":500,\"completion_tokens\":700}}")
+        .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"false", "true"})
+    public boolean hedging;
+
+    private HttpServer first;
+    private HttpServer second;
+    private ConfigurableApplicationContext context;
+    private CloseableHttpClient client;
+    private String url;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        first = stub();
+        second = stub();
+        context = new SpringApplicationBuilder(ResumeApplication.class)
+            .run(
+                "--server.port=0",
+                "--resume.providers=first,second",
+                "--first.api.key=sk-bench",
+                "--first.api.url=http://127.0.0.1:" + first.getAddress().getPort() + "/v1",
+                "--second.api.key=sk-bench",
+                "--second.api.url=http://127.0.0.1:" + second.getAddress().getPort() + "/v1",
+                "--resume.hedging.enabled=" + hedging,
+                "--resume.hedging.initial-delay-ms=100",
+                "--resume.hedging.min-delay-ms=50",
+                "--resume.generation.mode=async",
+                "--resume.cache.enabled=false",
+                "--resume.duplicates.enabled=false",
+                "--resume.history.enabled=false",
+                "--resume.limiter.requests-per-minute=100000000",
+                "--resume.limiter.tokens-per-minute=100000000000",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.com.example.resume=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.springframework.web.client=WARN");
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+
+        url = "http://127.0.0.1:" + port + "/api/v1/resume/generate";
+        body = new ObjectMapper().writeValueAsBytes(ResumeFixtures.create("typical"));
+        client = HttpClients.createDefault();
+    }
+
+    private static HttpServer stub() throws IOException {
+        HttpServer stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            boolean stall = ThreadLocalRandom.current().nextInt(100) < STALL_PERCENT;
+            try {
+                Thread.sleep(stall ? STALL_MS : LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            try (OutputStream out = exchange.getResponseBody()) {
+                exchange.sendResponseHeaders(200, COMPLETION.length);
+                out.write(COMPLETION);
+            } catch (IOException e) {
+                // Cancelled by the client after a hedge won
+            }
+        });
+        stub.start();
+        return stub;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        context.close();
+        first.stop(0);
+        second.stop(0);
+    }
+
+    @Benchmark
+    public String generate() throws IOException {
+        HttpPost post = new HttpPost(url);
+        post.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+        return client.execute(post, response -> {
+            String text = EntityUtils.toString(response.getEntity());
+            if (response.getCode() != 200) {
+                throw new IllegalStateException("Unexpected status " + response.getCode() + ": " + text);
+            }
+            return text;
+        });
+    }
+}
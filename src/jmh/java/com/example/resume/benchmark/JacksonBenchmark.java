@@ -0,0 +1,53 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.model.Resume;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson binding of the {@link Resume} request body in both directions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    @Param({"small", "typical", "large"})
+    public String size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Resume resume;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        resume = ResumeFixtures.create(size);
+        json = objectMapper.writeValueAsBytes(resume);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(resume);
+    }
+
+    @Benchmark
+    public Resume deserialize() throws IOException {
+        return objectMapper.readValue(json, Resume.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.model.JobPosting;
+import com.example.resume.service.JobMatcher;
+import com.example.resume.service.PostingIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job matching over a {@link PostingFixtures} corpus: the time to index it
+ * from scratch, a bare BM25 search for the ten best postings, and a full
+ * match as served by {@code POST /api/v1/resume/match} (search plus the
+ * matched and missing keywords of each hit).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class JobMatchBenchmark {
+
+    @Param({"100000"})
+    public int postings;
+
+    private List<JobPosting> corpus;
+    private PostingIndex index;
+    private Map<String, Float> query;
+
+    @Setup
+    public void setUp() {
+        corpus = PostingFixtures.corpus(postings, 42);
+        index = PostingIndex.build(corpus);
+        query = JobMatcher.query(PostingFixtures.resume(7));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public PostingIndex build() {
+        return PostingIndex.build(corpus);
+    }
+
+    @Benchmark
+    public List<PostingIndex.Hit> search() {
+        return index.search(query, 10);
+    }
+
+    @Benchmark
+    public void match(Blackhole blackhole) {
+        for (PostingIndex.Hit hit : index.search(query, 10)) {
+            blackhole.consume(index.keywords(hit.doc(), 12));
+        }
+    }
+}
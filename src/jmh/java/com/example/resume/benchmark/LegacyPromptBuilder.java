@@ -0,0 +1,145 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.model.Resume;
+
+/**
+ * Verbatim copy of the StringBuilder prompt code that the template engine
+ * replaced, kept as the benchmark baseline.
+ */
+final class LegacyPromptBuilder {
+
+    private LegacyPromptBuilder() {
+    }
+
+    static String generateResumeFromSummary(Resume resume) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("You are a professional resume writer. Create a detailed, professional resume based on the following summary. ");
+        prompt.append("Extract key information and create appropriate sections. ");
+        prompt.append("Make reasonable assumptions where information is missing.\n\n");
+
+        prompt.append("SUMMARY:\n").append(resume.getSummary()).append("\n\n");
+
+        prompt.append("Please create a professional resume with the following sections:\n");
+        prompt.append("1. Contact Information (at the top)\n");
+        prompt.append("2. Professional Summary\n");
+        prompt.append("3. Skills (as bullet points)\n");
+        prompt.append("4. Work Experience (with dates, company names, and achievements)\n");
+        prompt.append("5. Education\n");
+        prompt.append("6. Achievements and Certifications\n\n");
+        prompt.append("Format the resume professionally with proper spacing, bullet points, and section headers. ");
+        prompt.append("Use action verbs and quantify achievements where possible. ");
+        prompt.append("Make the resume compelling and highlight the most relevant information for the job market.");
+
+        return prompt.toString();
+    }
+
+    static String buildPrompt(Resume resume) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("You are a professional resume writer. Create a detailed, professional resume based on the following information. ");
+        prompt.append("Format the resume with proper sections, bullet points, and professional language. ");
+        prompt.append("Make the resume compelling and highlight achievements and skills.\n\n");
+
+        // Personal Information
+        prompt.append("PERSONAL INFORMATION\n");
+        if (resume.getPersonalInformation() != null) {
+            prompt.append("Name: ").append(resume.getPersonalInformation().getName()).append("\n");
+            prompt.append("Email: ").append(resume.getPersonalInformation().getEmail()).append("\n");
+            if (resume.getPersonalInformation().getPhone() != null) {
+                prompt.append("Phone: ").append(resume.getPersonalInformation().getPhone()).append("\n");
+            }
+            if (resume.getPersonalInformation().getAddress() != null) {
+                prompt.append("Address: ").append(resume.getPersonalInformation().getAddress()).append("\n");
+            }
+            if (resume.getPersonalInformation().getLinkedin() != null) {
+                prompt.append("LinkedIn: ").append(resume.getPersonalInformation().getLinkedin()).append("\n");
+            }
+            if (resume.getPersonalInformation().getGithub() != null) {
+                prompt.append("GitHub: ").append(resume.getPersonalInformation().getGithub()).append("\n");
+            }
+        }
+        prompt.append("\n");
+
+        // Summary
+        if (resume.getSummary() != null && !resume.getSummary().isEmpty()) {
+            prompt.append("SUMMARY\n").append(resume.getSummary()).append("\n\n");
+        } else {
+            prompt.append("SUMMARY\n");
+            prompt.append("Experienced professional with strong skills in various domains. ");
+            prompt.append("Looking for opportunities to contribute and grow in a dynamic environment.\n\n");
+        }
+
+        // Skills
+        if (resume.getSkillsList() != null && !resume.getSkillsList().isEmpty()) {
+            prompt.append("SKILLS\n");
+            resume.getSkillsList().forEach(skill -> prompt.append("- ").append(skill).append("\n"));
+            prompt.append("\n");
+        } else if (resume.getSkills() != null && !resume.getSkills().isEmpty()) {
+            prompt.append("SKILLS\n").append(resume.getSkills()).append("\n\n");
+        } else {
+            prompt.append("SKILLS\n");
+            prompt.append("- Strong communication and interpersonal skills\n");
+            prompt.append("- Problem-solving and analytical abilities\n");
+            prompt.append("- Team collaboration and leadership\n\n");
+        }
+
+        // Experience
+        if (resume.getExperiences() != null && !resume.getExperiences().isEmpty()) {
+            prompt.append("EXPERIENCE\n");
+            resume.getExperiences().forEach(exp -> {
+                prompt.append(exp.getCompany()).append(" - ").append(exp.getPosition()).append("\n");
+                prompt.append(exp.getDuration()).append("\n");
+                if (exp.getResponsibilities() != null) {
+                    exp.getResponsibilities().forEach(resp -> prompt.append("- ").append(resp).append("\n"));
+                }
+                prompt.append("\n");
+            });
+        } else if (resume.getExperience() != null && !resume.getExperience().isEmpty()) {
+            prompt.append("EXPERIENCE\n").append(resume.getExperience()).append("\n\n");
+        } else {
+            prompt.append("EXPERIENCE\n");
+            prompt.append("Professional Experience\n");
+            prompt.append("Various roles demonstrating strong work ethic and ability to adapt to different environments.\n\n");
+        }
+
+        // Education
+        if (resume.getEducations() != null && !resume.getEducations().isEmpty()) {
+            prompt.append("EDUCATION\n");
+            resume.getEducations().forEach(edu -> {
+                prompt.append(edu.getInstitution()).append("\n");
+                prompt.append(edu.getDegree()).append(" in ").append(edu.getField()).append("\n");
+                prompt.append(edu.getDuration()).append("\n\n");
+            });
+        } else if (resume.getEducation() != null && !resume.getEducation().isEmpty()) {
+            prompt.append("EDUCATION\n").append(resume.getEducation()).append("\n\n");
+        } else {
+            prompt.append("EDUCATION\n");
+            prompt.append("Relevant educational background with focus on professional development.\n\n");
+        }
+
+        // Achievements
+        if (resume.getAchievementsList() != null && !resume.getAchievementsList().isEmpty()) {
+            prompt.append("ACHIEVEMENTS\n");
+            resume.getAchievementsList().forEach(achievement -> prompt.append("- ").append(achievement).append("\n"));
+            prompt.append("\n");
+        } else if (resume.getAchievements() != null && !resume.getAchievements().isEmpty()) {
+            prompt.append("ACHIEVEMENTS\n").append(resume.getAchievements()).append("\n\n");
+        } else {
+            prompt.append("ACHIEVEMENTS\n");
+            prompt.append("- Consistently recognized for outstanding performance\n");
+            prompt.append("- Successfully completed multiple challenging projects\n\n");
+        }
+
+        prompt.append("Please create a professional resume with the following sections:\n");
+        prompt.append("1. Contact Information (at the top)\n");
+        prompt.append("2. Professional Summary\n");
+        prompt.append("3. Skills (as bullet points)\n");
+        prompt.append("4. Work Experience (with dates, company names, and achievements)\n");
+        prompt.append("5. Education\n");
+        prompt.append("6. Achievements and Certifications\n\n");
+        prompt.append("Format the resume professionally with proper spacing, bullet points, and section headers. ");
+        prompt.append("Use action verbs and quantify achievements where possible. ");
+        prompt.append("Make the resume compelling and highlight the most relevant information for the job market.");
+
+        return prompt.toString();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.resume.benchmark;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.example.resume.logging.DroppingAsyncAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What logging costs the request thread per {@code /generate} call: the
+ * log statements one summary generation makes, from the application and
+ * from Spring MVC and RestTemplate, issued through each of the setups of
+ * {@link LoggingBenchmark}, loaded from the real configuration files.
+ * Statements below the configured level are part of the cost too, as the
+ * level check they stop at. Run with {@code -prof gc} for the allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogPipelineBenchmark {
+
+    private static final Logger controller = LoggerFactory.getLogger("com.example.resume.controller.ResumeController");
+    private static final Logger service = LoggerFactory.getLogger("com.example.resume.service.ResumeService");
+    private static final Logger client = LoggerFactory.getLogger("com.example.resume.service.CompletionClient");
+    private static final Logger extractor = LoggerFactory.getLogger("com.example.resume.service.SummaryExtractor");
+    private static final Logger restTemplate = LoggerFactory.getLogger("org.springframework.web.client.RestTemplate");
+    private static final Logger dispatcher = LoggerFactory.getLogger("org.springframework.web.servlet.DispatcherServlet");
+    private static final Logger processor =
+        LoggerFactory.getLogger("org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor");
+
+    @Param({"legacy", "development", "production"})
+    public String logging;
+
+    /**
+     * CPU burnt per request besides logging, in {@link Blackhole#consumeCPU}
+     * tokens. At 0 requests log flat out, faster than the async appender's
+     * one thread can write, and it drops most events; with work between
+     * requests, as a real request has, it keeps up.
+     */
+    @Param({"0", "100000"})
+    public long work;
+
+    private ConfigurableApplicationContext context;
+    private PrintStream stdout;
+    private File logFile;
+    private String requestBody;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = File.createTempFile("resume-bench-", ".log");
+        stdout = System.out;
+        System.setOut(new PrintStream(new FileOutputStream(logFile), false, StandardCharsets.UTF_8));
+
+        List<String> args = new ArrayList<>();
+        if (logging.equals("legacy")) {
+            args.add("--logging.config=");
+            args.add("--logging.level.com.example.resume=DEBUG");
+            args.add("--logging.level.org.springframework.web=DEBUG");
+            args.add("--logging.level.org.springframework.web.client=DEBUG");
+        } else {
+            args.add("--resume.logging.mode=" + logging);
+        }
+        // Nothing but the logging system: no web server and no application beans
+        context = new SpringApplicationBuilder(LoggingOnly.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+
+        url = "https://api.openai.com/v1/chat/completions";
+        requestBody = "{max_tokens=1024, temperature=0.7, messages=[{role=user, content=You are a professional "
+            + "resume writer. Create a detailed, professional resume based on the following summary.\n\nSUMMARY:\n"
+            + ResumeFixtures.summary("typical") + "\n\nPlease create a professional resume with the following "
+            + "sections: Contact Information, Professional Summary, Skills, Work Experience, Education.}], "
+            + "model=gpt-3.5-turbo}";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        long dropped = 0;
+        Appender<ILoggingEvent> appender =
+            ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(Logger.ROOT_LOGGER_NAME).getAppender("ASYNC");
+        if (appender instanceof DroppingAsyncAppender async) {
+            dropped = async.getDroppedCount();
+        }
+        context.close();
+        System.out.close();
+        System.setOut(stdout);
+        // Logging flat out, faster than one thread can write, the async appender drops events by design
+        System.out.printf("%n%s logging wrote %d KB, dropped %d events%n", logging, logFile.length() / 1024, dropped);
+        logFile.delete();
+    }
+
+    @Benchmark
+    public void request() {
+        logRequest();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void requestConcurrently() {
+        logRequest();
+    }
+
+    private void logRequest() {
+        Blackhole.consumeCPU(work);
+        logStatements();
+    }
+
+    private void logStatements() {
+        dispatcher.debug("POST \"/api/v1/resume/generate\", parameters={}", "{}");
+        controller.info("Received resume generation request");
+        controller.info("Generating resume from summary");
+        extractor.debug("Extracted summary fields: name={}, email={}, phone={}, skills={}", true, true, false, 12);
+        service.info("Generating resume from summary");
+        client.info("Sending request to {} at: {}", "openai", url);
+        restTemplate.debug("HTTP POST {}", url);
+        restTemplate.debug("Accept=[application/json, application/*+json]");
+        restTemplate.debug("Writing [{}] as \"application/json\"", requestBody);
+        restTemplate.debug("Response 200 OK");
+        restTemplate.debug("Reading to [com.example.resume.model.GeneratedResume]");
+        client.info("Successfully generated resume");
+        processor.debug("Using 'application/json', given [*/*] and supported [application/json, application/*+json]");
+        processor.debug("Writing [GeneratedResume(id=null, model=gpt-3.5-turbo, finishReason=stop, usage=Usage(promptTokens=500, "
+            + "completionTokens=700))]");
+        dispatcher.debug("Completed 200 OK");
+    }
+
+    static class LoggingOnly {
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The generate endpoint round trip of {@link GenerateEndpointBenchmark}
+ * under each logging setup, with stdout sent to a file as a log collector
+ * would read it:
+ * <ul>
+ * <li>{@code legacy}: Spring Boot's default logback setup with the
+ * application and Spring MVC at DEBUG, as configured before the logging
+ * modes existed</li>
+ * <li>{@code development}: the console pattern at INFO, redacted, written
+ * on the request thread</li>
+ * <li>{@code production}: redacted JSON at INFO through the async appender</li>
+ * </ul>
+ * Run with {@code -prof gc} for the allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 4)
+// The JDK stub server writes headers and body separately; without TCP_NODELAY it can stall on delayed ACKs
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class LoggingBenchmark {
+
+    private static final byte[] COMPLETION = ("{\"id\":\"bench\",\"choices\":[{\"index\":0,\"message\":"
+        + "{\"role\":\"assistant\",\"content\":\"JANE DOE\\nSenior Software Engineer\\n...\"},"
+        + "\"finish_reason\":\"stop\"}],\"usage\":{\"prompt_tokens\":500,\"completion_tokens\":700}}")
+        .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"legacy", "development", "production"})
+    public String logging;
+
+    private HttpServer stub;
+    private ConfigurableApplicationContext context;
+    private CloseableHttpClient client;
+    private String url;
+    private byte[] body;
+    private PrintStream stdout;
+    private File logFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, COMPLETION.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(COMPLETION);
+            }
+        });
+        stub.start();
+
+        logFile = File.createTempFile("resume-bench-", ".log");
+        stdout = System.out;
+        System.setOut(new PrintStream(new FileOutputStream(logFile), false, StandardCharsets.UTF_8));
+
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--openai.api.key=sk-bench",
+            "--openai.api.url=http://127.0.0.1:" + stub.getAddress().getPort() + "/v1",
+            "--resume.cache.enabled=false",
+            "--resume.duplicates.enabled=false",
+            "--resume.history.enabled=false",
+            "--resume.limiter.requests-per-minute=100000000",
+            "--resume.limiter.tokens-per-minute=100000000000"));
+        if (logging.equals("legacy")) {
+            // No logging.config: Spring Boot configures logback itself, as it did before logging/*.xml
+            args.add("--logging.config=");
+            args.add("--logging.level.com.example.resume=DEBUG");
+            args.add("--logging.level.org.springframework.web=DEBUG");
+            args.add("--logging.level.org.springframework.web.client=DEBUG");
+        } else {
+            args.add("--resume.logging.mode=" + logging);
+        }
+        context = new SpringApplicationBuilder(ResumeApplication.class).run(args.toArray(String[]::new));
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+
+        url = "http://127.0.0.1:" + port + "/api/v1/resume/generate";
+        body = new ObjectMapper().writeValueAsBytes(ResumeFixtures.create("typical"));
+        // Enough connections for generateConcurrently's threads
+        client = HttpClients.custom()
+            .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(16)
+                .setMaxConnTotal(16)
+                .build())
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        context.close();
+        stub.stop(0);
+        System.out.close();
+        System.setOut(stdout);
+        System.out.printf("%n%s logging wrote %d KB%n", logging, logFile.length() / 1024);
+        logFile.delete();
+    }
+
+    @Benchmark
+    public String generate() throws IOException {
+        return post();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateConcurrently() throws IOException {
+        return post();
+    }
+
+    private String post() throws IOException {
+        HttpPost post = new HttpPost(url);
+        post.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+        return client.execute(post, response -> {
+            String text = EntityUtils.toString(response.getEntity());
+            if (response.getCode() != 200) {
+                throw new IllegalStateException("Unexpected status " + response.getCode() + ": " + text);
+            }
+            return text;
+        });
+    }
+}
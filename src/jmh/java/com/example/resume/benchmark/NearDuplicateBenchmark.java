@@ -0,0 +1,83 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.model.Resume;
+import com.example.resume.service.NearDuplicateIndex;
+import com.example.resume.service.ResumeFingerprint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Near-duplicate reuse: fingerprinting a {@code typical} resume, the exact
+ * similarity check of a candidate, and an index lookup among {@code entries}
+ * stored fingerprints for an input with one edited responsibility. The
+ * filler entries are random band hashes, i.e. unrelated inputs; setup
+ * prints the index's memory per entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class NearDuplicateBenchmark {
+
+    @Param({"1000000"})
+    public int entries;
+
+    private Resume resume;
+    private ResumeFingerprint stored;
+    private ResumeFingerprint edited;
+    private NearDuplicateIndex index;
+
+    @Setup
+    public void setUp() {
+        resume = ResumeFixtures.create("typical");
+        stored = ResumeFingerprint.of(resume);
+        Resume changed = ResumeFixtures.create("typical");
+        List<String> responsibilities = changed.getExperiences().get(0).getResponsibilities();
+        responsibilities.set(0, responsibilities.get(0) + " and on-call rotations");
+        edited = ResumeFingerprint.of(changed);
+
+        index = new NearDuplicateIndex(entries + 1);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] bands = new int[ResumeFingerprint.BANDS];
+        for (int i = 0; i < entries; i++) {
+            for (int band = 0; band < bands.length; band++) {
+                bands[band] = random.nextInt();
+            }
+            index.add(new UUID(random.nextLong(), random.nextLong()).toString(), bands);
+        }
+        index.add(UUID.randomUUID().toString(), stored);
+        System.out.printf("%n%d entries, %.1f bytes per entry, similarity %.3f%n", index.size(),
+            (double) index.memoryBytes() / index.size(), stored.similarity(edited));
+    }
+
+    @Benchmark
+    public ResumeFingerprint fingerprint() {
+        return ResumeFingerprint.of(resume);
+    }
+
+    @Benchmark
+    public double similarity() {
+        return stored.similarity(edited);
+    }
+
+    @Benchmark
+    public List<String> lookup() {
+        return index.candidates(edited, 3);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.model.JobPosting;
+import com.example.resume.model.Resume;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A synthetic job-posting corpus for the matching benchmarks. Postings draw
+ * from a vocabulary of real job-ad words and technology names plus a long
+ * tail of generated ones, skewed so a few terms are in most postings and
+ * most terms in few, like real ads. Deterministic for a given seed.
+ */
+final class PostingFixtures {
+
+    private static final String[] WORDS = {
+        "build", "design", "designed", "operate", "operated", "scale", "scalable", "reliable", "service", "services",
+        "platform", "infrastructure", "traffic", "requests", "customers", "product", "engineers", "engineering",
+        "collaborate", "cross-functional", "deliver", "own", "ownership", "mentor", "review", "code", "quality",
+        "testing", "production", "on-call", "rotation", "incident", "performance", "latency", "cost", "data",
+        "pipelines", "analytics", "dashboards", "stakeholders", "roadmap", "features", "users", "mobile", "web",
+        "backend", "frontend", "cloud", "security", "compliance", "automation", "deployment", "monitoring",
+        "observability", "architecture", "distributed", "systems", "apis", "integrations", "payments", "billing",
+        "growth", "startup", "remote", "hybrid", "office", "benefits", "equity", "salary", "fast-paced", "impact"};
+
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "Kotlin", "Go", "Python", "Django", "Flask", "Ruby on Rails", "Node.js", "TypeScript",
+        "JavaScript", "React", "Vue", "Angular", "C#", ".NET", "C++", "Rust", "Scala", "Swift", "SQL", "PostgreSQL",
+        "MySQL", "MongoDB", "Redis", "Cassandra", "Elasticsearch", "Kafka", "RabbitMQ", "Apache Spark", "Airflow",
+        "Snowflake", "dbt", "AWS", "Azure", "Google Cloud", "Kubernetes", "Docker", "Terraform", "Helm", "CI/CD",
+        "GitHub Actions", "Jenkins", "Prometheus", "Grafana", "gRPC", "GraphQL", "REST APIs", "Microservices",
+        "Machine Learning", "PyTorch", "TensorFlow", "pandas", "Tableau", "Figma", "Agile", "Scrum", "Linux"};
+
+    private static final String[] SYLLABLES = {
+        "ka", "lo", "mi", "ne", "ra", "to", "vi", "su", "de", "pa", "ri", "go", "ba", "sho", "ten", "dar", "vel", "qu"};
+
+    private PostingFixtures() {
+    }
+
+    static List<JobPosting> corpus(int size, long seed) {
+        Random random = new Random(seed);
+        String[] prose = vocabulary(WORDS, 4000, random);
+        String[] skills = vocabulary(SKILLS, 1500, random);
+        List<JobPosting> postings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            List<String> listed = new ArrayList<>();
+            for (int s = 5 + random.nextInt(6); s > 0; s--) {
+                listed.add(pick(skills, random));
+            }
+            StringBuilder description = new StringBuilder(800);
+            for (int w = 60 + random.nextInt(60); w > 0; w--) {
+                description.append(random.nextInt(8) == 0 ? pick(skills, random) : pick(prose, random));
+                description.append(random.nextInt(12) == 0 ? ". " : " ");
+            }
+            postings.add(new JobPosting("posting-" + i, pick(prose, random) + " " + pick(skills, random) + " Engineer",
+                "Company " + random.nextInt(size / 10 + 1), description.toString(), listed));
+        }
+        return postings;
+    }
+
+    /**
+     * The typical {@link ResumeFixtures} resume with skills from the corpus vocabulary.
+     */
+    static Resume resume(long seed) {
+        Random random = new Random(seed);
+        Resume resume = ResumeFixtures.create("typical");
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            skills.add(pick(SKILLS, random));
+        }
+        resume.setSkillsList(skills);
+        return resume;
+    }
+
+    private static String[] vocabulary(String[] common, int generated, Random random) {
+        String[] words = new String[common.length + generated];
+        System.arraycopy(common, 0, words, 0, common.length);
+        for (int i = common.length; i < words.length; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int s = 2 + random.nextInt(3); s > 0; s--) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            words[i] = word.toString();
+        }
+        return words;
+    }
+
+    // Skewed towards the start of the array, where the real words are
+    private static String pick(String[] words, Random random) {
+        return words[(int) (Math.pow(random.nextDouble(), 3) * words.length)];
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.Resume;
+import com.example.resume.service.ResumeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prompt assembly in {@link ResumeService}. Without an API key the service
+ * returns the prompt it built, so this measures validation and prompt
+ * building with no I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptBenchmark {
+
+    @Param({"small", "typical", "large"})
+    public String size;
+
+    private ConfigurableApplicationContext context;
+    private ResumeService resumeService;
+    private Resume resume;
+    private Resume summaryResume;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ResumeApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--openai.api.key=",
+                "--resume.history.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.com.example.resume=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.springframework.web.client=WARN");
+        resumeService = context.getBean(ResumeService.class);
+        resume = ResumeFixtures.create(size);
+        summaryResume = new Resume();
+        summaryResume.setSummary(ResumeFixtures.summary(size));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String structuredPrompt() {
+        return resumeService.generateResume(resume).getContent();
+    }
+
+    @Benchmark
+    public String summaryPrompt() {
+        return resumeService.generateResume(summaryResume).getContent();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.model.Resume;
+import com.example.resume.service.PromptTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiled {@code standard} templates against the StringBuilder code they
+ * replaced. Setup checks both produce identical prompts, which also keeps
+ * completion cache keys stable. Run with {@code -prof gc} to compare
+ * allocation per prompt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptTemplateBenchmark {
+
+    @Param({"small", "typical", "large"})
+    public String size;
+
+    private PromptTemplate structured;
+    private PromptTemplate summary;
+    private Resume resume;
+    private Resume summaryResume;
+
+    @Setup
+    public void setUp() throws IOException {
+        structured = load("standard.structured.v1.tmpl", PromptTemplate.Kind.STRUCTURED);
+        summary = load("standard.summary.v1.tmpl", PromptTemplate.Kind.SUMMARY);
+        resume = ResumeFixtures.create(size);
+        summaryResume = new Resume();
+        summaryResume.setSummary(ResumeFixtures.summary(size));
+
+        if (!structured.render(resume).equals(LegacyPromptBuilder.buildPrompt(resume))
+            || !summary.render(summaryResume).equals(LegacyPromptBuilder.generateResumeFromSummary(summaryResume))) {
+            throw new IllegalStateException("Template output differs from the legacy prompt builder");
+        }
+    }
+
+    @Benchmark
+    public String legacyStructured() {
+        return LegacyPromptBuilder.buildPrompt(resume);
+    }
+
+    @Benchmark
+    public String templateStructured() {
+        return structured.render(resume);
+    }
+
+    @Benchmark
+    public String legacySummary() {
+        return LegacyPromptBuilder.generateResumeFromSummary(summaryResume);
+    }
+
+    @Benchmark
+    public String templateSummary() {
+        return summary.render(summaryResume);
+    }
+
+    private static PromptTemplate load(String file, PromptTemplate.Kind kind) throws IOException {
+        try (InputStream in = PromptTemplateBenchmark.class.getResourceAsStream("/prompts/" + file)) {
+            String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return PromptTemplate.compile("standard", 1, kind, source.substring(0, source.length() - 1));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.model.Resume;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resume payloads for benchmarks. {@code small} is contact details and a few
+ * skills, {@code typical} a mid-career resume, and {@code large} a
+ * pathological one of a few hundred KB of JSON.
+ */
+final class ResumeFixtures {
+
+    private ResumeFixtures() {
+    }
+
+    static Resume create(String size) {
+        switch (size) {
+            case "small":
+                return build(0, 0, 0, 3, 0);
+            case "typical":
+                return build(3, 4, 2, 12, 4);
+            case "large":
+                return build(40, 25, 6, 150, 60);
+            default:
+                throw new IllegalArgumentException("Unknown payload size: " + size);
+        }
+    }
+
+    /**
+     * A free-text summary of comparable size for the summary-only path.
+     */
+    static String summary(String size) {
+        String sentence = "I'm Jane Doe, a backend engineer with 12 years of experience in payments "
+            + "and data platforms; reach me at jane.doe@example.com. ";
+        int repeats = "small".equals(size) ? 1 : "typical".equals(size) ? 10 : 1500;
+        StringBuilder summary = new StringBuilder(sentence.length() * repeats);
+        for (int i = 0; i < repeats; i++) {
+            summary.append(sentence);
+        }
+        return summary.toString();
+    }
+
+    private static Resume build(int jobs, int responsibilitiesPerJob, int schools, int skills, int achievements) {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setName("Jane Doe");
+        info.setEmail("jane.doe@example.com");
+        info.setPhone("+1 415 555 0134");
+        info.setAddress("San Francisco, CA");
+        info.setLinkedin("https://linkedin.com/in/janedoe");
+        info.setGithub("https://github.com/janedoe");
+
+        Resume resume = new Resume();
+        resume.setPersonalInformation(info);
+
+        List<Resume.Experience> experiences = new ArrayList<>();
+        for (int i = 0; i < jobs; i++) {
+            Resume.Experience experience = new Resume.Experience();
+            experience.setCompany("Company " + i);
+            experience.setPosition("Senior Software Engineer");
+            experience.setDuration((2000 + i) + " - " + (2001 + i));
+            List<String> responsibilities = new ArrayList<>();
+            for (int j = 0; j < responsibilitiesPerJob; j++) {
+                responsibilities.add("Designed and operated service " + j
+                    + " handling peak traffic of several thousand requests per second with a small on-call rotation");
+            }
+            experience.setResponsibilities(responsibilities);
+            experiences.add(experience);
+        }
+        resume.setExperiences(experiences);
+
+        List<Resume.Education> educations = new ArrayList<>();
+        for (int i = 0; i < schools; i++) {
+            Resume.Education education = new Resume.Education();
+            education.setInstitution("University " + i);
+            education.setDegree("B.Sc.");
+            education.setField("Computer Science");
+            education.setDuration("1996 - 2000");
+            educations.add(education);
+        }
+        resume.setEducations(educations);
+
+        List<String> skillsList = new ArrayList<>();
+        for (int i = 0; i < skills; i++) {
+            skillsList.add("Skill " + i);
+        }
+        resume.setSkillsList(skillsList);
+
+        List<String> achievementsList = new ArrayList<>();
+        for (int i = 0; i < achievements; i++) {
+            achievementsList.add("Award " + i + " for reducing infrastructure cost across the platform");
+        }
+        resume.setAchievementsList(achievementsList);
+        return resume;
+    }
+}
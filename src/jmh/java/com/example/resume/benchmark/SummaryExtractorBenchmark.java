@@ -0,0 +1,94 @@
+package com.example.resume.benchmark;
+
+import com.example.resume.model.Resume;
+import com.example.resume.model.SummaryProfile;
+import com.example.resume.service.SummaryExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link SummaryExtractor} with the per-call {@code Pattern.compile}
+ * name/email extraction it replaced. The legacy variant only finds two
+ * fields and stops at the first hit, so {@code large} (contact details up
+ * front) flatters it; {@code large-tail} puts them after 50 KB of prose.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SummaryExtractorBenchmark {
+
+    private static final String BASE = "I'm Jane Doe, a backend engineer with 8+ years of experience "
+        + "building payment systems. Reach me at jane.doe@example.com or +1 (415) 555-0134, "
+        + "linkedin.com/in/janedoe and https://github.com/janedoe. "
+        + "Skills: Java, Spring Boot, Kafka, PostgreSQL and Kubernetes. ";
+
+    private static final String FILLER = "Led the migration of a monolith to services between 2019 - 2021, "
+        + "cutting p99 latency by 40% and mentoring four engineers along the way. ";
+
+    @Param({"small", "large", "large-tail"})
+    public String size;
+
+    private String summary;
+    private final SummaryExtractor extractor = new SummaryExtractor();
+
+    @Setup
+    public void setUp() {
+        if ("small".equals(size)) {
+            summary = BASE;
+            return;
+        }
+        StringBuilder text = new StringBuilder(50 * 1024 + BASE.length() + FILLER.length());
+        while (text.length() < 50 * 1024) {
+            text.append(FILLER);
+        }
+        summary = "large".equals(size) ? BASE + text : text + BASE;
+    }
+
+    @Benchmark
+    public Resume.PersonalInformation legacy() {
+        return legacyExtractPersonalInfo(summary);
+    }
+
+    @Benchmark
+    public SummaryProfile extractor() {
+        return extractor.extract(summary);
+    }
+
+    // Copy of the former ResumeService.extractPersonalInfo, minus logging
+    private static Resume.PersonalInformation legacyExtractPersonalInfo(String summary) {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        Pattern namePattern = Pattern.compile("I'm ([A-Za-z ]+)|My name is ([A-Za-z ]+)|I am ([A-Za-z ]+)");
+        Matcher nameMatcher = namePattern.matcher(summary);
+        if (nameMatcher.find()) {
+            String name = nameMatcher.group(1) != null ? nameMatcher.group(1)
+                : (nameMatcher.group(2) != null ? nameMatcher.group(2) : nameMatcher.group(3));
+            info.setName(name.trim());
+        } else {
+            info.setName("Professional Candidate");
+        }
+        Pattern emailPattern = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}");
+        Matcher emailMatcher = emailPattern.matcher(summary);
+        if (emailMatcher.find()) {
+            info.setEmail(emailMatcher.group());
+        } else {
+            info.setEmail("candidate@example.com");
+        }
+        return info;
+    }
+}
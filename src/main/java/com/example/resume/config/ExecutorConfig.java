@@ -0,0 +1,76 @@
+package com.example.resume.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Dedicated, bounded executors for work that must not run on (or pile up
+ * behind) Tomcat request threads.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${resume.stream.max-concurrent:50}")
+    private int streamMaxConcurrent;
+
+    @Value("${resume.stream.queue-capacity:100}")
+    private int streamQueueCapacity;
+
+    @Value("${resume.batch.max-concurrent-batches:4}")
+    private int maxConcurrentBatches;
+
+    // 0 means one thread per available core
+    @Value("${resume.render.threads:0}")
+    private int renderThreads;
+
+    @Value("${resume.render.queue-capacity:32}")
+    private int renderQueueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor streamingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamMaxConcurrent);
+        executor.setMaxPoolSize(streamMaxConcurrent);
+        executor.setQueueCapacity(streamQueueCapacity);
+        executor.setThreadNamePrefix("resume-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Runs one dispatcher per batch request. Dispatchers only wait on the
+     * batch's concurrency permits; the generations themselves run on the
+     * async upstream client.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor batchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentBatches);
+        executor.setMaxPoolSize(maxConcurrentBatches);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("resume-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Lays out PDF and DOCX documents. Rendering is CPU bound, so the pool is
+     * sized to the cores and a full queue rejects new renders instead of
+     * letting them pile up. Also serves as Spring MVC's async executor (see
+     * {@link WebAsyncConfig}), which runs the streaming bodies that write
+     * each document straight to its response.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor renderExecutor() {
+        int threads = renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(renderQueueCapacity);
+        executor.setThreadNamePrefix("resume-render-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
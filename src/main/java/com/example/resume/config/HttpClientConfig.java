@@ -0,0 +1,165 @@
+package com.example.resume.config;
+
+import com.example.resume.service.GenerationMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Pooled HTTP client used for all calls to the completion API.
+ * Connections are kept alive and reused across requests, and every phase
+ * of a call (pool lease, connect, read) is bounded so a stalled upstream
+ * cannot hold a request thread indefinitely.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${http.client.max-connections-total:100}")
+    private int maxConnectionsTotal;
+
+    @Value("${http.client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${http.client.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${http.client.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+
+    @Value("${http.client.response-timeout-ms:60000}")
+    private long responseTimeoutMs;
+
+    @Value("${http.client.pool-acquire-timeout-ms:1000}")
+    private long poolAcquireTimeoutMs;
+
+    @Value("${http.client.idle-eviction-ms:30000}")
+    private long idleEvictionMs;
+
+    @Value("${http.client.connection-ttl-ms:300000}")
+    private long connectionTtlMs;
+
+    @Value("${http.client.async.max-connections-total:1000}")
+    private int asyncMaxConnectionsTotal;
+
+    @Value("${http.client.async.max-connections-per-route:500}")
+    private int asyncMaxConnectionsPerRoute;
+
+    @Value("${http.client.async.io-threads:2}")
+    private int asyncIoThreads;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager upstreamConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnectionsTotal)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofMilliseconds(connectionTtlMs))
+                .build())
+            .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(PoolingHttpClientConnectionManager upstreamConnectionManager,
+                                                  GenerationMetrics generationMetrics, MeterRegistry meterRegistry) {
+        registerPoolGauges(meterRegistry, "sync", upstreamConnectionManager);
+        return HttpClients.custom()
+            .setConnectionManager(upstreamConnectionManager)
+            .addExecInterceptorBefore(ChainElement.CONNECT.name(), UpstreamTimingHandlers.CONNECT_TIMER,
+                UpstreamTimingHandlers.classicConnect())
+            .addExecInterceptorBefore(ChainElement.MAIN_TRANSPORT.name(), UpstreamTimingHandlers.TRANSPORT_TIMER,
+                UpstreamTimingHandlers.classicTransport(generationMetrics))
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictionMs))
+            // Retries are owned by UpstreamLimiter so they respect its budgets
+            .disableAutomaticRetries()
+            .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient upstreamHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(upstreamHttpClient));
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #upstreamHttpClient}: requests are
+     * multiplexed over a couple of I/O reactor threads, so the number of
+     * in-flight upstream calls is bounded by the pool, not by thread count.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient upstreamAsyncClient(GenerationMetrics generationMetrics, MeterRegistry meterRegistry) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(asyncMaxConnectionsTotal)
+            .setMaxConnPerRoute(asyncMaxConnectionsPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofMilliseconds(connectionTtlMs))
+                .build())
+            .build();
+        registerPoolGauges(meterRegistry, "async", connectionManager);
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+            .setConnectionManager(connectionManager)
+            .addExecInterceptorBefore(ChainElement.CONNECT.name(), UpstreamTimingHandlers.CONNECT_TIMER,
+                UpstreamTimingHandlers.asyncConnect())
+            .addExecInterceptorBefore(ChainElement.MAIN_TRANSPORT.name(), UpstreamTimingHandlers.TRANSPORT_TIMER,
+                UpstreamTimingHandlers.asyncTransport(generationMetrics))
+            .setIOReactorConfig(IOReactorConfig.custom()
+                .setIoThreadCount(asyncIoThreads)
+                .build())
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictionMs))
+            // Retries are owned by UpstreamLimiter so they respect its budgets
+            .disableAutomaticRetries()
+            .build();
+        client.start();
+        return client;
+    }
+
+    /**
+     * Connections currently leased (requests in flight on the wire), waiting
+     * for a lease, and idle in the pool, as {@code resume.upstream.connections}.
+     */
+    private static void registerPoolGauges(MeterRegistry meterRegistry, String client, ConnPoolControl<?> pool) {
+        Gauge.builder("resume.upstream.connections", pool, p -> p.getTotalStats().getLeased())
+            .description("Upstream HTTP connections by pool state")
+            .tags("client", client, "state", "leased")
+            .register(meterRegistry);
+        Gauge.builder("resume.upstream.connections", pool, p -> p.getTotalStats().getPending())
+            .description("Upstream HTTP connections by pool state")
+            .tags("client", client, "state", "pending")
+            .register(meterRegistry);
+        Gauge.builder("resume.upstream.connections", pool, p -> p.getTotalStats().getAvailable())
+            .description("Upstream HTTP connections by pool state")
+            .tags("client", client, "state", "available")
+            .register(meterRegistry);
+    }
+}
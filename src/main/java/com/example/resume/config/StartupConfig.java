@@ -0,0 +1,65 @@
+package com.example.resume.config;
+
+import com.example.resume.logging.LoggingMetrics;
+import com.example.resume.model.BatchItemResult;
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.GenerationJob;
+import com.example.resume.model.HistoryEntry;
+import com.example.resume.model.JobPosting;
+import com.example.resume.model.PostingMatch;
+import com.example.resume.model.Resume;
+import com.example.resume.model.SummaryProfile;
+import com.example.resume.service.HistoryStore;
+import com.example.resume.service.JobMatcher;
+import com.example.resume.service.NearDuplicateDetector;
+import com.example.resume.service.PromptTemplateRegistry;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Settings for the fast-start build (see the {@code fast-start} and
+ * {@code native} Maven profiles).
+ */
+@Configuration
+@ImportRuntimeHints(StartupConfig.ResumeRuntimeHints.class)
+public class StartupConfig {
+
+    /**
+     * Beans created at startup even with {@code spring.main.lazy-initialization}:
+     * the history store recovers its log and starts its writer before any
+     * request is served, a broken prompt template fails the start rather
+     * than the first generation, and the posting and near-duplicate indexes
+     * are built before the first match or generation has to wait for them
+     * (and their gauges are exported from the start). Logging metrics are
+     * never injected anywhere, so lazily they would never be registered.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(HistoryStore.class, PromptTemplateRegistry.class,
+            JobMatcher.class, NearDuplicateDetector.class, LoggingMetrics.class);
+    }
+
+    /**
+     * What a native image needs beyond the hints Spring derives itself: the
+     * models Jackson reads and writes outside controller signatures (history
+     * log lines, job postings, job and batch results) and the classpath
+     * resources loaded at startup.
+     */
+    static class ResumeRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                Resume.class, HistoryEntry.class, GeneratedResume.class, JobPosting.class, PostingMatch.class,
+                SummaryProfile.class, GenerationJob.class, BatchItemResult.class);
+            hints.resources()
+                .registerPattern("prompts/*.tmpl")
+                .registerPattern("postings/*.jsonl");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.resume.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Logs how long the application took to become ready and its resident set
+ * size at that point, with the startup optimizations in effect, so the
+ * plain jar and the fast-start build can be compared. With
+ * {@code resume.startup.exit=true} the application exits once ready: the
+ * fast-start build uses that for its class-data-sharing training run and to
+ * measure each mode.
+ */
+@Component
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+
+    @Value("${resume.startup.exit:false}")
+    private boolean exitWhenReady;
+
+    @Value("${spring.main.lazy-initialization:false}")
+    private boolean lazyInitialization;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        List<String> jvmArguments = ManagementFactory.getRuntimeMXBean().getInputArguments();
+        boolean cds = jvmArguments.stream().anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile"));
+        long rssKb = residentSetKb();
+        logger.info("Startup report: ready in {} ms, JVM up {} ms, RSS {}, aot={}, cds={}, lazy={}",
+            event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis(),
+            ManagementFactory.getRuntimeMXBean().getUptime(),
+            rssKb < 0 ? "n/a" : rssKb / 1024 + " MB",
+            AotDetector.useGeneratedArtifacts(), cds, lazyInitialization);
+        if (exitWhenReady) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    // Linux only; -1 elsewhere
+    private static long residentSetKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring(6).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Resident set size unavailable: {}", e.getMessage());
+        }
+        return -1;
+    }
+}
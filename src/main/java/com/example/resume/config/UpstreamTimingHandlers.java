@@ -0,0 +1,93 @@
+package com.example.resume.config;
+
+import com.example.resume.service.GenerationMetrics;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import java.io.IOException;
+
+/**
+ * Exec chain handlers that split an upstream call into its connect and
+ * time-to-first-byte phases. One is installed before the client's CONNECT
+ * element and stamps the start time; the other sits before MAIN_TRANSPORT,
+ * so the gap between them is the pool lease plus any new TCP/TLS handshake,
+ * and the time until response headers arrive is the provider's TTFB.
+ */
+final class UpstreamTimingHandlers {
+
+    static final String CONNECT_TIMER = "resume-connect-timer";
+    static final String TRANSPORT_TIMER = "resume-transport-timer";
+
+    private static final String CONNECT_START = "resume.upstream.connect-start";
+
+    private UpstreamTimingHandlers() {
+    }
+
+    static ExecChainHandler classicConnect() {
+        return (request, scope, chain) -> {
+            scope.clientContext.setAttribute(CONNECT_START, System.nanoTime());
+            return chain.proceed(request, scope);
+        };
+    }
+
+    static ExecChainHandler classicTransport(GenerationMetrics metrics) {
+        return (request, scope, chain) -> {
+            long sent = recordConnect(metrics, scope.clientContext);
+            ClassicHttpResponse response = chain.proceed(request, scope);
+            metrics.record(GenerationMetrics.Stage.UPSTREAM_TTFB, System.nanoTime() - sent);
+            return response;
+        };
+    }
+
+    static AsyncExecChainHandler asyncConnect() {
+        return (request, entityProducer, scope, chain, callback) -> {
+            scope.clientContext.setAttribute(CONNECT_START, System.nanoTime());
+            chain.proceed(request, entityProducer, scope, callback);
+        };
+    }
+
+    static AsyncExecChainHandler asyncTransport(GenerationMetrics metrics) {
+        return (request, entityProducer, scope, chain, callback) -> {
+            long sent = recordConnect(metrics, scope.clientContext);
+            chain.proceed(request, entityProducer, scope, new AsyncExecCallback() {
+                @Override
+                public AsyncDataConsumer handleResponse(HttpResponse response, EntityDetails entityDetails)
+                    throws HttpException, IOException {
+                    metrics.record(GenerationMetrics.Stage.UPSTREAM_TTFB, System.nanoTime() - sent);
+                    return callback.handleResponse(response, entityDetails);
+                }
+
+                @Override
+                public void handleInformationResponse(HttpResponse response)
+                    throws HttpException, IOException {
+                    callback.handleInformationResponse(response);
+                }
+
+                @Override
+                public void completed() {
+                    callback.completed();
+                }
+
+                @Override
+                public void failed(Exception cause) {
+                    callback.failed(cause);
+                }
+            });
+        };
+    }
+
+    private static long recordConnect(GenerationMetrics metrics, HttpContext context) {
+        long now = System.nanoTime();
+        if (context.getAttribute(CONNECT_START) instanceof Long start) {
+            metrics.record(GenerationMetrics.Stage.UPSTREAM_CONNECT, now - start);
+        }
+        return now;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.resume.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Runs Spring MVC's executor-backed async work, i.e. {@code StreamingResponseBody}
+ * responses, on the bounded render pool. Rendered documents are the only
+ * such responses; CompletableFuture and SSE endpoints do not use this
+ * executor, and the async request timeout stays the container default.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ThreadPoolTaskExecutor renderExecutor;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(renderExecutor);
+    }
+}
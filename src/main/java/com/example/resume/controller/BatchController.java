@@ -0,0 +1,134 @@
+package com.example.resume.controller;
+
+import com.example.resume.model.BatchItemResult;
+import com.example.resume.model.Resume;
+import com.example.resume.service.BatchGenerationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/resume")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"},
+            allowedHeaders = "*",
+            methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.OPTIONS},
+            allowCredentials = "true")
+public class BatchController {
+    private static final Logger logger = LoggerFactory.getLogger(BatchController.class);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private BatchGenerationService batchGenerationService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor batchExecutor;
+
+    @Value("${resume.batch.timeout-ms:600000}")
+    private long batchTimeoutMs;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Accepts a JSON array of resumes and streams one NDJSON line per entry
+     * ({@link BatchItemResult}) as each generation completes.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> generateBatch(@RequestBody List<Resume> resumes,
+                                           @RequestParam(required = false) Integer concurrency) {
+        return startBatch(resumes, concurrency);
+    }
+
+    /**
+     * Same as {@link #generateBatch} for newline-delimited JSON input, one
+     * resume per line.
+     */
+    @PostMapping(value = "/batch", consumes = "application/x-ndjson")
+    public ResponseEntity<ResponseBodyEmitter> generateBatchNdjson(@RequestBody String body,
+                                                 @RequestParam(required = false) Integer concurrency) {
+        List<Resume> resumes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(body))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    resumes.add(objectMapper.readValue(line, Resume.class));
+                }
+            }
+        } catch (IOException e) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "Invalid NDJSON line: " + e.getMessage());
+        }
+        return startBatch(resumes, concurrency);
+    }
+
+    private ResponseEntity<ResponseBodyEmitter> startBatch(List<Resume> resumes, Integer concurrency) {
+        if (resumes == null || resumes.isEmpty()) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "At least one resume is required");
+        }
+        if (resumes.size() > batchGenerationService.getMaxItems()) {
+            return createErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE,
+                "Batch exceeds the limit of " + batchGenerationService.getMaxItems() + " resumes");
+        }
+
+        int limit = batchGenerationService.resolveConcurrency(concurrency);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(batchTimeoutMs);
+        try {
+            batchExecutor.execute(() -> {
+                try {
+                    batchGenerationService.generateAll(resumes, limit, item -> {
+                        try {
+                            emitter.send(objectMapper.writeValueAsString(item) + "\n", NDJSON);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    emitter.complete();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    emitter.completeWithError(e);
+                } catch (Exception e) {
+                    logger.error("Error running batch: {}", e.getMessage(), e);
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            logger.warn("Rejected batch of {} resumes, too many concurrent batches", resumes.size());
+            return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Too many batches in progress, please retry shortly");
+        }
+        return ResponseEntity.ok().contentType(NDJSON).body(emitter);
+    }
+
+    // The handler's body type must be ResponseBodyEmitter, so errors are written through a one-shot emitter
+    private ResponseEntity<ResponseBodyEmitter> createErrorResponse(HttpStatus status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", status.value());
+        response.put("error", status.getReasonPhrase());
+        response.put("message", message);
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        try {
+            emitter.send(response, MediaType.APPLICATION_JSON);
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(emitter);
+    }
+}
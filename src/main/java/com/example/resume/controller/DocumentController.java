@@ -0,0 +1,131 @@
+package com.example.resume.controller;
+
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.HistoryEntry;
+import com.example.resume.service.DocumentFormat;
+import com.example.resume.service.DocumentRenderService;
+import com.example.resume.service.HistoryStore;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Downloads a generated resume as PDF or DOCX. The document is laid out on
+ * the bounded render pool and streamed to the client as it is written;
+ * when the pool is saturated the request is refused with 503.
+ */
+@RestController
+@RequestMapping("/api/v1/resume/render")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"},
+            allowedHeaders = "*",
+            exposedHeaders = HttpHeaders.CONTENT_DISPOSITION,
+            methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.OPTIONS},
+            allowCredentials = "true")
+public class DocumentController {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentController.class);
+
+    @Autowired
+    private DocumentRenderService documentRenderService;
+
+    @Autowired
+    private HistoryStore historyStore;
+
+    /**
+     * Renders the stored generation {@code id}.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<StreamingResponseBody> renderEntry(@PathVariable String id,
+                                                             @RequestParam(defaultValue = "pdf") String format) {
+        DocumentFormat documentFormat = DocumentFormat.fromName(format);
+        HistoryEntry entry = historyStore.get(id);
+        if (entry == null || entry.getResult() == null) {
+            throw new NoSuchElementException("History entry not found: " + id);
+        }
+        return document(documentFormat, "resume-" + id, entry.getResult().getContent());
+    }
+
+    /**
+     * Renders resume text supplied by the client, e.g. after local edits.
+     */
+    @PostMapping
+    public ResponseEntity<StreamingResponseBody> renderContent(@RequestParam(defaultValue = "pdf") String format,
+                                                               @RequestBody GeneratedResume resume) {
+        DocumentFormat documentFormat = DocumentFormat.fromName(format);
+        if (resume == null || resume.getContent() == null || resume.getContent().isBlank()) {
+            throw new IllegalArgumentException("Resume content is required");
+        }
+        return document(documentFormat, "resume", resume.getContent());
+    }
+
+    private ResponseEntity<StreamingResponseBody> document(DocumentFormat format, String name, String content) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name + "." + format.getExtension()).build().toString())
+            .body(out -> documentRenderService.render(content, format, out));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleBadRequest(IllegalArgumentException e) {
+        return createErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, Object>> handleNotFound(NoSuchElementException e) {
+        return createErrorResponse(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    /**
+     * The render is refused when MVC hands the streaming body to the pool,
+     * after the download's Content-Type and Content-Disposition were set on
+     * the response; they are cleared so the 503 goes out as plain JSON.
+     * MVC both rethrows the rejection and dispatches it again as the async
+     * result; by the second time the 503 has been sent and nothing is written.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleRejected(TaskRejectedException e, HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return null;
+        }
+        logger.warn("Rejected document render, render pool is saturated");
+        clearDocumentHeaders(response);
+        return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+            "Too many documents are being rendered, please retry shortly");
+    }
+
+    private static void clearDocumentHeaders(HttpServletResponse response) {
+        // The servlet API cannot remove a header: reset, then put back the rest (e.g. CORS)
+        Map<String, List<String>> kept = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_DISPOSITION.equalsIgnoreCase(name)) {
+                kept.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        response.reset();
+        kept.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+    }
+
+    private ResponseEntity<Map<String, Object>> createErrorResponse(HttpStatus status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", status.value());
+        response.put("error", status.getReasonPhrase());
+        response.put("message", message);
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.resume.controller;
+
+import com.example.resume.model.HistoryEntry;
+import com.example.resume.model.HistorySummary;
+import com.example.resume.service.HistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Past generations, so a client can show a previous result instead of
+ * generating it again. Look up a single entry by the {@code id} returned
+ * from {@code /generate}, or list entries by prompt hash (or, when
+ * {@code resume.history.list-by-email} is on, by email). Listings carry
+ * only ids, timestamps and hashes; the resume and the generated text are
+ * returned for a single id only.
+ */
+@RestController
+@RequestMapping("/api/v1/resume/history")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"},
+            allowedHeaders = "*",
+            methods = {RequestMethod.GET, RequestMethod.OPTIONS},
+            allowCredentials = "true")
+public class HistoryController {
+    private static final Logger logger = LoggerFactory.getLogger(HistoryController.class);
+
+    @Autowired
+    private HistoryStore historyStore;
+
+    @Value("${resume.history.max-page-size:100}")
+    private int maxPageSize;
+
+    // Off by default: without authentication anyone could enumerate another person's generations
+    @Value("${resume.history.list-by-email:false}")
+    private boolean listByEmail;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getEntry(@PathVariable String id) {
+        HistoryEntry entry = historyStore.get(id);
+        if (entry == null) {
+            logger.debug("History entry {} not found", id);
+            return createErrorResponse(HttpStatus.NOT_FOUND, "History entry not found: " + id);
+        }
+        return ResponseEntity.ok(entry);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> listEntries(@RequestParam(required = false) String email,
+                                         @RequestParam(required = false) String hash,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        if ((email == null) == (hash == null)) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "Specify exactly one of 'email' or 'hash'");
+        }
+        if (email != null && !listByEmail) {
+            return createErrorResponse(HttpStatus.FORBIDDEN, "Listing history by email is disabled");
+        }
+        if (limit < 1 || limit > maxPageSize) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + maxPageSize);
+        }
+        List<HistoryEntry> entries = email != null
+            ? historyStore.findByEmail(email, limit)
+            : historyStore.findByPromptHash(hash, limit);
+        return ResponseEntity.ok(entries.stream().map(HistorySummary::of).toList());
+    }
+
+    private ResponseEntity<Map<String, Object>> createErrorResponse(HttpStatus status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", status.value());
+        response.put("error", status.getReasonPhrase());
+        response.put("message", message);
+        return ResponseEntity.status(status).body(response);
+    }
+}
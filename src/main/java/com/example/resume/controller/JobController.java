@@ -0,0 +1,73 @@
+package com.example.resume.controller;
+
+import com.example.resume.model.GenerationJob;
+import com.example.resume.model.Resume;
+import com.example.resume.service.JobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/v1/resume/jobs")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"},
+            allowedHeaders = "*",
+            methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.OPTIONS},
+            allowCredentials = "true")
+public class JobController {
+    private static final Logger logger = LoggerFactory.getLogger(JobController.class);
+
+    @Autowired
+    private JobService jobService;
+
+    @Value("${resume.jobs.retry-after-seconds:5}")
+    private int retryAfterSeconds;
+
+    @PostMapping
+    public ResponseEntity<?> submitJob(@RequestBody Resume resume) {
+        if (resume == null) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "Resume data is required");
+        }
+        try {
+            GenerationJob job = jobService.submit(resume);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/resume/jobs/" + job.getId()))
+                .body(job);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorBody(HttpStatus.TOO_MANY_REQUESTS, "Generation queue is full, please retry later"));
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getJob(@PathVariable String id) {
+        GenerationJob job = jobService.get(id);
+        if (job == null) {
+            logger.debug("Job {} not found or expired", id);
+            return createErrorResponse(HttpStatus.NOT_FOUND, "Job not found or expired: " + id);
+        }
+        return ResponseEntity.ok(job);
+    }
+
+    private ResponseEntity<Map<String, Object>> createErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(errorBody(status, message));
+    }
+
+    private Map<String, Object> errorBody(HttpStatus status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", status.value());
+        response.put("error", status.getReasonPhrase());
+        response.put("message", message);
+        return response;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.resume.controller;
+
+import com.example.resume.model.JobPosting;
+import com.example.resume.model.PostingMatch;
+import com.example.resume.model.Resume;
+import com.example.resume.service.JobMatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Scores a resume against job postings locally, without a model call: the
+ * best-fitting postings of the corpus, or the fit to one target job, each
+ * with the job's keywords the resume has and lacks.
+ */
+@RestController
+@RequestMapping("/api/v1/resume/match")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"},
+            allowedHeaders = "*",
+            methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.OPTIONS},
+            allowCredentials = "true")
+public class MatchController {
+
+    @Autowired
+    private JobMatcher jobMatcher;
+
+    @Value("${resume.matching.max-results:50}")
+    private int maxResults;
+
+    @PostMapping
+    public ResponseEntity<?> match(@RequestParam(defaultValue = "10") int limit, @RequestBody Resume resume) {
+        if (limit < 1 || limit > maxResults) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + maxResults);
+        }
+        List<PostingMatch> matches = jobMatcher.match(resume, limit);
+        return ResponseEntity.ok(matches);
+    }
+
+    /**
+     * Fit to the job named by the resume's {@code targetPostingId}, or to
+     * the ad given as its {@code jobDescription}.
+     */
+    @PostMapping("/target")
+    public ResponseEntity<PostingMatch> matchTarget(@RequestBody Resume resume) {
+        return ResponseEntity.ok(jobMatcher.matchTarget(resume));
+    }
+
+    @GetMapping("/postings/{id}")
+    public ResponseEntity<JobPosting> getPosting(@PathVariable String id) {
+        return ResponseEntity.ok(jobMatcher.posting(id));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleBadRequest(IllegalArgumentException e) {
+        return createErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, Object>> handleNotFound(NoSuchElementException e) {
+        return createErrorResponse(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    private ResponseEntity<Map<String, Object>> createErrorResponse(HttpStatus status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", status.value());
+        response.put("error", status.getReasonPhrase());
+        response.put("message", message);
+        return ResponseEntity.status(status).body(response);
+    }
+}
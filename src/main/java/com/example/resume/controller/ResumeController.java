@@ -1,15 +1,31 @@
 package com.example.resume.controller;
 
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.HistoryEntry;
 import com.example.resume.model.Resume;
+import com.example.resume.service.HistoryStore;
+import com.example.resume.service.PromptTemplate;
+import com.example.resume.service.PromptTemplateRegistry;
 import com.example.resume.service.ResumeService;
+import com.example.resume.service.UpstreamSaturatedException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/v1/resume")
@@ -23,8 +39,74 @@ public class ResumeController {
     @Autowired
     private ResumeService resumeService;
 
+    /**
+     * "sync" generates on the request thread; "async" releases the request
+     * thread and completes the response from the non-blocking upstream client.
+     */
+    @Value("${resume.generation.mode:sync}")
+    private String generationMode;
+
+    @Value("${resume.stream.timeout-ms:90000}")
+    private long streamTimeoutMs;
+
+    @Autowired
+    private ThreadPoolTaskExecutor streamingExecutor;
+
+    @Autowired
+    private PromptTemplateRegistry promptTemplates;
+
+    @Autowired
+    private HistoryStore historyStore;
+
     @PostMapping("/generate")
-    public ResponseEntity<?> generateResume(@RequestBody Resume resume) {
+    public CompletableFuture<ResponseEntity<?>> generateResume(@RequestBody Resume resume) {
+        if (!"async".equalsIgnoreCase(generationMode)) {
+            return CompletableFuture.completedFuture(generateResumeSync(resume));
+        }
+        ResponseEntity<?> invalid = validateRequest(resume);
+        if (invalid != null) {
+            return CompletableFuture.completedFuture(invalid);
+        }
+        return respond(resumeService.generateResumeAsync(resume));
+    }
+
+    /**
+     * Regenerates the stored generation {@code id} for an edited resume,
+     * re-running only the sections whose data changed. The response carries
+     * the id of the new history entry.
+     */
+    @PostMapping("/regenerate/{id}")
+    public CompletableFuture<ResponseEntity<?>> regenerateResume(@PathVariable String id, @RequestBody Resume resume) {
+        ResponseEntity<?> invalid = validateRequest(resume);
+        if (invalid != null) {
+            return CompletableFuture.completedFuture(invalid);
+        }
+        HistoryEntry previous = historyStore.get(id);
+        if (previous == null) {
+            return CompletableFuture.completedFuture(
+                createErrorResponse(HttpStatus.NOT_FOUND, "History entry not found: " + id));
+        }
+        return respond(resumeService.regenerateResume(previous, resume));
+    }
+
+    private CompletableFuture<ResponseEntity<?>> respond(CompletableFuture<GeneratedResume> generation) {
+        return generation
+            .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof IllegalArgumentException) {
+                    return createErrorResponse(HttpStatus.BAD_REQUEST, cause.getMessage());
+                }
+                if (cause instanceof UpstreamSaturatedException saturated) {
+                    return createSaturatedResponse(saturated);
+                }
+                logger.error("Error generating resume: {}", cause.getMessage());
+                return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Error generating resume: " + cause.getMessage());
+            });
+    }
+
+    private ResponseEntity<?> generateResumeSync(Resume resume) {
         try {
             logger.info("Received resume generation request");
             
@@ -32,11 +114,15 @@ public class ResumeController {
             if (resume == null) {
                 return createErrorResponse(HttpStatus.BAD_REQUEST, "Resume data is required");
             }
+            if (resume.getTemplate() != null
+                && !promptTemplates.exists(resume.getTemplate(), PromptTemplate.Kind.forInput(resume))) {
+                return createErrorResponse(HttpStatus.BAD_REQUEST, "Unknown prompt template: " + resume.getTemplate());
+            }
 
             // If summary is provided, we can generate a resume without requiring name/email
             if (resume.getSummary() != null && !resume.getSummary().isEmpty()) {
                 logger.info("Generating resume from summary");
-                String generatedResume = resumeService.generateResume(resume);
+                GeneratedResume generatedResume = resumeService.generateResume(resume);
                 return ResponseEntity.ok(generatedResume);
             }
 
@@ -55,18 +141,13 @@ public class ResumeController {
                 return createErrorResponse(HttpStatus.BAD_REQUEST, "Email is required");
             }
 
-            // Log the request details (excluding sensitive information)
-            String name = resume.getName() != null ? resume.getName() : 
-                         (resume.getPersonalInformation() != null ? resume.getPersonalInformation().getName() : "Unknown");
-            logger.info("Generating resume for: {}", name);
-            logger.debug("Resume details - Email: {}, Phone: {}", 
-                resume.getEmail() != null ? resume.getEmail() : 
-                (resume.getPersonalInformation() != null ? resume.getPersonalInformation().getEmail() : "Not provided"),
-                resume.getPhone() != null ? resume.getPhone() : 
-                (resume.getPersonalInformation() != null ? resume.getPersonalInformation().getPhone() : "Not provided"));
-
-            String generatedResume = resumeService.generateResume(resume);
+            GeneratedResume generatedResume = resumeService.generateResume(resume);
             return ResponseEntity.ok(generatedResume);
+        } catch (IllegalArgumentException e) {
+            // e.g. a resume too large to fit the prompt budget even after trimming
+            return createErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (UpstreamSaturatedException e) {
+            return createSaturatedResponse(e);
         } catch (Exception e) {
             logger.error("Error generating resume: {}", e.getMessage(), e);
             return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, 
@@ -74,6 +155,84 @@ public class ResumeController {
         }
     }
 
+    /**
+     * Streams the generated resume as server-sent events: one "delta" event
+     * per content chunk ({"content": "..."}), then "done", or a single
+     * "error" event on failure.
+     */
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamResume(@RequestBody Resume resume) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        ResponseEntity<?> invalid = validateRequest(resume);
+        if (invalid != null) {
+            sendError(emitter, invalid.getBody());
+            return emitter;
+        }
+
+        try {
+            streamingExecutor.execute(() -> {
+                try {
+                    resumeService.streamResume(resume, delta -> {
+                        try {
+                            // JSON-encode so newlines inside a chunk cannot break SSE framing
+                            emitter.send(SseEmitter.event().name("delta")
+                                .data(Map.of("content", delta), MediaType.APPLICATION_JSON));
+                        } catch (IOException e) {
+                            // Client went away; abort the upstream read
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    emitter.send(SseEmitter.event().name("done").data(""));
+                    emitter.complete();
+                } catch (UncheckedIOException e) {
+                    logger.info("Client disconnected from resume stream");
+                    emitter.completeWithError(e.getCause());
+                } catch (UpstreamSaturatedException e) {
+                    sendError(emitter, createSaturatedResponse(e).getBody());
+                } catch (Exception e) {
+                    logger.error("Error streaming resume: {}", e.getMessage());
+                    sendError(emitter, createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                        "Error generating resume: " + e.getMessage()).getBody());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            logger.warn("Rejected resume stream, too many concurrent streams");
+            sendError(emitter, createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Too many concurrent resume streams, please retry shortly").getBody());
+        }
+        return emitter;
+    }
+
+    private void sendError(SseEmitter emitter, Object body) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(body, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private ResponseEntity<?> validateRequest(Resume resume) {
+        logger.info("Received resume generation request");
+        if (resume == null) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "Resume data is required");
+        }
+        if (resume.getTemplate() != null
+            && !promptTemplates.exists(resume.getTemplate(), PromptTemplate.Kind.forInput(resume))) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "Unknown prompt template: " + resume.getTemplate());
+        }
+        if (resume.getSummary() != null && !resume.getSummary().isEmpty()) {
+            return null;
+        }
+        if (resume.getName() == null || resume.getName().trim().isEmpty()) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "Name is required");
+        }
+        if (resume.getEmail() == null || resume.getEmail().trim().isEmpty()) {
+            return createErrorResponse(HttpStatus.BAD_REQUEST, "Email is required");
+        }
+        return null;
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
         return ResponseEntity.ok("Resume Generator API is running");
@@ -86,4 +245,16 @@ public class ResumeController {
         response.put("message", message);
         return ResponseEntity.status(status).body(response);
     }
+
+    /**
+     * 503 with a Retry-After for a generation the upstream limiter could not admit in time.
+     */
+    private ResponseEntity<Map<String, Object>> createSaturatedResponse(UpstreamSaturatedException e) {
+        logger.warn("Rejected resume generation: {}", e.getMessage());
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfterMs() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Resume generation is over capacity, please retry shortly").getBody());
+    }
 }
\ No newline at end of file
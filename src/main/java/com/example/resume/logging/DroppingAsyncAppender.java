@@ -0,0 +1,38 @@
+package com.example.resume.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback's {@link AsyncAppender} (a bounded queue drained by one worker
+ * thread) that counts the events it drops. With {@code neverBlock} a
+ * request thread never waits on the output: once the queue is down to the
+ * discarding threshold, TRACE, DEBUG and INFO events are dropped, and when
+ * it is full every event is. The count is exported as
+ * {@code resume.logging.dropped} by {@link LoggingMetrics}; it is read from
+ * the queue's capacity just before the event is offered, so under a race it
+ * can be off by an event or two.
+ */
+public class DroppingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if ((remaining < getDiscardingThreshold() && isDiscardable(event)) || (remaining == 0 && isNeverBlock())) {
+            dropped.increment();
+        }
+        super.append(event);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueueDepth() {
+        return getNumberOfElementsInQueue();
+    }
+}
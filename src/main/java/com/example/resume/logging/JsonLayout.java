@@ -0,0 +1,97 @@
+package com.example.resume.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+import ch.qos.logback.core.util.CachingDateFormatter;
+
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * One JSON object per line: {@code timestamp} (UTC), {@code level},
+ * {@code thread}, {@code logger}, {@code message}, the MDC as {@code mdc}
+ * when it is not empty and the stack trace as {@code exception}. The message
+ * and stack trace go through {@link PiiRedactor}.
+ * <p>
+ * Written by hand rather than through Jackson so that a log line costs one
+ * {@link StringBuilder} and no intermediate tree.
+ */
+public class JsonLayout extends LayoutBase<ILoggingEvent> {
+
+    private final CachingDateFormatter dateFormatter =
+        new CachingDateFormatter("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", ZoneOffset.UTC);
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"timestamp\":\"").append(dateFormatter.format(event.getTimeStamp()));
+        json.append("\",\"level\":\"").append(event.getLevel()).append('"');
+        field(json, "thread", event.getThreadName());
+        field(json, "logger", event.getLoggerName());
+        field(json, "message", PiiRedactor.redact(event.getFormattedMessage()));
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            json.append(",\"mdc\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                json.append('"');
+                escape(json, entry.getKey());
+                json.append("\":\"");
+                escape(json, PiiRedactor.redact(entry.getValue()));
+                json.append('"');
+            }
+            json.append('}');
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            field(json, "exception", PiiRedactor.redact(ThrowableProxyUtil.asString(throwable)));
+        }
+        return json.append('}').append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json";
+    }
+
+    private static void field(StringBuilder json, String name, String value) {
+        json.append(",\"").append(name).append("\":");
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        escape(json, value);
+        json.append('"');
+    }
+
+    private static void escape(StringBuilder json, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
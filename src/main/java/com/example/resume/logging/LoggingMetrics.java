@@ -0,0 +1,56 @@
+package com.example.resume.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Iterator;
+
+/**
+ * Exports how the logging pipeline is keeping up: events dropped and queued
+ * by the async appender in production mode, and wire log events sampled out.
+ * Nothing is registered for the parts the current mode does not use.
+ */
+@Component
+public class LoggingMetrics {
+    private static final org.slf4j.Logger logger = LoggerFactory.getLogger(LoggingMetrics.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void init() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders =
+            context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof DroppingAsyncAppender async) {
+                FunctionCounter.builder("resume.logging.dropped", async, DroppingAsyncAppender::getDroppedCount)
+                    .description("Log events dropped because the async queue was full")
+                    .register(meterRegistry);
+                Gauge.builder("resume.logging.queue.depth", async, DroppingAsyncAppender::getQueueDepth)
+                    .description("Log events waiting to be written")
+                    .register(meterRegistry);
+                logger.info("Logging asynchronously through a queue of {} events", async.getQueueSize());
+            }
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof WireLogSampler sampler) {
+                FunctionCounter.builder("resume.logging.sampled.out", sampler, WireLogSampler::getSampledOutCount)
+                    .description("Wire log events left out by sampling")
+                    .register(meterRegistry);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.resume.logging;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Masks the contact details a {@code Resume} carries (email addresses,
+ * phone numbers and LinkedIn/GitHub profile URLs) in log text. Names and
+ * addresses cannot be recognized in free text; they are kept out of log
+ * statements and out of the models' {@code toString()} instead.
+ * <p>
+ * The patterns are compiled once, and text without an {@code @}, a run of
+ * digits long enough for a phone number or a profile host is returned as is
+ * without running them, which is the case for almost every log line.
+ */
+public final class PiiRedactor {
+
+    private static final Pattern EMAIL = Pattern.compile("[\\w.%+-]+@[\\w-]+(?:\\.[\\w-]+)+");
+    private static final Pattern PROFILE = Pattern.compile(
+        "(?i)(?:https?://)?(?:[\\w-]+\\.)?(?:linkedin|github)\\.com/[\\w/%.-]*");
+    // Digits with the separators people type; the digit count and shape are checked per match
+    private static final Pattern PHONE = Pattern.compile("(?<![\\w-])\\+?\\(?\\d[\\d\\s().-]{5,}\\d(?![\\w-])");
+    private static final Pattern NOT_A_PHONE = Pattern.compile(
+        "\\d{4}-\\d{2}-\\d{2}.*|\\d{1,3}(?:\\.\\d{1,3}){3}");
+
+    private static final int MIN_PHONE_DIGITS = 7;
+    private static final int MAX_PHONE_DIGITS = 15;
+    // A bare number this short is more likely a count or an offset than a phone number
+    private static final int MIN_BARE_PHONE_DIGITS = 10;
+
+    private PiiRedactor() {
+    }
+
+    public static String redact(String text) {
+        if (text == null || !mayContainPii(text)) {
+            return text;
+        }
+        String redacted = text;
+        if (redacted.indexOf('@') >= 0) {
+            redacted = EMAIL.matcher(redacted).replaceAll("[email]");
+        }
+        redacted = PROFILE.matcher(redacted).replaceAll("[profile]");
+        return redactPhones(redacted);
+    }
+
+    private static boolean mayContainPii(String text) {
+        int digitRun = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '@') {
+                return true;
+            }
+            if (c >= '0' && c <= '9') {
+                if (++digitRun >= MIN_PHONE_DIGITS) {
+                    return true;
+                }
+            } else if (c != ' ' && c != '-' && c != '.' && c != '(' && c != ')' && c != '+') {
+                digitRun = 0;
+            }
+            if ((c == 'l' || c == 'g' || c == 'L' || c == 'G') && (text.regionMatches(true, i, "linkedin.com", 0, 12)
+                    || text.regionMatches(true, i, "github.com", 0, 10))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String redactPhones(String text) {
+        Matcher matcher = PHONE.matcher(text);
+        StringBuilder redacted = null;
+        int last = 0;
+        while (matcher.find()) {
+            String candidate = matcher.group();
+            int digits = 0;
+            for (int i = 0; i < candidate.length(); i++) {
+                if (Character.isDigit(candidate.charAt(i))) {
+                    digits++;
+                }
+            }
+            boolean bare = digits == candidate.length();
+            if (digits < (bare ? MIN_BARE_PHONE_DIGITS : MIN_PHONE_DIGITS) || digits > MAX_PHONE_DIGITS
+                    || NOT_A_PHONE.matcher(candidate).matches()) {
+                continue;
+            }
+            if (redacted == null) {
+                redacted = new StringBuilder(text.length());
+            }
+            redacted.append(text, last, matcher.start()).append("[phone]");
+            last = matcher.end();
+        }
+        if (redacted == null) {
+            return text;
+        }
+        return redacted.append(text, last, text.length()).toString();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.resume.logging;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * The {@code %m} conversion with {@link PiiRedactor} applied, registered in
+ * {@code logging/common.xml} under the usual conversion words so the Spring
+ * Boot console pattern picks it up unchanged.
+ */
+public class RedactingMessageConverter extends MessageConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return PiiRedactor.redact(super.convert(event));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.resume.logging;
+
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import org.springframework.boot.logging.logback.ExtendedWhitespaceThrowableProxyConverter;
+
+/**
+ * Spring Boot's {@code %wEx} stack trace conversion with {@link PiiRedactor}
+ * applied, since exception messages often quote the input they failed on.
+ */
+public class RedactingThrowableConverter extends ExtendedWhitespaceThrowableProxyConverter {
+
+    @Override
+    protected String throwableProxyToString(IThrowableProxy tp) {
+        return PiiRedactor.redact(super.throwableProxyToString(tp));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.resume.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Passes one in {@code sampleEvery} DEBUG and TRACE events from the
+ * comma-separated logger prefixes in {@code loggers} (by default Spring MVC
+ * and the Apache HTTP client, which log every request and response), so
+ * their wire logging can be switched on in production without writing a
+ * line per exchange. Other events, and these loggers at INFO and above, are
+ * not affected.
+ * <p>
+ * A turbo filter runs before logback builds the event, so a dropped event
+ * costs a level comparison and a prefix check. Level checks such as
+ * {@code isDebugEnabled()} are left alone; only the log call is sampled.
+ */
+public class WireLogSampler extends TurboFilter {
+
+    private String[] prefixes = {"org.springframework.web", "org.apache.hc.client5.http"};
+    private int sampleEvery = 100;
+
+    private final AtomicLong seen = new AtomicLong();
+    private final AtomicLong sampledOut = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (level == null || level.levelInt > Level.DEBUG_INT || format == null || sampleEvery <= 1
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (seen.getAndIncrement() % sampleEvery == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void setLoggers(String loggers) {
+        this.prefixes = Arrays.stream(loggers.split(","))
+            .map(String::trim)
+            .filter(prefix -> !prefix.isEmpty())
+            .toArray(String[]::new);
+    }
+
+    public void setSampleEvery(int sampleEvery) {
+        this.sampleEvery = sampleEvery;
+    }
+
+    public long getSampledOutCount() {
+        return sampledOut.get();
+    }
+}
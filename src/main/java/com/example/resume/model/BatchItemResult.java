@@ -0,0 +1,27 @@
+package com.example.resume.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one entry of a batch generation request, emitted as soon as
+ * that entry finishes. {@code index} is the entry's position in the input.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+    private int index;
+    private String status;
+    private GeneratedResume result;
+    private String error;
+
+    public static BatchItemResult success(int index, GeneratedResume result) {
+        return new BatchItemResult(index, "ok", result, null);
+    }
+
+    public static BatchItemResult failure(int index, String error) {
+        return new BatchItemResult(index, "error", null, error);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.resume.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * Response body of the generate endpoints: the resume text plus, when it
+ * came from the provider, the model and token usage. Everything else in the
+ * provider's completion envelope is dropped. {@code id} names the stored
+ * history entry, when one was written. The resume text, full of contact
+ * details, is left out of {@code toString()}.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GeneratedResume {
+    private String id;
+    @ToString.Exclude
+    private String content;
+    private String model;
+    private String finishReason;
+    private Usage usage;
+
+    @Data
+    public static class Usage {
+        private Integer promptTokens;
+        private Integer completionTokens;
+        private Integer totalTokens;
+    }
+
+    public static GeneratedResume of(String content) {
+        GeneratedResume resume = new GeneratedResume();
+        resume.setContent(content);
+        return resume;
+    }
+
+    /**
+     * Copy carrying {@code id}; instances may be shared through the cache, so they are not modified.
+     */
+    public GeneratedResume withId(String id) {
+        GeneratedResume copy = new GeneratedResume();
+        copy.setId(id);
+        copy.setContent(content);
+        copy.setModel(model);
+        copy.setFinishReason(finishReason);
+        copy.setUsage(usage);
+        return copy;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.resume.model;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * A queued resume generation. Workers update the status in place, so the
+ * mutable fields are volatile for readers polling from request threads.
+ */
+@Data
+public class GenerationJob {
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    private final String id;
+    private final Instant createdAt;
+    private volatile Status status = Status.QUEUED;
+    private volatile GeneratedResume result;
+    private volatile String error;
+    private volatile Instant completedAt;
+}
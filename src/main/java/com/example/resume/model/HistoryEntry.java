@@ -0,0 +1,24 @@
+package com.example.resume.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * One stored generation: the submitted resume, the hash of the prompt it
+ * produced (the completion cache key) and the generated output.
+ * {@code fingerprint} is set for provider output that may be reused for
+ * near-duplicate inputs (see {@code ResumeFingerprint}).
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HistoryEntry {
+    private String id;
+    private Instant createdAt;
+    private String email;
+    private String promptHash;
+    private String fingerprint;
+    private Resume resume;
+    private GeneratedResume result;
+}
@@ -0,0 +1,24 @@
+package com.example.resume.model;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * What the history listing shows of a stored generation: enough to pick
+ * one, none of the personal data. The full entry is fetched by its id.
+ */
+@Data
+public class HistorySummary {
+    private String id;
+    private Instant createdAt;
+    private String promptHash;
+
+    public static HistorySummary of(HistoryEntry entry) {
+        HistorySummary summary = new HistorySummary();
+        summary.setId(entry.getId());
+        summary.setCreatedAt(entry.getCreatedAt());
+        summary.setPromptHash(entry.getPromptHash());
+        return summary;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.resume.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A job posting of the matching corpus, one JSON object per line of the
+ * corpus file. {@code skills} are the posting's listed requirements and
+ * weigh more than the free-text description.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobPosting {
+    private String id;
+    private String title;
+    private String company;
+    private String description;
+    private List<String> skills;
+}
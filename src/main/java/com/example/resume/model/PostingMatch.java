@@ -0,0 +1,25 @@
+package com.example.resume.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * How well a resume fits one job. {@code score} is the BM25 relevance
+ * against the whole corpus (comparable between postings of one query
+ * only); {@code coverage} is the weighted share of the job's keywords the
+ * resume mentions, from 0 to 1. Posting fields are absent when the job was
+ * given as free text.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostingMatch {
+    private String postingId;
+    private String title;
+    private String company;
+    private Double score;
+    private double coverage;
+    private List<String> matchedKeywords;
+    private List<String> missingKeywords;
+}
@@ -1,14 +1,19 @@
 package com.example.resume.model;
 
 import lombok.Data;
+import lombok.ToString;
 import java.util.List;
 
 @Data
 public class Resume {
-    // Flat structure fields (for backward compatibility)
+    // Flat structure fields (for backward compatibility); contact details and free text stay out of toString()
+    @ToString.Exclude
     private String name;
+    @ToString.Exclude
     private String email;
+    @ToString.Exclude
     private String phone;
+    @ToString.Exclude
     private String summary;
     private String experience;
     private String education;
@@ -22,7 +27,45 @@ public class Resume {
     private List<String> skillsList;
     private List<String> achievementsList;
 
+    // Prompt template selector, e.g. "executive" or "technical@1"; null uses the default
+    private String template;
+
+    // Job to tailor the resume to: a posting id from the matching corpus, or the text of a job ad
+    private String targetPostingId;
+    private String jobDescription;
+
+    // Keywords of the target the prompt asks the model to emphasize; set by the service, request values are replaced
+    private List<String> emphasis;
+
+    /**
+     * A copy whose fields can be replaced without touching this resume; the
+     * nested objects and lists are shared, so change them by replacing, not in place.
+     */
+    public Resume copy() {
+        Resume copy = new Resume();
+        copy.setName(name);
+        copy.setEmail(email);
+        copy.setPhone(phone);
+        copy.setSummary(summary);
+        copy.setExperience(experience);
+        copy.setEducation(education);
+        copy.setSkills(skills);
+        copy.setAchievements(achievements);
+        copy.setPersonalInformation(personalInformation);
+        copy.setExperiences(experiences);
+        copy.setEducations(educations);
+        copy.setSkillsList(skillsList);
+        copy.setAchievementsList(achievementsList);
+        copy.setTemplate(template);
+        copy.setTargetPostingId(targetPostingId);
+        copy.setJobDescription(jobDescription);
+        copy.setEmphasis(emphasis);
+        return copy;
+    }
+
+    // Contact details only, so toString() prints none of it
     @Data
+    @ToString(onlyExplicitlyIncluded = true)
     public static class PersonalInformation {
         private String name;
         private String email;
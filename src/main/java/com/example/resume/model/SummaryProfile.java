@@ -0,0 +1,42 @@
+package com.example.resume.model;
+
+import lombok.Data;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Structured details recovered from a free-text summary. Fields that were
+ * not found are left null (or empty for {@code skills}). The contact
+ * details are left out of {@code toString()}.
+ */
+@Data
+public class SummaryProfile {
+    @ToString.Exclude
+    private String name;
+    @ToString.Exclude
+    private String email;
+    @ToString.Exclude
+    private String phone;
+    @ToString.Exclude
+    private String linkedin;
+    @ToString.Exclude
+    private String github;
+    private Integer yearsOfExperience;
+    private List<String> skills = new ArrayList<>();
+
+    /**
+     * Contact details for resume rendering, with placeholder name and email
+     * when the summary did not contain them.
+     */
+    public Resume.PersonalInformation toPersonalInformation() {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setName(name != null ? name : "Professional Candidate");
+        info.setEmail(email != null ? email : "candidate@example.com");
+        info.setPhone(phone);
+        info.setLinkedin(linkedin);
+        info.setGithub(github);
+        return info;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.resume.service;
+
+import com.example.resume.model.BatchItemResult;
+import com.example.resume.model.Resume;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Fans a batch of resumes out over the non-blocking generation path with at
+ * most {@code concurrency} entries in flight, reporting each entry as it
+ * completes. A failing entry is reported on its own and never fails the
+ * rest of the batch.
+ */
+@Service
+public class BatchGenerationService {
+    private static final Logger logger = LoggerFactory.getLogger(BatchGenerationService.class);
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Value("${resume.batch.max-concurrency:16}")
+    private int maxConcurrency;
+
+    @Value("${resume.batch.default-concurrency:4}")
+    private int defaultConcurrency;
+
+    @Value("${resume.batch.max-items:1000}")
+    private int maxItems;
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public int resolveConcurrency(Integer requested) {
+        int concurrency = requested != null ? requested : defaultConcurrency;
+        return Math.max(1, Math.min(concurrency, maxConcurrency));
+    }
+
+    /**
+     * Blocks the calling (dispatcher) thread until every entry has been
+     * reported to {@code onResult}. Results arrive in completion order, not
+     * input order. If {@code onResult} throws, no further entries are started.
+     */
+    public void generateAll(List<Resume> resumes, int concurrency, Consumer<BatchItemResult> onResult)
+            throws InterruptedException {
+        logger.info("Starting batch of {} resumes with concurrency {}", resumes.size(), concurrency);
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicBoolean aborted = new AtomicBoolean();
+        for (int i = 0; i < resumes.size() && !aborted.get(); i++) {
+            permits.acquire();
+            int index = i;
+            resumeService.generateResumeAsync(resumes.get(i)).whenComplete((result, error) -> {
+                try {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                        onResult.accept(BatchItemResult.failure(index, cause.getMessage()));
+                    } else {
+                        onResult.accept(BatchItemResult.success(index, result));
+                    }
+                } catch (RuntimeException e) {
+                    // The consumer is gone (e.g. client disconnected); stop dispatching
+                    logger.warn("Failed to report batch entry {}, aborting batch: {}", index, e.getMessage());
+                    aborted.set(true);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        // Wait for the tail of the batch to drain
+        permits.acquire(concurrency);
+        logger.info("Finished batch of {} resumes", resumes.size());
+    }
+}
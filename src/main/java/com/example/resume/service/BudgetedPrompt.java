@@ -0,0 +1,13 @@
+package com.example.resume.service;
+
+/**
+ * A rendered prompt together with its estimated size and the completion
+ * allowance ({@code max_tokens}) chosen for it by {@link PromptBudget}.
+ */
+public record BudgetedPrompt(String text, int promptTokens, int maxTokens, boolean trimmed) {
+
+    /** Tokens the call may consume in total, as reserved with the rate limiter. */
+    public int totalTokens() {
+        return promptTokens + maxTokens;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.resume.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Count-based circuit breaker around the completion provider.
+ * <p>
+ * CLOSED records the outcome of the last {@code window-size} calls and opens
+ * once at least {@code minimum-calls} have been seen and the failure rate
+ * reaches the threshold. OPEN rejects calls until {@code open-ms} has passed,
+ * then HALF_OPEN lets a few trial calls through: one failure re-opens, all
+ * successes close. State is exported as {@code resume.breaker.state}
+ * (0 closed, 1 half-open, 2 open) and transitions as
+ * {@code resume.breaker.transitions}.
+ */
+@Component
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    @Value("${resume.breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${resume.breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${resume.breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${resume.breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${resume.breaker.open-ms:30000}")
+    private long openMs;
+
+    @Value("${resume.breaker.half-open-max-calls:3}")
+    private int halfOpenMaxCalls;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private State state = State.CLOSED;
+    private boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAtNanos;
+    private int halfOpenCalls;
+    private int halfOpenSuccesses;
+
+    @PostConstruct
+    void init() {
+        outcomes = new boolean[windowSize];
+        Gauge.builder("resume.breaker.state", this, breaker -> breaker.getState().ordinal())
+            .description("Upstream circuit breaker state (0 closed, 1 half-open, 2 open)")
+            .register(meterRegistry);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns whether a call may go upstream now. Every permitted call must
+     * be followed by {@link #onSuccess()} or {@link #onFailure(Throwable)}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openMs * 1_000_000) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenCalls >= halfOpenMaxCalls) {
+                return false;
+            }
+            halfOpenCalls++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (!enabled) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenMaxCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * Records a failed call. Only provider-side problems (network errors,
+     * timeouts, 429 and 5xx) count; a 4xx caused by the request itself is
+     * treated as a success for the breaker's purposes, and a call the
+     * limiter never admitted is not counted at all.
+     */
+    public synchronized void onFailure(Throwable error) {
+        if (!enabled) {
+            return;
+        }
+        if (error instanceof UpstreamSaturatedException) {
+            // Never sent: says nothing about the provider, but frees a half-open trial slot
+            if (state == State.HALF_OPEN) {
+                halfOpenCalls--;
+            }
+            return;
+        }
+        if (!isProviderFailure(error)) {
+            onSuccess();
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State target) {
+        logger.warn("Upstream circuit breaker {} -> {}", state, target);
+        Counter.builder("resume.breaker.transitions")
+            .description("Upstream circuit breaker state transitions")
+            .tag("from", state.name().toLowerCase())
+            .tag("to", target.name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+        state = target;
+        if (target == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (target == State.HALF_OPEN) {
+            halfOpenCalls = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (target == State.CLOSED) {
+            recorded = 0;
+            next = 0;
+            failures = 0;
+        }
+    }
+
+    private static boolean isProviderFailure(Throwable error) {
+        if (error instanceof UpstreamException upstream) {
+            return upstream.getStatusCode() == 429 || upstream.getStatusCode() >= 500;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.resume.service;
+
+/**
+ * Raised instead of calling the provider while the circuit breaker is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException() {
+        super("Upstream circuit breaker is open");
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.resume.service;
+
+import com.example.resume.model.GeneratedResume;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Content-addressed cache of upstream completions. Entries are keyed on a
+ * SHA-256 of the exact prompt plus the sampling parameters, so any input that
+ * renders to the same prompt shares one generation.
+ * The key leaves out the provider and its model: the provider is picked per
+ * call, after the lookup, and all configured providers are treated as
+ * interchangeable, so a completion from any of them serves every later
+ * request for the same prompt.
+ * Hit, miss, eviction and size metrics are published as {@code cache.*}
+ * meters tagged {@code cache=resume.completions}.
+ */
+@Component
+public class CompletionCache {
+
+    @Value("${resume.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${resume.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${resume.cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Replaced in tests to move time forward
+    private Ticker ticker = Ticker.systemTicker();
+
+    private Cache<String, GeneratedResume> cache;
+
+    @PostConstruct
+    void init() {
+        // Caffeine's W-TinyLFU policy: frequency-based admission over an LRU window
+        cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .ticker(ticker)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "resume.completions");
+    }
+
+    public GeneratedResume get(String key) {
+        return enabled ? cache.getIfPresent(key) : null;
+    }
+
+    public void put(String key, GeneratedResume completion) {
+        if (enabled && completion != null) {
+            cache.put(key, completion);
+        }
+    }
+
+    public static String keyFor(BudgetedPrompt prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((prompt.maxTokens() + "\u0000" + CompletionClient.TEMPERATURE + '\u0000')
+                .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(prompt.text().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
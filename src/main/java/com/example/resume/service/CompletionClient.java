@@ -0,0 +1,480 @@
+package com.example.resume.service;
+
+import com.example.resume.model.GeneratedResume;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.EofSensorInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Sends prompts to a chat completions endpoint, either blocking on the
+ * pooled {@link RestTemplate} or without holding a thread on the pooled
+ * async client. The backend is picked per call by the {@link ProviderRouter};
+ * with more than one configured, a slow call is hedged on a second backend
+ * and whichever answers first wins, the other call being cancelled.
+ */
+@Component
+public class CompletionClient {
+    private static final Logger logger = LoggerFactory.getLogger(CompletionClient.class);
+
+    static final String DEFAULT_MODEL = "gpt-3.5-turbo";
+    static final double TEMPERATURE = 0.7;
+
+    @Autowired
+    private ProviderRouter providerRouter;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private CloseableHttpAsyncClient upstreamAsyncClient;
+
+    @Autowired
+    private UpstreamLimiter upstreamLimiter;
+
+    @Autowired
+    private GenerationMetrics generationMetrics;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public boolean isConfigured() {
+        return providerRouter.isConfigured();
+    }
+
+    /**
+     * Sends {@code prompt} and parses the response body as it is read,
+     * keeping only the completion text, model and usage. When the call could
+     * be hedged, this waits on the same raced exchange as {@link #completeAsync}.
+     */
+    public GeneratedResume complete(BudgetedPrompt prompt) {
+        providerRouter.called();
+        CompletionProvider provider = providerRouter.select(null);
+        CompletionProvider hedge = providerRouter.hedgeTarget(provider);
+        if (hedge != null) {
+            try {
+                return new HedgedCall(prompt, hedge).start(provider).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return tracked(provider, () -> withAdmission(prompt, () -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set("Authorization", "Bearer " + provider.getApiKey());
+
+            HttpEntity<Map<String, Object>> request = new HttpEntity<>(buildRequestBody(provider, prompt), headers);
+
+            logger.info("Sending request to {} at: {}", provider.getName(), provider.getUrl());
+            // 4xx/5xx are raised by the error handler before the body is read
+            GeneratedResume completion = restTemplate.execute(
+                provider.getUrl() + "/chat/completions",
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(request),
+                response -> {
+                    long start = System.nanoTime();
+                    try {
+                        return CompletionParser.parse(response.getBody());
+                    } finally {
+                        generationMetrics.record(GenerationMetrics.Stage.RESPONSE_PARSE, System.nanoTime() - start);
+                    }
+                }
+            );
+            logger.info("Successfully generated resume");
+            return completion;
+        }));
+    }
+
+    public CompletableFuture<GeneratedResume> completeAsync(BudgetedPrompt prompt) {
+        providerRouter.called();
+        CompletionProvider provider = providerRouter.select(null);
+        CompletionProvider hedge = providerRouter.hedgeTarget(provider);
+        if (hedge != null) {
+            return new HedgedCall(prompt, hedge).start(provider);
+        }
+        return exchange(provider, prompt);
+    }
+
+    /**
+     * One async call to {@code provider}, retries included, recorded in its
+     * latency and error statistics.
+     */
+    private CompletableFuture<GeneratedResume> exchange(CompletionProvider provider, BudgetedPrompt prompt) {
+        CompletableFuture<GeneratedResume> result = new CompletableFuture<>();
+        AtomicReference<Future<CompletionResponseConsumer.Result>> exchange = new AtomicReference<>();
+        provider.started();
+        long start = System.nanoTime();
+        // Propagate cancellation so an abandoned caller releases its connection
+        result.whenComplete((body, error) -> {
+            provider.finished(System.nanoTime() - start, error == null || result.isCancelled() || !isProviderFault(error));
+            Future<CompletionResponseConsumer.Result> pending = exchange.get();
+            if (result.isCancelled() && pending != null) {
+                pending.cancel(true);
+            }
+        });
+        attemptAsync(provider, prompt, 0, result, exchange);
+        return result;
+    }
+
+    private void attemptAsync(CompletionProvider provider, BudgetedPrompt prompt, int attempt,
+                              CompletableFuture<GeneratedResume> result,
+                              AtomicReference<Future<CompletionResponseConsumer.Result>> exchange) {
+        CompletableFuture<UpstreamLimiter.Permit> admission = upstreamLimiter.acquireAsync(prompt.totalTokens());
+        // Give up the place in the limiter's queue if the caller goes away first
+        result.whenComplete((body, error) -> admission.cancel(false));
+        admission.whenComplete((permit, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            if (result.isDone()) {
+                permit.failed();
+                return;
+            }
+
+            SimpleHttpRequest request;
+            try {
+                request = SimpleRequestBuilder.post(provider.getUrl() + "/chat/completions")
+                    .addHeader("Authorization", "Bearer " + provider.getApiKey())
+                    .setBody(objectMapper.writeValueAsString(buildRequestBody(provider, prompt)),
+                        ContentType.APPLICATION_JSON)
+                    .build();
+            } catch (JsonProcessingException e) {
+                permit.failed();
+                result.completeExceptionally(e);
+                return;
+            }
+
+            logger.info("Sending async request to {} at: {}", provider.getName(), provider.getUrl());
+            exchange.set(upstreamAsyncClient.execute(SimpleRequestProducer.create(request),
+                new CompletionResponseConsumer(generationMetrics), new FutureCallback<>() {
+                @Override
+                public void completed(CompletionResponseConsumer.Result response) {
+                    int code = response.code();
+                    if (response.isSuccess()) {
+                        if (response.parseError() != null) {
+                            permit.failed();
+                            result.completeExceptionally(response.parseError());
+                            return;
+                        }
+                        permit.success();
+                        logger.info("Successfully generated resume");
+                        result.complete(response.completion());
+                        return;
+                    }
+
+                    releaseForStatus(permit, code);
+                    if (isRetryable(code) && attempt < upstreamLimiter.getMaxRetries()) {
+                        long delayMs = upstreamLimiter.backoffDelayMs(attempt, response.retryAfter());
+                        logger.warn("{} returned {}, retrying in {}ms (attempt {})", provider.getName(), code, delayMs,
+                            attempt + 1);
+                        upstreamLimiter.delay(delayMs).thenRun(
+                            () -> attemptAsync(provider, prompt, attempt + 1, result, exchange));
+                    } else {
+                        logger.error("{} returned error: {}", provider.getName(), response.errorBody());
+                        result.completeExceptionally(new UpstreamException(code, response.errorBody()));
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    permit.failed();
+                    result.completeExceptionally(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    permit.failed();
+                    result.cancel(false);
+                }
+            }));
+        });
+    }
+
+    /**
+     * Requests a streamed completion and forwards each content delta to
+     * {@code onDelta} as its server-sent event line is read. Only one line is
+     * buffered at a time.
+     */
+    public void stream(BudgetedPrompt prompt, Consumer<String> onDelta) {
+        // Not hedged: deltas already forwarded to the client cannot be taken back
+        providerRouter.called();
+        CompletionProvider provider = providerRouter.select(null);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+        headers.set("Authorization", "Bearer " + provider.getApiKey());
+
+        Map<String, Object> requestBody = buildRequestBody(provider, prompt);
+        requestBody.put("stream", true);
+
+        tracked(provider, () -> withAdmission(prompt, () -> {
+            logger.info("Sending streaming request to {} at: {}", provider.getName(), provider.getUrl());
+            return restTemplate.execute(
+                provider.getUrl() + "/chat/completions",
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(new HttpEntity<>(requestBody, headers)),
+                response -> {
+                    InputStream body = response.getBody();
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+                    try {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (!line.startsWith("data:")) {
+                                continue;
+                            }
+                            String data = line.substring(5).trim();
+                            if ("[DONE]".equals(data)) {
+                                break;
+                            }
+                            JsonNode delta = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+                            if (delta.isTextual() && !delta.asText().isEmpty()) {
+                                onDelta.accept(delta.asText());
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        // Closing the response would read the rest of the stream to reuse the connection
+                        if (body instanceof EofSensorInputStream upstream) {
+                            upstream.abort();
+                        }
+                        throw e;
+                    }
+                    return null;
+                });
+        }));
+        logger.info("Finished streaming resume");
+    }
+
+    /**
+     * Runs a blocking call to {@code provider}, recorded in its latency and
+     * error statistics.
+     */
+    private <T> T tracked(CompletionProvider provider, Supplier<T> call) {
+        provider.started();
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            T result = call.get();
+            succeeded = true;
+            return result;
+        } catch (RuntimeException e) {
+            succeeded = !isProviderFault(e);
+            throw e;
+        } finally {
+            provider.finished(System.nanoTime() - start, succeeded);
+        }
+    }
+
+    /**
+     * Runs a blocking upstream call under the limiter, retrying 429 and 5xx
+     * answers with backoff. A stream is only retried before any body is read,
+     * since the provider rejects before it starts sending.
+     */
+    private <T> T withAdmission(BudgetedPrompt prompt, Supplier<T> call) {
+        for (int attempt = 0; ; attempt++) {
+            UpstreamLimiter.Permit permit = upstreamLimiter.acquire(prompt.totalTokens());
+            try {
+                T result = call.get();
+                permit.success();
+                return result;
+            } catch (HttpStatusCodeException e) {
+                int code = e.getStatusCode().value();
+                releaseForStatus(permit, code);
+                if (!isRetryable(code) || attempt >= upstreamLimiter.getMaxRetries()) {
+                    logger.error("Completion provider returned error: {}", e.getResponseBodyAsString());
+                    throw new UpstreamException(code, e.getResponseBodyAsString());
+                }
+                String retryAfter = e.getResponseHeaders() != null
+                    ? e.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER) : null;
+                long delayMs = upstreamLimiter.backoffDelayMs(attempt, retryAfter);
+                logger.warn("Completion provider returned {}, retrying in {}ms (attempt {})", code, delayMs,
+                    attempt + 1);
+                sleep(delayMs);
+            } catch (UpstreamException e) {
+                releaseForStatus(permit, e.getStatusCode());
+                throw e;
+            } catch (RuntimeException e) {
+                permit.failed();
+                throw e;
+            }
+        }
+    }
+
+    private static void releaseForStatus(UpstreamLimiter.Permit permit, int code) {
+        if (code == 429) {
+            permit.throttled();
+        } else {
+            permit.failed();
+        }
+    }
+
+    private static boolean isRetryable(int code) {
+        return code == 429 || code >= 500;
+    }
+
+    /**
+     * Whether {@code error} counts against the backend: a rejected request
+     * (4xx other than 429) is the caller's fault, not the backend's, and a
+     * call the limiter never admitted did not reach it.
+     */
+    private static boolean isProviderFault(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof UpstreamException upstream) {
+            return isRetryable(upstream.getStatusCode());
+        }
+        if (error instanceof UpstreamSaturatedException) {
+            return false;
+        }
+        if (error instanceof HttpStatusCodeException status) {
+            return isRetryable(status.getStatusCode().value());
+        }
+        return true;
+    }
+
+    private static void sleep(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+
+    private static Map<String, Object> buildRequestBody(CompletionProvider provider, BudgetedPrompt prompt) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", provider.getModel());
+        requestBody.put("messages", List.of(Map.of("role", "user", "content", prompt.text())));
+        requestBody.put("max_tokens", prompt.maxTokens());
+        requestBody.put("temperature", TEMPERATURE);
+        return requestBody;
+    }
+
+    /**
+     * A call raced across two backends. The first goes out at once; the
+     * hedge goes to the second backend once the first has been waiting for
+     * the router's hedge delay, or as soon as the first fails for a reason
+     * the other backend might not share. The first success completes the
+     * call and cancels the other exchange, which releases its connection;
+     * the call fails only when every exchange sent has failed. Cancelling
+     * the returned future cancels both.
+     */
+    private final class HedgedCall {
+        private final BudgetedPrompt prompt;
+        private final CompletionProvider secondary;
+        private final CompletableFuture<GeneratedResume> result = new CompletableFuture<>();
+        // Guarded by this; the primary's exchange is first
+        private final List<CompletableFuture<GeneratedResume>> exchanges = new ArrayList<>(2);
+        private boolean hedged;
+        private int running;
+
+        HedgedCall(BudgetedPrompt prompt, CompletionProvider secondary) {
+            this.prompt = prompt;
+            this.secondary = secondary;
+        }
+
+        CompletableFuture<GeneratedResume> start(CompletionProvider primary) {
+            result.whenComplete((body, error) -> {
+                if (result.isCancelled()) {
+                    cancelOthers(null);
+                }
+            });
+            long delayMs = providerRouter.hedgeDelayMs(primary);
+            send(primary);
+            upstreamLimiter.delay(delayMs).thenRun(() -> {
+                synchronized (this) {
+                    if (!result.isDone() && !hedged && providerRouter.tryHedge()) {
+                        logger.info("{} has not answered in {}ms, hedging on {}", primary.getName(), delayMs,
+                            secondary.getName());
+                        hedged = true;
+                        send(secondary);
+                    }
+                }
+            });
+            return result;
+        }
+
+        private synchronized void send(CompletionProvider provider) {
+            running++;
+            CompletableFuture<GeneratedResume> exchange = exchange(provider, prompt);
+            exchanges.add(exchange);
+            exchange.whenComplete((body, error) -> finished(exchange, body, error));
+        }
+
+        private void finished(CompletableFuture<GeneratedResume> exchange, GeneratedResume body, Throwable error) {
+            synchronized (this) {
+                running--;
+                if (result.isDone()) {
+                    return;
+                }
+                if (error != null) {
+                    if (running > 0) {
+                        return;
+                    }
+                    if (!hedged && isProviderFault(error) && providerRouter.tryHedge()) {
+                        logger.warn("Completion failed ({}), retrying on {}", error.getMessage(), secondary.getName());
+                        hedged = true;
+                        send(secondary);
+                        return;
+                    }
+                    if (hedged) {
+                        providerRouter.recordHedge("failed");
+                    }
+                    result.completeExceptionally(error);
+                    return;
+                }
+                if (hedged) {
+                    providerRouter.recordHedge(exchange == exchanges.get(0) ? "lost" : "won");
+                }
+                result.complete(body);
+            }
+            cancelOthers(exchange);
+        }
+
+        private void cancelOthers(CompletableFuture<GeneratedResume> winner) {
+            List<CompletableFuture<GeneratedResume>> pending;
+            synchronized (this) {
+                pending = new ArrayList<>(exchanges);
+            }
+            for (CompletableFuture<GeneratedResume> exchange : pending) {
+                if (exchange != winner) {
+                    exchange.cancel(true);
+                }
+            }
+        }
+    }
+}
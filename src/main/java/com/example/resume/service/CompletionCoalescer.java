@@ -0,0 +1,93 @@
+package com.example.resume.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight deduplication of upstream calls: while a completion for a
+ * key is pending, further callers with the same key attach to that pending
+ * future instead of issuing their own request. The key map is a
+ * {@link ConcurrentHashMap}, so lookups are lock-free and inserts only
+ * contend per bin. Callers sharing a key must expect the same result type.
+ */
+@Component
+public class CompletionCoalescer {
+    private static final Logger logger = LoggerFactory.getLogger(CompletionCoalescer.class);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs {@code call} on the calling thread unless an identical call is
+     * already pending, in which case this blocks until that one finishes.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        CompletableFuture<T> pending = new CompletableFuture<>();
+        CompletableFuture<T> existing = (CompletableFuture<T>) (CompletableFuture<?>) inFlight.putIfAbsent(key,
+            (CompletableFuture<Object>) (CompletableFuture<?>) pending);
+        if (existing != null) {
+            logger.debug("Joining in-flight completion {}", key);
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        try {
+            T result = call.get();
+            pending.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}. Each caller gets its own
+     * copy of the shared future, so one caller cancelling does not cancel
+     * the upstream call for the others.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> pending = new CompletableFuture<>();
+        CompletableFuture<T> existing = (CompletableFuture<T>) (CompletableFuture<?>) inFlight.putIfAbsent(key,
+            (CompletableFuture<Object>) (CompletableFuture<?>) pending);
+        if (existing != null) {
+            logger.debug("Joining in-flight completion {}", key);
+            return existing.copy();
+        }
+
+        CompletableFuture<T> upstream;
+        try {
+            upstream = call.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(key, pending);
+            pending.completeExceptionally(e);
+            return pending.copy();
+        }
+        upstream.whenComplete((result, error) -> {
+            inFlight.remove(key, pending);
+            if (error != null) {
+                pending.completeExceptionally(error);
+            } else {
+                pending.complete(result);
+            }
+        });
+        return pending.copy();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.resume.service;
+
+import com.example.resume.model.GeneratedResume;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Pulls {@code model}, {@code choices[0].message.content},
+ * {@code choices[0].finish_reason} and {@code usage} out of a chat completion
+ * response token by token, without building the body string or a tree.
+ * <p>
+ * {@link #parse(InputStream)} reads a blocking stream. For the async client,
+ * {@link #nonBlocking()} returns an instance that is fed body chunks as they
+ * arrive with {@link #feed(ByteBuffer)} and closed with {@link #finish()}.
+ */
+public final class CompletionParser {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final GeneratedResume result = new GeneratedResume();
+
+    private CompletionParser(JsonParser parser, ByteBufferFeeder feeder) {
+        this.parser = parser;
+        this.feeder = feeder;
+    }
+
+    public static GeneratedResume parse(InputStream body) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            CompletionParser completion = new CompletionParser(parser, null);
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                completion.accept(token);
+            }
+            return completion.result();
+        }
+    }
+
+    public static CompletionParser nonBlocking() throws IOException {
+        JsonParser parser = JSON.createNonBlockingByteBufferParser();
+        return new CompletionParser(parser, (ByteBufferFeeder) parser.getNonBlockingInputFeeder());
+    }
+
+    /**
+     * Consumes all of {@code chunk}. Partial tokens are carried over to the next chunk.
+     */
+    public void feed(ByteBuffer chunk) throws IOException {
+        feeder.feedInput(chunk);
+        drain();
+    }
+
+    public GeneratedResume finish() throws IOException {
+        feeder.endOfInput();
+        drain();
+        parser.close();
+        return result();
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            accept(token);
+        }
+    }
+
+    private void accept(JsonToken token) throws IOException {
+        if (!token.isScalarValue()) {
+            return;
+        }
+        JsonStreamContext object = parser.getParsingContext();
+        String field = object.getCurrentName();
+        if (field == null || !object.inObject()) {
+            return;
+        }
+        JsonStreamContext parent = object.getParent();
+        if (parent.inRoot()) {
+            if ("model".equals(field)) {
+                result.setModel(parser.getValueAsString());
+            }
+        } else if (isRootField(parent, "usage")) {
+            readUsage(field);
+        } else if (isFirstChoice(parent)) {
+            if ("finish_reason".equals(field)) {
+                result.setFinishReason(parser.getValueAsString());
+            }
+        } else if ("content".equals(field) && "message".equals(parent.getCurrentName())
+            && isFirstChoice(parent.getParent())) {
+            result.setContent(parser.getValueAsString());
+        }
+    }
+
+    private void readUsage(String field) throws IOException {
+        GeneratedResume.Usage usage = result.getUsage();
+        if (usage == null) {
+            usage = new GeneratedResume.Usage();
+            result.setUsage(usage);
+        }
+        switch (field) {
+            case "prompt_tokens" -> usage.setPromptTokens(parser.getValueAsInt());
+            case "completion_tokens" -> usage.setCompletionTokens(parser.getValueAsInt());
+            case "total_tokens" -> usage.setTotalTokens(parser.getValueAsInt());
+            default -> { }
+        }
+    }
+
+    // The top-level object, while positioned on the value of "name"
+    private static boolean isRootField(JsonStreamContext context, String name) {
+        return context.inObject() && name.equals(context.getCurrentName()) && context.getParent().inRoot();
+    }
+
+    // The context holding the first element of the top-level "choices" array
+    private static boolean isFirstChoice(JsonStreamContext array) {
+        return array != null && array.inArray() && array.getCurrentIndex() == 0 && isRootField(array.getParent(), "choices");
+    }
+
+    private GeneratedResume result() {
+        if (result.getContent() == null) {
+            throw new UpstreamException(502, "completion response had no choices[0].message.content");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.resume.service;
+
+import java.util.Arrays;
+
+/**
+ * One OpenAI-compatible chat completions backend and the running record of
+ * how it has been answering: an EWMA of its latency and of its error rate,
+ * the calls in flight, and a window of recent latencies for percentiles.
+ * <p>
+ * A call abandoned because a hedge won is recorded as a success as slow as
+ * the time it had taken, a lower bound on its real latency. Without that a
+ * backend that always loses would never look slow. The error rate decays
+ * with time since the last call, so a backend that stops getting traffic
+ * after a bad spell is eventually tried again.
+ */
+public final class CompletionProvider {
+
+    private static final int WINDOW = 128;
+
+    private final String name;
+    private final String url;
+    private final String apiKey;
+    private final String model;
+
+    private final double alpha;
+    private final double errorHalfLifeNanos;
+
+    // Guarded by this
+    private double latencyEwma;
+    private double errorEwma;
+    private long lastUpdateNanos;
+    private int inFlight;
+    private long calls;
+    private final long[] window = new long[WINDOW];
+    private int windowSize;
+    private int windowNext;
+
+    public CompletionProvider(String name, String url, String apiKey, String model, double alpha,
+                              long errorHalfLifeMs) {
+        this.name = name;
+        this.url = url;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.alpha = alpha;
+        this.errorHalfLifeNanos = errorHalfLifeMs * 1_000_000.0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * Whether this backend has a real key; the {@code mock-api-key}
+     * placeholder means it is not set up.
+     */
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isEmpty() && !"mock-api-key".equals(apiKey);
+    }
+
+    public synchronized void started() {
+        inFlight++;
+    }
+
+    /**
+     * Records a finished call that took {@code latencyNanos}.
+     */
+    public synchronized void finished(long latencyNanos, boolean succeeded) {
+        inFlight--;
+        long now = System.nanoTime();
+        double error = decayedErrorRate(now);
+        if (calls++ == 0) {
+            latencyEwma = latencyNanos;
+            errorEwma = succeeded ? 0 : 1;
+        } else {
+            latencyEwma += alpha * (latencyNanos - latencyEwma);
+            errorEwma = error + alpha * ((succeeded ? 0 : 1) - error);
+        }
+        lastUpdateNanos = now;
+        if (succeeded) {
+            window[windowNext] = latencyNanos;
+            windowNext = (windowNext + 1) % WINDOW;
+            windowSize = Math.min(windowSize + 1, WINDOW);
+        }
+    }
+
+    /**
+     * Expected cost of sending one more call here, lower is better: the
+     * latency EWMA scaled by the calls already waiting on this backend and
+     * divided by its success rate, i.e. roughly the time to a successful
+     * answer if failures were retried. Zero until the first call, so new
+     * backends are tried first.
+     */
+    public synchronized double cost() {
+        double successRate = Math.max(0.05, 1 - decayedErrorRate(System.nanoTime()));
+        return latencyEwma * (inFlight + 1) / successRate;
+    }
+
+    public synchronized double getLatencyEwmaNanos() {
+        return latencyEwma;
+    }
+
+    public synchronized double getErrorRate() {
+        return decayedErrorRate(System.nanoTime());
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * The {@code percentile} (0 to 1) of the recent successful latencies, or
+     * -1 with fewer than {@code minSamples} of them.
+     */
+    public long latencyPercentileNanos(double percentile, int minSamples) {
+        long[] sorted;
+        synchronized (this) {
+            if (windowSize < Math.max(1, minSamples)) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(window, windowSize);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private double decayedErrorRate(long now) {
+        if (errorEwma == 0 || errorHalfLifeNanos <= 0) {
+            return errorEwma;
+        }
+        return errorEwma * Math.pow(0.5, (now - lastUpdateNanos) / errorHalfLifeNanos);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
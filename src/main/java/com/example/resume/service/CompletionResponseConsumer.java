@@ -0,0 +1,102 @@
+package com.example.resume.service;
+
+import com.example.resume.model.GeneratedResume;
+import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Async response consumer that feeds a successful body straight into a
+ * non-blocking {@link CompletionParser} as chunks arrive, so the completion
+ * envelope is never buffered. Error bodies are small and kept as text for
+ * the {@link UpstreamException}.
+ */
+class CompletionResponseConsumer extends AbstractBinResponseConsumer<CompletionResponseConsumer.Result> {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final GenerationMetrics metrics;
+    private int code;
+    private String retryAfter;
+    private CompletionParser parser;
+    private ByteArrayOutputStream errorBody;
+    private GeneratedResume completion;
+    private RuntimeException parseError;
+    private long parseNanos;
+
+    CompletionResponseConsumer(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void start(HttpResponse response, ContentType contentType) throws IOException {
+        code = response.getCode();
+        Header header = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+        retryAfter = header != null ? header.getValue() : null;
+        if (code >= 200 && code < 300) {
+            parser = CompletionParser.nonBlocking();
+        } else {
+            errorBody = new ByteArrayOutputStream();
+        }
+    }
+
+    @Override
+    protected int capacityIncrement() {
+        return CHUNK_SIZE;
+    }
+
+    @Override
+    protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+        if (parser != null) {
+            long start = System.nanoTime();
+            parser.feed(src);
+            parseNanos += System.nanoTime() - start;
+        } else if (errorBody != null) {
+            while (src.hasRemaining()) {
+                errorBody.write(src.get());
+            }
+        }
+    }
+
+    @Override
+    protected Result buildResult() {
+        if (parser != null) {
+            long start = System.nanoTime();
+            try {
+                completion = parser.finish();
+            } catch (IOException e) {
+                parseError = new UpstreamException(502, "malformed completion response: " + e.getMessage());
+            } catch (RuntimeException e) {
+                parseError = e;
+            }
+            // Parsing time only; unlike the blocking path this excludes waiting for body chunks
+            metrics.record(GenerationMetrics.Stage.RESPONSE_PARSE, parseNanos + System.nanoTime() - start);
+        }
+        String error = errorBody != null ? errorBody.toString(StandardCharsets.UTF_8) : null;
+        return new Result(code, retryAfter, completion, error, parseError);
+    }
+
+    @Override
+    public void releaseResources() {
+        parser = null;
+        errorBody = null;
+    }
+
+    /**
+     * Status and either the parsed completion or the error body.
+     */
+    record Result(int code, String retryAfter, GeneratedResume completion, String errorBody,
+                  RuntimeException parseError) {
+
+        boolean isSuccess() {
+            return code >= 200 && code < 300;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.resume.service;
+
+import java.util.Locale;
+
+/**
+ * Downloadable document formats a generated resume can be rendered to.
+ */
+public enum DocumentFormat {
+    PDF("application/pdf"),
+    DOCX("application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+
+    private final String contentType;
+
+    DocumentFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code name} is not a supported format
+     */
+    public static DocumentFormat fromName(String name) {
+        for (DocumentFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported document format: " + name);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.resume.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns generated resume text into a downloadable document. Callers run it
+ * on the render pool (see {@code ExecutorConfig#renderExecutor}); layout is
+ * CPU bound and must not occupy request threads.
+ */
+@Service
+public class DocumentRenderService {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentRenderService.class);
+
+    @Autowired
+    private List<DocumentRenderer> rendererBeans;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<DocumentFormat, DocumentRenderer> renderers = new EnumMap<>(DocumentFormat.class);
+
+    @PostConstruct
+    void init() {
+        for (DocumentRenderer renderer : rendererBeans) {
+            renderers.put(renderer.format(), renderer);
+        }
+        for (DocumentFormat format : DocumentFormat.values()) {
+            if (!renderers.containsKey(format)) {
+                throw new IllegalStateException("No renderer for document format " + format);
+            }
+        }
+    }
+
+    /**
+     * Renders {@code content} as {@code format} into {@code out}, which is left open.
+     */
+    public void render(String content, DocumentFormat format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            renderers.get(format).render(ResumeMarkup.parse(content), out);
+            outcome = "success";
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to render {} document: {}", format, e.getMessage());
+            throw e;
+        } finally {
+            Timer.builder("resume.render.duration")
+                .description("Time to lay out and write one document")
+                .tag("format", format.getExtension())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.resume.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Lays out a parsed resume as one document format. Implementations are
+ * shared across threads: fonts and static parts are prepared once, and each
+ * call writes straight to {@code out} without closing it.
+ */
+public interface DocumentRenderer {
+
+    DocumentFormat format();
+
+    void render(List<ResumeMarkup.Block> blocks, OutputStream out) throws IOException;
+}
@@ -0,0 +1,213 @@
+package com.example.resume.service;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Renders resumes to DOCX by writing the WordprocessingML package directly.
+ * Everything except the document body (content types, relationships,
+ * styles and the bullet numbering) is identical for every resume, so those
+ * parts are encoded once and copied into each archive; only
+ * {@code word/document.xml} is generated, streamed through the zip.
+ */
+@Component
+public class DocxDocumentRenderer implements DocumentRenderer {
+
+    private static final String W = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    private static final String CONTENT_TYPES = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+        + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+        + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+        + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+        + "<Override PartName=\"/word/document.xml\" "
+        + "ContentType=\"application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml\"/>"
+        + "<Override PartName=\"/word/styles.xml\" "
+        + "ContentType=\"application/vnd.openxmlformats-officedocument.wordprocessingml.styles+xml\"/>"
+        + "<Override PartName=\"/word/numbering.xml\" "
+        + "ContentType=\"application/vnd.openxmlformats-officedocument.wordprocessingml.numbering+xml\"/>"
+        + "</Types>";
+
+    private static final String PACKAGE_RELS = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+        + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+        + "<Relationship Id=\"rId1\" "
+        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" "
+        + "Target=\"word/document.xml\"/>"
+        + "</Relationships>";
+
+    private static final String DOCUMENT_RELS = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+        + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+        + "<Relationship Id=\"rId1\" "
+        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles\" Target=\"styles.xml\"/>"
+        + "<Relationship Id=\"rId2\" "
+        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/numbering\" "
+        + "Target=\"numbering.xml\"/>"
+        + "</Relationships>";
+
+    private static final String STYLES = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+        + "<w:styles xmlns:w=\"" + W + "\">"
+        + "<w:docDefaults><w:rPrDefault><w:rPr>"
+        + "<w:rFonts w:ascii=\"Calibri\" w:hAnsi=\"Calibri\" w:eastAsia=\"Calibri\" w:cs=\"Calibri\"/>"
+        + "<w:sz w:val=\"21\"/><w:szCs w:val=\"21\"/></w:rPr></w:rPrDefault>"
+        + "<w:pPrDefault><w:pPr><w:spacing w:after=\"60\" w:line=\"264\" w:lineRule=\"auto\"/></w:pPr></w:pPrDefault>"
+        + "</w:docDefaults>"
+        + "<w:style w:type=\"paragraph\" w:default=\"1\" w:styleId=\"Normal\"><w:name w:val=\"Normal\"/></w:style>"
+        + "<w:style w:type=\"paragraph\" w:styleId=\"Title\"><w:name w:val=\"Title\"/>"
+        + "<w:basedOn w:val=\"Normal\"/><w:pPr><w:jc w:val=\"center\"/><w:spacing w:after=\"120\"/></w:pPr>"
+        + "<w:rPr><w:b/><w:color w:val=\"1F3864\"/><w:sz w:val=\"40\"/><w:szCs w:val=\"40\"/></w:rPr></w:style>"
+        + "<w:style w:type=\"paragraph\" w:styleId=\"Heading1\"><w:name w:val=\"heading 1\"/>"
+        + "<w:basedOn w:val=\"Normal\"/><w:next w:val=\"Normal\"/>"
+        + "<w:pPr><w:keepNext/><w:spacing w:before=\"240\" w:after=\"80\"/>"
+        + "<w:pBdr><w:bottom w:val=\"single\" w:sz=\"6\" w:space=\"1\" w:color=\"1F3864\"/></w:pBdr>"
+        + "<w:outlineLvl w:val=\"0\"/></w:pPr>"
+        + "<w:rPr><w:b/><w:caps/><w:color w:val=\"1F3864\"/><w:sz w:val=\"24\"/><w:szCs w:val=\"24\"/></w:rPr>"
+        + "</w:style>"
+        + "<w:style w:type=\"paragraph\" w:styleId=\"ListBullet\"><w:name w:val=\"List Bullet\"/>"
+        + "<w:basedOn w:val=\"Normal\"/><w:pPr><w:numPr><w:ilvl w:val=\"0\"/><w:numId w:val=\"1\"/></w:numPr>"
+        + "<w:spacing w:after=\"20\"/></w:pPr></w:style>"
+        + "</w:styles>";
+
+    private static final String NUMBERING = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+        + "<w:numbering xmlns:w=\"" + W + "\">"
+        + "<w:abstractNum w:abstractNumId=\"0\"><w:multiLevelType w:val=\"singleLevel\"/>"
+        + "<w:lvl w:ilvl=\"0\"><w:start w:val=\"1\"/><w:numFmt w:val=\"bullet\"/><w:lvlText w:val=\"•\"/>"
+        + "<w:lvlJc w:val=\"left\"/><w:pPr><w:ind w:left=\"360\" w:hanging=\"360\"/></w:pPr></w:lvl>"
+        + "</w:abstractNum>"
+        + "<w:num w:numId=\"1\"><w:abstractNumId w:val=\"0\"/></w:num>"
+        + "</w:numbering>";
+
+    private static final String DOCUMENT_START = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+        + "<w:document xmlns:w=\"" + W + "\"><w:body>";
+
+    // US Letter with 0.75in margins, in twentieths of a point
+    private static final String DOCUMENT_END = "<w:sectPr><w:pgSz w:w=\"12240\" w:h=\"15840\"/>"
+        + "<w:pgMar w:top=\"1080\" w:right=\"1080\" w:bottom=\"1080\" w:left=\"1080\" w:header=\"720\" "
+        + "w:footer=\"720\" w:gutter=\"0\"/></w:sectPr></w:body></w:document>";
+
+    private final byte[] contentTypes = CONTENT_TYPES.getBytes(StandardCharsets.UTF_8);
+    private final byte[] packageRels = PACKAGE_RELS.getBytes(StandardCharsets.UTF_8);
+    private final byte[] documentRels = DOCUMENT_RELS.getBytes(StandardCharsets.UTF_8);
+    private final byte[] styles = STYLES.getBytes(StandardCharsets.UTF_8);
+    private final byte[] numbering = NUMBERING.getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public DocumentFormat format() {
+        return DocumentFormat.DOCX;
+    }
+
+    @Override
+    public void render(List<ResumeMarkup.Block> blocks, OutputStream out) throws IOException {
+        // Closed to release the deflater, but without closing the caller's stream
+        try (ZipOutputStream zip = new ZipOutputStream(new NonClosingOutputStream(out))) {
+            // Documents are small; favour throughput over a few percent of size
+            zip.setLevel(Deflater.BEST_SPEED);
+            part(zip, "[Content_Types].xml", contentTypes);
+            part(zip, "_rels/.rels", packageRels);
+            part(zip, "word/_rels/document.xml.rels", documentRels);
+            part(zip, "word/styles.xml", styles);
+            part(zip, "word/numbering.xml", numbering);
+
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            Writer xml = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 8192);
+            xml.write(DOCUMENT_START);
+            for (ResumeMarkup.Block block : blocks) {
+                paragraph(xml, block);
+            }
+            xml.write(DOCUMENT_END);
+            xml.flush();
+            zip.closeEntry();
+        }
+    }
+
+    private static void part(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    private static void paragraph(Writer xml, ResumeMarkup.Block block) throws IOException {
+        xml.write("<w:p>");
+        switch (block.type()) {
+            case TITLE:
+                xml.write("<w:pPr><w:pStyle w:val=\"Title\"/></w:pPr>");
+                break;
+            case HEADING:
+                xml.write("<w:pPr><w:pStyle w:val=\"Heading1\"/></w:pPr>");
+                break;
+            case BULLET:
+                xml.write("<w:pPr><w:pStyle w:val=\"ListBullet\"/></w:pPr>");
+                break;
+            default:
+                break;
+        }
+        for (ResumeMarkup.Run run : block.runs()) {
+            xml.write(run.bold() ? "<w:r><w:rPr><w:b/></w:rPr><w:t xml:space=\"preserve\">" : "<w:r><w:t xml:space=\"preserve\">");
+            escape(xml, run.text());
+            xml.write("</w:t></w:r>");
+        }
+        xml.write("</w:p>");
+    }
+
+    /**
+     * Escapes markup characters and drops control characters XML 1.0 cannot carry.
+     */
+    private static void escape(Writer xml, String text) throws IOException {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement;
+            if (c == '&') {
+                replacement = "&amp;";
+            } else if (c == '<') {
+                replacement = "&lt;";
+            } else if (c == '>') {
+                replacement = "&gt;";
+            } else if (c < 0x20 && c != '\t') {
+                replacement = "";
+            } else {
+                continue;
+            }
+            xml.write(text, start, i - start);
+            xml.write(replacement);
+            start = i + 1;
+        }
+        xml.write(text, start, text.length() - start);
+    }
+
+    private static final class NonClosingOutputStream extends OutputStream {
+        private final OutputStream out;
+
+        NonClosingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.resume.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Meters for the generation pipeline, so a slow request can be attributed
+ * to our own work or to the provider.
+ * <ul>
+ *   <li>{@code resume.generation.duration} (mode, input, path, outcome): the
+ *       whole generation as seen by {@link ResumeService}.</li>
+ *   <li>{@code resume.generation.stage} (stage): validation, prompt_build,
+ *       upstream (admission and retries included), upstream_connect (pool
+ *       lease plus any new connection), upstream_ttfb (request sent until
+ *       response headers) and response_parse (body read and parsed).</li>
+ *   <li>{@code resume.generation.requests} (input, path) and
+ *       {@code resume.generation.errors} (category) counters.</li>
+ * </ul>
+ * Timers publish histogram buckets, so the Prometheus endpoint can serve
+ * quantiles aggregated across instances.
+ */
+@Component
+public class GenerationMetrics {
+
+    public enum Stage {
+        VALIDATION, PROMPT_BUILD, UPSTREAM, UPSTREAM_CONNECT, UPSTREAM_TTFB, RESPONSE_PARSE
+    }
+
+    public static final String PATH_MOCK = "mock";
+    public static final String PATH_CACHE = "cache";
+    public static final String PATH_NEAR_DUPLICATE = "near_duplicate";
+    public static final String PATH_UPSTREAM = "upstream";
+    public static final String PATH_FALLBACK = "fallback";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Stage, Timer> stages = new EnumMap<>(Stage.class);
+
+    @PostConstruct
+    void init() {
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, Timer.builder("resume.generation.stage")
+                .description("Time spent in one stage of resume generation")
+                .tag("stage", stage.name().toLowerCase())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(120))
+                .register(meterRegistry));
+        }
+    }
+
+    public void record(Stage stage, long nanos) {
+        stages.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public <T> T time(Stage stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Starts timing one generation request; {@link Request#end()} records it.
+     */
+    public Request begin(String mode) {
+        return new Request(mode);
+    }
+
+    /**
+     * Buckets a failure into a small, fixed set of categories for the errors counter.
+     */
+    public static String errorCategory(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof IllegalArgumentException) {
+            return "validation";
+        }
+        if (error instanceof UpstreamSaturatedException) {
+            return "upstream_saturated";
+        }
+        if (error instanceof UpstreamException upstream) {
+            int code = upstream.getStatusCode();
+            return code == 429 ? "upstream_throttled" : code >= 500 ? "upstream_server" : "upstream_client";
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException || cause instanceof TimeoutException
+                || cause.getClass().getSimpleName().contains("Timeout")) {
+                return "upstream_timeout";
+            }
+            if (cause instanceof IOException) {
+                return "upstream_io";
+            }
+        }
+        return "internal";
+    }
+
+    /**
+     * One generation request. Not thread-safe; the async path hands it from
+     * the request thread to the completion callback, which happens-after.
+     */
+    public final class Request {
+        private final String mode;
+        private final long startNanos = System.nanoTime();
+        private String input = "unknown";
+        private String path = "none";
+        private Throwable error;
+
+        private Request(String mode) {
+            this.mode = mode;
+        }
+
+        public void input(PromptTemplate.Kind kind) {
+            this.input = kind.name().toLowerCase();
+        }
+
+        public void path(String path) {
+            this.path = path;
+        }
+
+        public void fail(Throwable error) {
+            this.error = error;
+        }
+
+        public void end() {
+            String outcome = error == null ? "success" : "error";
+            Timer.builder("resume.generation.duration")
+                .description("End-to-end resume generation time")
+                .tag("mode", mode)
+                .tag("input", input)
+                .tag("path", path)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(120))
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            Counter.builder("resume.generation.requests")
+                .description("Resume generation requests by input type and serving path")
+                .tag("input", input)
+                .tag("path", path)
+                .register(meterRegistry)
+                .increment();
+            if (error != null) {
+                Counter.builder("resume.generation.errors")
+                    .description("Failed resume generations by error category")
+                    .tag("category", errorCategory(error))
+                    .register(meterRegistry)
+                    .increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.example.resume.service;
+
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.HistoryEntry;
+import com.example.resume.model.Resume;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Append-only history of generated resumes.
+ * <p>
+ * Entries are JSON lines in {@code resume.history.path}. An in-memory index
+ * maps each id to its byte range in the file, and each email and prompt hash
+ * to its ids, newest first; a lookup is a hash probe plus one positional
+ * read. {@link #record} only enqueues: a single writer thread drains the
+ * queue in batches, appends each batch with one write (and one fsync when
+ * {@code resume.history.fsync} is set), then publishes the new offsets.
+ * Until then the entry is served from memory, so it is readable at once.
+ * A full queue drops the entry rather than slowing the caller.
+ * <p>
+ * On startup the index is rebuilt by scanning the file; a torn last line
+ * from a crash is cut off. The file is locked for the lifetime of the
+ * store, and a second instance pointed at it runs without history.
+ */
+@Component
+public class HistoryStore {
+    private static final Logger logger = LoggerFactory.getLogger(HistoryStore.class);
+
+    private record Location(long offset, int length) {
+    }
+
+    @Value("${resume.history.enabled:true}")
+    private boolean enabled;
+
+    @Value("${resume.history.path:data/history.log}")
+    private String path;
+
+    @Value("${resume.history.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${resume.history.batch-size:256}")
+    private int batchSize;
+
+    @Value("${resume.history.fsync:true}")
+    private boolean fsync;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Location> locations = new ConcurrentHashMap<>();
+    private final Map<String, HistoryEntry> pending = new ConcurrentHashMap<>();
+    private final Map<String, Deque<String>> byEmail = new ConcurrentHashMap<>();
+    private final Map<String, Deque<String>> byPromptHash = new ConcurrentHashMap<>();
+    // Filled while the log is loaded, until replayFingerprints takes them
+    private final Map<String, String> recoveredFingerprints = new LinkedHashMap<>();
+
+    private BlockingQueue<HistoryEntry> queue;
+    private FileChannel channel;
+    // Only touched by the writer thread after startup
+    private long end;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            logger.info("Resume history is disabled");
+            return;
+        }
+        Path file = Path.of(path).toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        if (!lock(opened)) {
+            // Two writers appending at their own offsets would interleave and corrupt the log
+            logger.warn("History file {} is in use by another instance; history is disabled", file);
+            opened.close();
+            return;
+        }
+        channel = opened;
+        end = rebuildIndex();
+        logger.info("Loaded {} resume history entries from {}", locations.size(), file);
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("resume.history.queue", queue, BlockingQueue::size)
+            .description("History entries waiting to be written")
+            .register(meterRegistry);
+        running = true;
+        writer = new Thread(this::drain, "history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void close() throws IOException, InterruptedException {
+        if (channel == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        channel.force(true);
+        channel.close();
+    }
+
+    /**
+     * Queues a generation for storage and returns its id, or null when the
+     * history is disabled or the write queue is full.
+     */
+    public String record(Resume resume, String promptHash, GeneratedResume result) {
+        return record(resume, promptHash, result, null);
+    }
+
+    /**
+     * As {@link #record(Resume, String, GeneratedResume)}, storing the
+     * input's near-duplicate fingerprint with the entry.
+     */
+    public String record(Resume resume, String promptHash, GeneratedResume result, String fingerprint) {
+        if (queue == null) {
+            return null;
+        }
+        HistoryEntry entry = new HistoryEntry();
+        entry.setId(UUID.randomUUID().toString());
+        entry.setCreatedAt(Instant.now());
+        entry.setEmail(normalize(resume.getEmail()));
+        entry.setPromptHash(promptHash);
+        entry.setFingerprint(fingerprint);
+        entry.setResume(resume);
+        entry.setResult(result);
+
+        pending.put(entry.getId(), entry);
+        if (!queue.offer(entry)) {
+            pending.remove(entry.getId());
+            meterRegistry.counter("resume.history.writes", "outcome", "dropped").increment();
+            logger.warn("History write queue is full, dropping entry");
+            return null;
+        }
+        index(entry.getId(), entry.getEmail(), promptHash);
+        return entry.getId();
+    }
+
+    public boolean isEnabled() {
+        return queue != null;
+    }
+
+    /**
+     * Hands the fingerprints found while loading the log to {@code consumer}
+     * as (id, fingerprint), oldest first, then forgets them.
+     */
+    public synchronized void replayFingerprints(BiConsumer<String, String> consumer) {
+        recoveredFingerprints.forEach(consumer);
+        recoveredFingerprints.clear();
+    }
+
+    public HistoryEntry get(String id) {
+        HistoryEntry entry = pending.get(id);
+        if (entry != null) {
+            return entry;
+        }
+        Location location = locations.get(id);
+        if (location == null) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(location.length());
+            long position = location.offset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    throw new IOException("History file ends inside entry " + id);
+                }
+            }
+            return objectMapper.readValue(buffer.array(), HistoryEntry.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read history entry " + id, e);
+        }
+    }
+
+    /**
+     * Entries generated for {@code email}, newest first.
+     */
+    public List<HistoryEntry> findByEmail(String email, int limit) {
+        String key = normalize(email);
+        return key == null ? Collections.emptyList() : resolve(byEmail.get(key), limit);
+    }
+
+    /**
+     * Entries whose prompt hashed to {@code promptHash}, newest first.
+     */
+    public List<HistoryEntry> findByPromptHash(String promptHash, int limit) {
+        return promptHash == null ? Collections.emptyList() : resolve(byPromptHash.get(promptHash), limit);
+    }
+
+    private List<HistoryEntry> resolve(Deque<String> ids, int limit) {
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        List<HistoryEntry> entries = new ArrayList<>(Math.min(limit, 16));
+        for (String id : ids) {
+            if (entries.size() >= limit) {
+                break;
+            }
+            HistoryEntry entry = get(id);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private void drain() {
+        List<HistoryEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                HistoryEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+                meterRegistry.counter("resume.history.writes", "outcome", "written").increment(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to write {} history entries: {}", batch.size(), e.getMessage(), e);
+                meterRegistry.counter("resume.history.writes", "outcome", "failed").increment(batch.size());
+                for (HistoryEntry entry : batch) {
+                    pending.remove(entry.getId());
+                }
+                truncateQuietly();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<HistoryEntry> batch) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(batch.size() * 2048);
+        int[] offsets = new int[batch.size()];
+        int[] lengths = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            offsets[i] = buffer.size();
+            buffer.write(objectMapper.writeValueAsBytes(batch.get(i)));
+            lengths[i] = buffer.size() - offsets[i];
+            buffer.write('\n');
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        long position = end;
+        while (bytes.hasRemaining()) {
+            position += channel.write(bytes, position);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            String id = batch.get(i).getId();
+            locations.put(id, new Location(end + offsets[i], lengths[i]));
+            pending.remove(id);
+        }
+        end = position;
+    }
+
+    private static boolean lock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock() != null;
+        } catch (OverlappingFileLockException e) {
+            return false;
+        }
+    }
+
+    private void truncateQuietly() {
+        try {
+            channel.truncate(end);
+        } catch (IOException e) {
+            logger.error("Failed to truncate history file after a failed write: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Scans the log once, indexing every complete line. Returns the offset
+     * new entries are appended at.
+     */
+    private long rebuildIndex() throws IOException {
+        long offset = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream(4096);
+        InputStream in = new BufferedInputStream(Channels.newInputStream(channel.position(0)), 1 << 16);
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (b != '\n') {
+                line.write(b);
+                continue;
+            }
+            indexLine(line.toByteArray(), offset);
+            offset += line.size() + 1;
+            line.reset();
+        }
+        if (line.size() > 0) {
+            logger.warn("Discarding {} bytes of incomplete history entry at offset {}", line.size(), offset);
+            channel.truncate(offset);
+        }
+        return offset;
+    }
+
+    private void indexLine(byte[] line, long offset) {
+        String id = null;
+        String email = null;
+        String promptHash = null;
+        String fingerprint = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> id = parser.getValueAsString();
+                    case "email" -> email = parser.getValueAsString();
+                    case "promptHash" -> promptHash = parser.getValueAsString();
+                    case "fingerprint" -> fingerprint = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Skipping unreadable history entry at offset {}: {}", offset, e.getMessage());
+            return;
+        }
+        if (id != null) {
+            locations.put(id, new Location(offset, line.length));
+            index(id, email, promptHash);
+            if (fingerprint != null) {
+                recoveredFingerprints.put(id, fingerprint);
+            }
+        }
+    }
+
+    private void index(String id, String email, String promptHash) {
+        if (email != null) {
+            byEmail.computeIfAbsent(email, key -> new ConcurrentLinkedDeque<>()).addFirst(id);
+        }
+        if (promptHash != null) {
+            byPromptHash.computeIfAbsent(promptHash, key -> new ConcurrentLinkedDeque<>()).addFirst(id);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
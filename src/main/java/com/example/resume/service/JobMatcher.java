@@ -0,0 +1,247 @@
+package com.example.resume.service;
+
+import com.example.resume.model.JobPosting;
+import com.example.resume.model.PostingMatch;
+import com.example.resume.model.Resume;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * Matches resumes against job postings without calling the model. The
+ * corpus at {@code resume.matching.corpus} (JSON lines of
+ * {@link JobPosting}) is indexed at startup; a resume's skills,
+ * responsibilities and achievements become a weighted BM25 query, and a
+ * match lists which of the job's keywords the resume has and lacks. The
+ * keywords it has also become the prompt's emphasis hint when a request
+ * names a target job.
+ */
+@Service
+public class JobMatcher {
+    private static final Logger logger = LoggerFactory.getLogger(JobMatcher.class);
+
+    // Listed skills say more about a candidate than words in their bullet points
+    private static final float SKILL_WEIGHT = 2f;
+    private static final float TEXT_WEIGHT = 1f;
+
+    @Value("${resume.matching.corpus:classpath:postings/sample.jsonl}")
+    private String corpus;
+
+    @Value("${resume.matching.keywords:12}")
+    private int keywordLimit;
+
+    @Value("${resume.matching.emphasis-size:8}")
+    private int emphasisSize;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private volatile PostingIndex index = PostingIndex.build(List.of());
+
+    @PostConstruct
+    void load() throws IOException {
+        Gauge.builder("resume.matching.postings", this, matcher -> matcher.index.size())
+            .description("Job postings in the matching index")
+            .register(meterRegistry);
+
+        Resource resource = new DefaultResourceLoader().getResource(corpus);
+        if (!resource.exists()) {
+            logger.warn("Job posting corpus {} not found, matching is disabled", corpus);
+            return;
+        }
+        long start = System.nanoTime();
+        List<JobPosting> postings = new ArrayList<>();
+        try (InputStream in = resource.getInputStream();
+             MappingIterator<JobPosting> lines = objectMapper.readerFor(JobPosting.class).readValues(in)) {
+            while (lines.hasNext()) {
+                postings.add(lines.next());
+            }
+        }
+        index = PostingIndex.build(postings);
+        logger.info("Indexed {} job postings from {} in {} ms", postings.size(), corpus,
+            Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    public JobPosting posting(String id) {
+        PostingIndex current = index;
+        int doc = current.find(id);
+        if (doc < 0) {
+            throw new NoSuchElementException("Job posting not found: " + id);
+        }
+        return current.posting(doc);
+    }
+
+    /**
+     * The {@code limit} postings that best fit {@code resume}, best first.
+     */
+    public List<PostingMatch> match(Resume resume, int limit) {
+        return timed("search", () -> {
+            PostingIndex current = index;
+            Map<String, Float> query = query(resume);
+            List<PostingIndex.Hit> hits = current.search(query, limit);
+            List<PostingMatch> matches = new ArrayList<>(hits.size());
+            for (PostingIndex.Hit hit : hits) {
+                PostingMatch match = compare(query, current.keywords(hit.doc(), keywordLimit));
+                describe(match, current.posting(hit.doc()));
+                match.setScore((double) hit.score());
+                matches.add(match);
+            }
+            return matches;
+        });
+    }
+
+    /**
+     * How {@code resume} fits the job it targets: {@link Resume#getTargetPostingId()}
+     * or, failing that, {@link Resume#getJobDescription()}.
+     *
+     * @throws IllegalArgumentException if the resume names no target
+     * @throws NoSuchElementException if the target posting is not in the corpus
+     */
+    public PostingMatch matchTarget(Resume resume) {
+        return timed("target", () -> {
+            PostingIndex current = index;
+            if (hasText(resume.getTargetPostingId())) {
+                int doc = current.find(resume.getTargetPostingId());
+                if (doc < 0) {
+                    throw new NoSuchElementException("Job posting not found: " + resume.getTargetPostingId());
+                }
+                PostingMatch match = compare(query(resume), current.keywords(doc, keywordLimit));
+                describe(match, current.posting(doc));
+                return match;
+            }
+            if (hasText(resume.getJobDescription())) {
+                return compare(query(resume), current.keywords(resume.getJobDescription(), keywordLimit));
+            }
+            throw new IllegalArgumentException("A targetPostingId or jobDescription is required");
+        });
+    }
+
+    /**
+     * Sets {@link Resume#getEmphasis()} to the target job's keywords the
+     * resume already has, most distinctive first, or clears it when the
+     * resume names no target.
+     *
+     * @throws IllegalArgumentException if the target posting is not in the corpus
+     */
+    public void applyEmphasis(Resume resume) {
+        if (!hasText(resume.getTargetPostingId()) && !hasText(resume.getJobDescription())) {
+            resume.setEmphasis(null);
+            return;
+        }
+        PostingMatch match;
+        try {
+            match = matchTarget(resume);
+        } catch (NoSuchElementException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+        List<String> matched = match.getMatchedKeywords();
+        resume.setEmphasis(matched.isEmpty() ? null
+            : List.copyOf(matched.subList(0, Math.min(emphasisSize, matched.size()))));
+    }
+
+    /**
+     * Query terms of a resume, each weighted by the strongest field it appears in.
+     */
+    public static Map<String, Float> query(Resume resume) {
+        Map<String, Float> query = new HashMap<>();
+        if (resume.getSkillsList() != null) {
+            for (String skill : resume.getSkillsList()) {
+                add(query, skill, SKILL_WEIGHT);
+            }
+        }
+        add(query, resume.getSkills(), SKILL_WEIGHT);
+        if (resume.getExperiences() != null) {
+            for (Resume.Experience experience : resume.getExperiences()) {
+                add(query, experience.getPosition(), TEXT_WEIGHT);
+                if (experience.getResponsibilities() != null) {
+                    for (String responsibility : experience.getResponsibilities()) {
+                        add(query, responsibility, TEXT_WEIGHT);
+                    }
+                }
+            }
+        }
+        add(query, resume.getExperience(), TEXT_WEIGHT);
+        if (resume.getAchievementsList() != null) {
+            for (String achievement : resume.getAchievementsList()) {
+                add(query, achievement, TEXT_WEIGHT);
+            }
+        }
+        add(query, resume.getAchievements(), TEXT_WEIGHT);
+        add(query, resume.getSummary(), TEXT_WEIGHT);
+        return query;
+    }
+
+    private static void add(Map<String, Float> query, String text, float weight) {
+        KeywordTokenizer.terms(text, term -> query.merge(term, weight, Math::max));
+    }
+
+    private static PostingMatch compare(Map<String, Float> query, List<PostingIndex.Keyword> keywords) {
+        List<String> matched = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        double matchedWeight = 0;
+        double totalWeight = 0;
+        for (PostingIndex.Keyword keyword : keywords) {
+            totalWeight += keyword.weight();
+            if (query.containsKey(keyword.term())) {
+                matched.add(keyword.term());
+                matchedWeight += keyword.weight();
+            } else {
+                missing.add(keyword.term());
+            }
+        }
+        PostingMatch match = new PostingMatch();
+        match.setCoverage(totalWeight == 0 ? 0 : Math.round(matchedWeight / totalWeight * 1000) / 1000.0);
+        match.setMatchedKeywords(matched);
+        match.setMissingKeywords(missing);
+        return match;
+    }
+
+    private static void describe(PostingMatch match, JobPosting posting) {
+        match.setPostingId(posting.getId());
+        match.setTitle(posting.getTitle());
+        match.setCompany(posting.getCompany());
+    }
+
+    private <T> T timed(String operation, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            Timer.builder("resume.matching.duration")
+                .description("Time to match a resume against job postings")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(50_000))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
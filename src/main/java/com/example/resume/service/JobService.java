@@ -0,0 +1,121 @@
+package com.example.resume.service;
+
+import com.example.resume.model.GenerationJob;
+import com.example.resume.model.Resume;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Submit/poll generation: jobs go onto a bounded in-process queue drained
+ * by a fixed worker pool. A full queue rejects new jobs instead of growing.
+ * <p>
+ * Queued and running jobs are held in their own map, which the queue
+ * bounds to {@code workers + queue-capacity} entries, so a job being polled
+ * can never be evicted or expire while it is still live. A job moves to the
+ * bounded store of finished jobs when it completes, and its
+ * {@code result-ttl-minutes} count from then.
+ */
+@Service
+public class JobService {
+    private static final Logger logger = LoggerFactory.getLogger(JobService.class);
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Value("${resume.jobs.workers:4}")
+    private int workers;
+
+    @Value("${resume.jobs.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${resume.jobs.max-stored:10000}")
+    private long maxStored;
+
+    @Value("${resume.jobs.result-ttl-minutes:30}")
+    private long resultTtlMinutes;
+
+    private ThreadPoolExecutor executor;
+    private final Map<String, GenerationJob> active = new ConcurrentHashMap<>();
+    private Cache<String, GenerationJob> finished;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "resume-job-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        finished = Caffeine.newBuilder()
+            .maximumSize(maxStored)
+            .expireAfterWrite(Duration.ofMinutes(resultTtlMinutes))
+            .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queues a generation and returns its job immediately.
+     *
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public GenerationJob submit(Resume resume) {
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), Instant.now());
+        active.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, resume));
+        } catch (RejectedExecutionException e) {
+            active.remove(job.getId());
+            logger.warn("Job queue full ({} queued), rejecting job", executor.getQueue().size());
+            throw e;
+        }
+        logger.info("Queued generation job {}", job.getId());
+        return job;
+    }
+
+    public GenerationJob get(String id) {
+        GenerationJob job = active.get(id);
+        return job != null ? job : finished.getIfPresent(id);
+    }
+
+    private void run(GenerationJob job, Resume resume) {
+        job.setStatus(GenerationJob.Status.RUNNING);
+        try {
+            job.setResult(resumeService.generateResume(resume));
+            job.setStatus(GenerationJob.Status.SUCCEEDED);
+        } catch (Exception e) {
+            job.setError(e.getMessage());
+            job.setStatus(GenerationJob.Status.FAILED);
+        } finally {
+            job.setCompletedAt(Instant.now());
+            // Stored before it leaves the active map, so a poll in between still finds it
+            finished.put(job.getId(), job);
+            active.remove(job.getId());
+            logger.info("Generation job {} finished with status {}", job.getId(), job.getStatus());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.resume.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Splits resume and job-posting text into matching terms: lower-cased
+ * words with common spellings folded together ("k8s" and "Kubernetes"),
+ * stopwords dropped, plus the bigram of every two adjacent words so that
+ * phrases like "spring boot" or "machine learning" match as a unit.
+ * Technology names keep their punctuation ("c++", "c#", ".net",
+ * "node.js"); slashes and hyphens split words ("ci/cd" gives "ci", "cd" and
+ * "ci cd"), any other punctuation also ends the current phrase.
+ */
+public final class KeywordTokenizer {
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "been", "but", "by", "can", "do", "for", "from", "has", "have",
+        "he", "her", "his", "i", "if", "in", "into", "is", "it", "its", "me", "my", "no", "not", "of", "on", "or",
+        "our", "she", "so", "such", "than", "that", "the", "their", "them", "then", "there", "these", "they",
+        "this", "those", "to", "up", "us", "was", "we", "were", "what", "when", "where", "which", "while", "who",
+        "will", "with", "would", "you", "your",
+        // Words every posting and resume uses, which only dilute the scores
+        "ability", "across", "also", "e.g", "etc", "experience", "i.e", "including", "new", "plus", "preferred",
+        "related", "required", "requirements", "responsibilities", "responsible", "role", "skills", "strong",
+        "team", "using", "work", "working", "year", "years");
+
+    private static final Map<String, String> SYNONYMS = Map.ofEntries(
+        Map.entry("js", "javascript"),
+        Map.entry("ts", "typescript"),
+        Map.entry("k8s", "kubernetes"),
+        Map.entry("postgres", "postgresql"),
+        Map.entry("golang", "go"),
+        Map.entry("nodejs", "node.js"),
+        Map.entry("node", "node.js"),
+        Map.entry("reactjs", "react"),
+        Map.entry("react.js", "react"),
+        Map.entry("vuejs", "vue"),
+        Map.entry("vue.js", "vue"),
+        Map.entry("dotnet", ".net"),
+        Map.entry("csharp", "c#"),
+        Map.entry("cpp", "c++"),
+        Map.entry("mongo", "mongodb"),
+        Map.entry("gcp", "google cloud"));
+
+    private KeywordTokenizer() {
+    }
+
+    /**
+     * Terms of {@code text} in order of appearance, repeats included.
+     */
+    public static List<String> terms(CharSequence text) {
+        List<String> terms = new ArrayList<>();
+        terms(text, terms::add);
+        return terms;
+    }
+
+    /**
+     * Feeds each term of {@code text} to {@code sink}, in order of appearance.
+     */
+    public static void terms(CharSequence text, Consumer<String> sink) {
+        scan(text, true, sink);
+    }
+
+    /**
+     * Feeds the single-word terms of {@code text} to {@code sink}, without bigrams.
+     */
+    public static void words(CharSequence text, Consumer<String> sink) {
+        scan(text, false, sink);
+    }
+
+    private static void scan(CharSequence text, boolean phrases, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder word = new StringBuilder(16);
+        String previous = null;
+        int length = text.length();
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : '\n';
+            if (isWordChar(c)) {
+                word.append(Character.toLowerCase(c));
+                continue;
+            }
+            // '.' inside a word ("node.js", "asp.net") is kept; anywhere else it ends a sentence
+            if (c == '.' && word.length() > 0 && i + 1 < length && isWordChar(text.charAt(i + 1))) {
+                word.append('.');
+                continue;
+            }
+            if (c == '.' && word.length() == 0 && i + 1 < length && Character.isLetter(text.charAt(i + 1))) {
+                word.append('.');
+                continue;
+            }
+            if (word.length() > 0) {
+                String term = normalize(word);
+                word.setLength(0);
+                if (term == null) {
+                    previous = null;
+                } else {
+                    sink.accept(term);
+                    if (phrases && previous != null) {
+                        sink.accept(previous + ' ' + term);
+                    }
+                    // A two-word synonym ("google cloud") is already a phrase; don't chain it
+                    previous = term.indexOf(' ') < 0 ? term : null;
+                }
+            }
+            if (!(c == ' ' || c == '-' || c == '/' || c == '\t')) {
+                previous = null;
+            }
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    private static String normalize(StringBuilder word) {
+        String term = word.toString();
+        if (term.startsWith(".") && term.length() < 3) {
+            return null;
+        }
+        if (term.length() == 1 && !(term.equals("c") || term.equals("r"))) {
+            return null;
+        }
+        if (isNumber(term)) {
+            return null;
+        }
+        String canonical = SYNONYMS.get(term);
+        if (canonical != null) {
+            return canonical;
+        }
+        return STOPWORDS.contains(term) ? null : term;
+    }
+
+    private static boolean isNumber(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (!Character.isDigit(c) && c != '.' && c != '+') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
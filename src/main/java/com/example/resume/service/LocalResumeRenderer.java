@@ -0,0 +1,136 @@
+package com.example.resume.service;
+
+import com.example.resume.model.Resume;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Renders a plain-text resume directly from the submitted fields, without
+ * any model call. Used as the degraded response while the provider is
+ * unavailable, so it only reformats what the user gave us.
+ */
+@Component
+public class LocalResumeRenderer {
+
+    public String render(Resume resume) {
+        StringBuilder out = new StringBuilder(1024);
+
+        // Contact Information
+        Resume.PersonalInformation info = resume.getPersonalInformation();
+        String name = resume.getName();
+        out.append(name != null && !name.isBlank() ? name.trim().toUpperCase() : "PROFESSIONAL CANDIDATE").append('\n');
+        StringBuilder contact = new StringBuilder();
+        appendContact(contact, resume.getEmail());
+        appendContact(contact, resume.getPhone());
+        if (info != null) {
+            appendContact(contact, info.getAddress());
+            appendContact(contact, info.getLinkedin());
+            appendContact(contact, info.getGithub());
+        }
+        if (contact.length() > 0) {
+            out.append(contact).append('\n');
+        }
+        out.append('\n');
+
+        // Professional Summary
+        if (hasText(resume.getSummary())) {
+            section(out, "PROFESSIONAL SUMMARY");
+            out.append(resume.getSummary().trim()).append("\n\n");
+        }
+
+        // Skills
+        if (hasItems(resume.getSkillsList())) {
+            section(out, "SKILLS");
+            bullets(out, resume.getSkillsList());
+            out.append('\n');
+        } else if (hasText(resume.getSkills())) {
+            section(out, "SKILLS");
+            out.append(resume.getSkills().trim()).append("\n\n");
+        }
+
+        // Work Experience
+        if (hasItems(resume.getExperiences())) {
+            section(out, "WORK EXPERIENCE");
+            for (Resume.Experience exp : resume.getExperiences()) {
+                line(out, joinNonBlank(" - ", exp.getPosition(), exp.getCompany()));
+                line(out, exp.getDuration());
+                if (exp.getResponsibilities() != null) {
+                    bullets(out, exp.getResponsibilities());
+                }
+                out.append('\n');
+            }
+        } else if (hasText(resume.getExperience())) {
+            section(out, "WORK EXPERIENCE");
+            out.append(resume.getExperience().trim()).append("\n\n");
+        }
+
+        // Education
+        if (hasItems(resume.getEducations())) {
+            section(out, "EDUCATION");
+            for (Resume.Education edu : resume.getEducations()) {
+                line(out, joinNonBlank(" in ", edu.getDegree(), edu.getField()));
+                line(out, edu.getInstitution());
+                line(out, edu.getDuration());
+                out.append('\n');
+            }
+        } else if (hasText(resume.getEducation())) {
+            section(out, "EDUCATION");
+            out.append(resume.getEducation().trim()).append("\n\n");
+        }
+
+        // Achievements and Certifications
+        if (hasItems(resume.getAchievementsList())) {
+            section(out, "ACHIEVEMENTS AND CERTIFICATIONS");
+            bullets(out, resume.getAchievementsList());
+            out.append('\n');
+        } else if (hasText(resume.getAchievements())) {
+            section(out, "ACHIEVEMENTS AND CERTIFICATIONS");
+            out.append(resume.getAchievements().trim()).append("\n\n");
+        }
+
+        return out.toString().stripTrailing() + "\n";
+    }
+
+    private static void section(StringBuilder out, String title) {
+        out.append(title).append('\n');
+    }
+
+    private static void line(StringBuilder out, String text) {
+        if (hasText(text)) {
+            out.append(text.trim()).append('\n');
+        }
+    }
+
+    private static void bullets(StringBuilder out, List<String> items) {
+        for (String item : items) {
+            if (hasText(item)) {
+                out.append("- ").append(item.trim()).append('\n');
+            }
+        }
+    }
+
+    private static void appendContact(StringBuilder contact, String value) {
+        if (hasText(value)) {
+            if (contact.length() > 0) {
+                contact.append(" | ");
+            }
+            contact.append(value.trim());
+        }
+    }
+
+    private static String joinNonBlank(String separator, String first, String second) {
+        if (!hasText(first)) {
+            return second;
+        }
+        return hasText(second) ? first.trim() + separator + second.trim() : first;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static boolean hasItems(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
+}
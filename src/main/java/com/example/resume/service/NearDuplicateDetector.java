@@ -0,0 +1,224 @@
+package com.example.resume.service;
+
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.HistoryEntry;
+import com.example.resume.model.Resume;
+import com.example.resume.model.SummaryProfile;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Reuses a stored generation when a resume is resubmitted with trivial
+ * edits (whitespace, punctuation, a changed word), which the exact prompt
+ * cache misses. Provider output is indexed by the {@link ResumeFingerprint}
+ * of its input; a lookup takes the likeliest candidates from the
+ * {@link NearDuplicateIndex}, reads each from the history store and
+ * accepts the first whose input is at least {@code resume.duplicates.min-similarity}
+ * similar and was submitted by the same person, i.e. with the same email
+ * address. Another person's generation is never served, however similar
+ * the input. The stored text is then adapted to the new contact details,
+ * and if they cannot be substituted cleanly, or any word of a replaced
+ * detail is still in the text, the candidate is not used.
+ * <p>
+ * Reuse needs the history store, which holds the generated text; the index
+ * itself keeps only fingerprints and ids, and is rebuilt from the history
+ * log on startup.
+ */
+@Service
+public class NearDuplicateDetector {
+    private static final Logger logger = LoggerFactory.getLogger(NearDuplicateDetector.class);
+
+    // Position of the email address in contacts()
+    private static final int EMAIL = 1;
+    // Words of a replaced detail shorter than this (initials, "in", "com") may be left in the text
+    private static final int MIN_LEFTOVER_LENGTH = 3;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Value("${resume.duplicates.enabled:true}")
+    private boolean enabled;
+
+    @Value("${resume.duplicates.min-similarity:0.9}")
+    private double minSimilarity;
+
+    @Value("${resume.duplicates.max-candidates:3}")
+    private int maxCandidates;
+
+    @Value("${resume.duplicates.max-entries:2000000}")
+    private int maxEntries;
+
+    @Autowired
+    private HistoryStore historyStore;
+
+    @Autowired
+    private SummaryExtractor summaryExtractor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private NearDuplicateIndex index;
+
+    @PostConstruct
+    void init() {
+        if (!enabled || !historyStore.isEnabled()) {
+            logger.info("Near-duplicate reuse is disabled");
+            return;
+        }
+        index = new NearDuplicateIndex(maxEntries);
+        historyStore.replayFingerprints((id, encoded) -> {
+            int[] bands = ResumeFingerprint.decode(encoded);
+            if (bands != null) {
+                index.add(id, bands);
+            }
+        });
+        Gauge.builder("resume.duplicates.entries", index, NearDuplicateIndex::size)
+            .description("Fingerprints in the near-duplicate index")
+            .register(meterRegistry);
+        Gauge.builder("resume.duplicates.memory", index, NearDuplicateIndex::memoryBytes)
+            .description("Approximate heap held by the near-duplicate index")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        logger.info("Near-duplicate index holds {} fingerprints in about {} KB", index.size(),
+            index.memoryBytes() / 1024);
+    }
+
+    /**
+     * Fingerprint of {@code resume}, or null when reuse is off or the
+     * resume has no text to compare.
+     */
+    public ResumeFingerprint fingerprint(Resume resume) {
+        if (index == null) {
+            return null;
+        }
+        ResumeFingerprint fingerprint = ResumeFingerprint.of(resume);
+        return fingerprint.isEmpty() ? null : fingerprint;
+    }
+
+    /**
+     * A stored generation for a near-duplicate of {@code resume}, adapted
+     * to its contact details, or null.
+     */
+    public GeneratedResume find(Resume resume, ResumeFingerprint fingerprint) {
+        if (index == null || fingerprint == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        String outcome = "miss";
+        try {
+            List<String> candidates = index.candidates(fingerprint, maxCandidates);
+            for (String id : candidates) {
+                outcome = "rejected";
+                HistoryEntry entry = historyStore.get(id);
+                if (entry == null || entry.getResume() == null || entry.getResult() == null) {
+                    continue;
+                }
+                double similarity = fingerprint.similarity(ResumeFingerprint.of(entry.getResume()));
+                if (similarity < minSimilarity) {
+                    continue;
+                }
+                String[] before = contacts(entry.getResume());
+                String[] after = contacts(resume);
+                if (!samePerson(before, after)) {
+                    continue;
+                }
+                String content = adapt(before, after, entry.getResult().getContent());
+                if (content == null) {
+                    continue;
+                }
+                outcome = "hit";
+                logger.info("Reusing generation {} for a near-duplicate input (similarity {})", id,
+                    String.format("%.2f", similarity));
+                GeneratedResume reused = GeneratedResume.of(content);
+                reused.setModel(entry.getResult().getModel());
+                return reused;
+            }
+            return null;
+        } finally {
+            Timer.builder("resume.duplicates.lookup")
+                .description("Near-duplicate lookups, including reading and checking candidates")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofMillis(100))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Indexes the stored generation {@code id} of an input with {@code fingerprint}.
+     */
+    public void add(String id, ResumeFingerprint fingerprint) {
+        if (index != null && fingerprint != null && id != null) {
+            index.add(id, fingerprint);
+        }
+    }
+
+    /**
+     * Whether two sets of contact details belong to the same person: both
+     * have an email address and it is the same, ignoring case.
+     */
+    private static boolean samePerson(String[] before, String[] after) {
+        String email = normalize(before[EMAIL]);
+        return !email.isEmpty() && email.equals(normalize(after[EMAIL]));
+    }
+
+    /**
+     * {@code content}, generated for the contact details {@code before},
+     * with them replaced by {@code after}; null if a detail that changed does
+     * not appear verbatim in the content, was added or removed, or left a
+     * word of the old value behind (a first name on its own, say).
+     */
+    private static String adapt(String[] before, String[] after, String content) {
+        for (int i = 0; i < before.length; i++) {
+            if (Objects.equals(before[i], after[i])) {
+                continue;
+            }
+            if (before[i] == null || after[i] == null || before[i].isBlank() || !content.contains(before[i])) {
+                return null;
+            }
+            content = content.replace(before[i], after[i]);
+        }
+        String lower = content.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < before.length; i++) {
+            if (Objects.equals(before[i], after[i])) {
+                continue;
+            }
+            List<String> replacement = List.of(NON_WORD.split(normalize(after[i])));
+            for (String word : NON_WORD.split(normalize(before[i]))) {
+                if (word.length() >= MIN_LEFTOVER_LENGTH && !replacement.contains(word) && lower.contains(word)) {
+                    return null;
+                }
+            }
+        }
+        return content;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String[] contacts(Resume resume) {
+        if (resume.getSummary() != null && !resume.getSummary().isEmpty()) {
+            SummaryProfile profile = summaryExtractor.extract(resume.getSummary());
+            return new String[] {profile.getName(), profile.getEmail(), profile.getPhone(), profile.getLinkedin(),
+                profile.getGithub(), null};
+        }
+        Resume.PersonalInformation info = resume.getPersonalInformation();
+        return new String[] {resume.getName(), resume.getEmail(), resume.getPhone(),
+            info == null ? null : info.getLinkedin(), info == null ? null : info.getGithub(),
+            info == null ? null : info.getAddress()};
+    }
+}
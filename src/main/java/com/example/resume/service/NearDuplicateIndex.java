@@ -0,0 +1,227 @@
+package com.example.resume.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * LSH index from {@link ResumeFingerprint} bands to history entry ids.
+ * <p>
+ * Entries are columns of primitive arrays: the {@link ResumeFingerprint#BANDS}
+ * band hashes and the two halves of the entry's UUID, so an entry costs
+ * about 40 bytes plus its bucket slots. For each band, a fixed table of
+ * 2^16 buckets (picked by the low bits of the band hash) lists the entries
+ * in it; a lookup scans one bucket per band. When {@code maxEntries} is
+ * reached, the older half is dropped. Reads run concurrently, writes
+ * exclusively.
+ */
+public final class NearDuplicateIndex {
+
+    private static final int BANDS = ResumeFingerprint.BANDS;
+    private static final int BUCKET_BITS = 16;
+    private static final int BUCKET_MASK = (1 << BUCKET_BITS) - 1;
+    // Array header plus padding, as on a 64-bit JVM with compressed references
+    private static final int ARRAY_OVERHEAD = 16;
+
+    private final int maxEntries;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int[] bands;
+    private long[] idMost;
+    private long[] idLeast;
+    private int size;
+
+    private final int[][][] buckets = new int[BANDS][1 << BUCKET_BITS][];
+    private final int[][] bucketSizes = new int[BANDS][1 << BUCKET_BITS];
+    private long bucketBytes;
+
+    public NearDuplicateIndex(int maxEntries) {
+        if (maxEntries < 2) {
+            throw new IllegalArgumentException("maxEntries must be at least 2");
+        }
+        this.maxEntries = maxEntries;
+        int capacity = Math.min(maxEntries, 1024);
+        this.bands = new int[capacity * BANDS];
+        this.idMost = new long[capacity];
+        this.idLeast = new long[capacity];
+    }
+
+    /**
+     * Indexes history entry {@code id} under {@code fingerprint}.
+     */
+    public boolean add(String id, ResumeFingerprint fingerprint) {
+        int[] entryBands = new int[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            entryBands[band] = fingerprint.band(band);
+        }
+        return add(id, entryBands);
+    }
+
+    /**
+     * Indexes history entry {@code id} under the given band hashes. Returns
+     * false for an id that is not a UUID, which this index cannot hold.
+     */
+    public boolean add(String id, int[] entryBands) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            if (size == maxEntries) {
+                dropOldestHalf();
+            }
+            if (size == idMost.length) {
+                int capacity = (int) Math.min(maxEntries, idMost.length * 2L);
+                bands = Arrays.copyOf(bands, capacity * BANDS);
+                idMost = Arrays.copyOf(idMost, capacity);
+                idLeast = Arrays.copyOf(idLeast, capacity);
+            }
+            int slot = size++;
+            System.arraycopy(entryBands, 0, bands, slot * BANDS, BANDS);
+            idMost[slot] = uuid.getMostSignificantBits();
+            idLeast[slot] = uuid.getLeastSignificantBits();
+            link(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of up to {@code limit} entries sharing a band with {@code fingerprint},
+     * those sharing the most bands (the likeliest near-duplicates) first, then newest first.
+     */
+    public List<String> candidates(ResumeFingerprint fingerprint, int limit) {
+        int[] slots = new int[8];
+        int[] shared = new int[8];
+        int found = 0;
+        long[] most;
+        long[] least;
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < BANDS; band++) {
+                int key = fingerprint.band(band);
+                int[] bucket = buckets[band][key & BUCKET_MASK];
+                int bucketSize = bucketSizes[band][key & BUCKET_MASK];
+                for (int i = 0; i < bucketSize; i++) {
+                    int slot = bucket[i];
+                    if (bands[slot * BANDS + band] != key) {
+                        continue;
+                    }
+                    int at = indexOf(slots, found, slot);
+                    if (at >= 0) {
+                        shared[at]++;
+                        continue;
+                    }
+                    if (found == slots.length) {
+                        slots = Arrays.copyOf(slots, found * 2);
+                        shared = Arrays.copyOf(shared, found * 2);
+                    }
+                    slots[found] = slot;
+                    shared[found++] = 1;
+                }
+            }
+            most = new long[Math.min(found, limit)];
+            least = new long[most.length];
+            // Selection of the best few; found is small
+            for (int n = 0; n < most.length; n++) {
+                int best = n;
+                for (int i = n + 1; i < found; i++) {
+                    if (shared[i] > shared[best] || shared[i] == shared[best] && slots[i] > slots[best]) {
+                        best = i;
+                    }
+                }
+                swap(slots, n, best);
+                swap(shared, n, best);
+                most[n] = idMost[slots[n]];
+                least[n] = idLeast[slots[n]];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<String> ids = new ArrayList<>(most.length);
+        for (int n = 0; n < most.length; n++) {
+            ids.add(new UUID(most[n], least[n]).toString());
+        }
+        return ids;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate heap held by the index, in bytes: entry columns at their
+     * current capacity, the bucket tables and every allocated bucket.
+     */
+    public long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            long columns = 3L * ARRAY_OVERHEAD + (long) bands.length * Integer.BYTES
+                + 2L * idMost.length * Long.BYTES;
+            long tables = (long) BANDS * (2 * ARRAY_OVERHEAD + (1L << BUCKET_BITS) * (4 + Integer.BYTES));
+            return columns + tables + bucketBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(int slot) {
+        for (int band = 0; band < BANDS; band++) {
+            int bucketIndex = bands[slot * BANDS + band] & BUCKET_MASK;
+            int[] bucket = buckets[band][bucketIndex];
+            int bucketSize = bucketSizes[band][bucketIndex];
+            if (bucket == null) {
+                bucket = buckets[band][bucketIndex] = new int[4];
+                bucketBytes += ARRAY_OVERHEAD + 4 * Integer.BYTES;
+            } else if (bucketSize == bucket.length) {
+                bucket = buckets[band][bucketIndex] = Arrays.copyOf(bucket, bucketSize * 2);
+                bucketBytes += (long) bucketSize * Integer.BYTES;
+            }
+            bucket[bucketSize] = slot;
+            bucketSizes[band][bucketIndex] = bucketSize + 1;
+        }
+    }
+
+    private void dropOldestHalf() {
+        int keep = size / 2;
+        int from = size - keep;
+        System.arraycopy(bands, from * BANDS, bands, 0, keep * BANDS);
+        System.arraycopy(idMost, from, idMost, 0, keep);
+        System.arraycopy(idLeast, from, idLeast, 0, keep);
+        size = keep;
+        for (int band = 0; band < BANDS; band++) {
+            Arrays.fill(buckets[band], null);
+            Arrays.fill(bucketSizes[band], 0);
+        }
+        bucketBytes = 0;
+        for (int slot = 0; slot < size; slot++) {
+            link(slot);
+        }
+    }
+
+    private static int indexOf(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.resume.service;
+
+import com.lowagie.text.Chunk;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfWriter;
+import com.lowagie.text.pdf.draw.LineSeparator;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Renders resumes to PDF with OpenPDF. The standard Helvetica faces need no
+ * embedding, so the fonts are created once and shared by every render, and
+ * the writer flushes each finished page to the output as it goes. Text
+ * outside Windows-1252 cannot be shown in these faces and is dropped.
+ */
+@Component
+public class PdfDocumentRenderer implements DocumentRenderer {
+
+    private static final Color ACCENT = new Color(0x1F, 0x38, 0x64);
+    private static final float MARGIN = 54f;
+
+    private final Font titleFont;
+    private final Font headingFont;
+    private final Font bodyFont;
+    private final Font boldFont;
+
+    public PdfDocumentRenderer() {
+        try {
+            BaseFont regular = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+            BaseFont bold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+            titleFont = new Font(bold, 20f, Font.NORMAL, ACCENT);
+            headingFont = new Font(bold, 12f, Font.NORMAL, ACCENT);
+            bodyFont = new Font(regular, 10.5f);
+            boldFont = new Font(bold, 10.5f);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load PDF fonts", e);
+        }
+    }
+
+    @Override
+    public DocumentFormat format() {
+        return DocumentFormat.PDF;
+    }
+
+    @Override
+    public void render(List<ResumeMarkup.Block> blocks, OutputStream out) throws IOException {
+        Document document = new Document(PageSize.LETTER, MARGIN, MARGIN, MARGIN, MARGIN);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            // The caller owns the stream
+            writer.setCloseStream(false);
+            document.addCreator("Resume Generator");
+            document.open();
+            for (ResumeMarkup.Block block : blocks) {
+                document.add(element(block));
+            }
+            document.close();
+        } catch (DocumentException e) {
+            throw new IOException("Failed to lay out PDF: " + e.getMessage(), e);
+        }
+    }
+
+    private Element element(ResumeMarkup.Block block) {
+        switch (block.type()) {
+            case TITLE: {
+                Paragraph title = new Paragraph(text(block), titleFont);
+                title.setAlignment(Element.ALIGN_CENTER);
+                title.setSpacingAfter(6f);
+                return title;
+            }
+            case HEADING: {
+                Paragraph heading = new Paragraph(text(block).toUpperCase(), headingFont);
+                heading.setSpacingBefore(10f);
+                heading.add(Chunk.NEWLINE);
+                heading.add(new Chunk(new LineSeparator(0.6f, 100f, ACCENT, Element.ALIGN_CENTER, 3f)));
+                return heading;
+            }
+            case BULLET: {
+                Paragraph bullet = new Paragraph(13f);
+                bullet.add(new Chunk("•  ", bodyFont));
+                bullet.add(phrase(block));
+                bullet.setIndentationLeft(14f);
+                bullet.setFirstLineIndent(-9f);
+                bullet.setSpacingAfter(1.5f);
+                return bullet;
+            }
+            default: {
+                Paragraph paragraph = new Paragraph(13f);
+                paragraph.add(phrase(block));
+                paragraph.setSpacingAfter(3f);
+                return paragraph;
+            }
+        }
+    }
+
+    private Phrase phrase(ResumeMarkup.Block block) {
+        Phrase phrase = new Phrase();
+        for (ResumeMarkup.Run run : block.runs()) {
+            phrase.add(new Chunk(run.text(), run.bold() ? boldFont : bodyFont));
+        }
+        return phrase;
+    }
+
+    private static String text(ResumeMarkup.Block block) {
+        if (block.runs().size() == 1) {
+            return block.runs().get(0).text();
+        }
+        StringBuilder text = new StringBuilder();
+        for (ResumeMarkup.Run run : block.runs()) {
+            text.append(run.text());
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,348 @@
+package com.example.resume.service;
+
+import com.example.resume.model.JobPosting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Inverted index over a corpus of job postings, scored with Okapi BM25.
+ * Each term's posting list is one {@code int[]} with the document number
+ * and the (capped) term frequency packed into each element, and the
+ * per-document length normalisation is precomputed, so a query is a
+ * sequential scan of the lists of its terms into a score array. Built
+ * once and immutable; a new corpus means a new index. Thread-safe.
+ * <p>
+ * Titles and listed skills are indexed with their bigrams, descriptions
+ * as single words: nearly every bigram of free prose is unique, and
+ * indexing them multiplies the dictionary (and the build time) for
+ * phrases the skill lists already carry.
+ */
+public final class PostingIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Low bits of a posting hold the term frequency, the rest the document number
+    private static final int TF_BITS = 8;
+    private static final int MAX_TF = (1 << TF_BITS) - 1;
+    private static final int MAX_DOCUMENTS = 1 << (Integer.SIZE - 1 - TF_BITS);
+
+    // Listed skills count as this many mentions each
+    private static final int SKILL_BOOST = 2;
+
+    // Per-thread score accumulator, reused across queries and indexes
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final List<JobPosting> postings;
+    private final Map<String, Integer> documents;
+    private final Map<String, Integer> dictionary;
+    private final int[][] lists;
+    private final float[] idf;
+    private final float[] lengthNorm;
+    private final float unknownIdf;
+
+    private PostingIndex(List<JobPosting> postings, Map<String, Integer> documents, Map<String, Integer> dictionary,
+                         int[][] lists, float[] lengthNorm) {
+        this.postings = postings;
+        this.documents = documents;
+        this.dictionary = dictionary;
+        this.lists = lists;
+        this.lengthNorm = lengthNorm;
+        this.idf = new float[lists.length];
+        for (int term = 0; term < lists.length; term++) {
+            idf[term] = idf(postings.size(), lists[term].length);
+        }
+        this.unknownIdf = idf(postings.size(), 0);
+    }
+
+    /**
+     * Indexes {@code postings}, whose order gives the document numbers.
+     */
+    public static PostingIndex build(List<JobPosting> postings) {
+        if (postings.size() > MAX_DOCUMENTS) {
+            throw new IllegalArgumentException("Corpus exceeds " + MAX_DOCUMENTS + " postings");
+        }
+        List<JobPosting> corpus = List.copyOf(postings);
+        Map<String, Integer> documents = new HashMap<>(corpus.size() * 2);
+        Builder builder = new Builder();
+        int[] lengths = new int[corpus.size()];
+        long totalLength = 0;
+        for (int doc = 0; doc < corpus.size(); doc++) {
+            JobPosting posting = corpus.get(doc);
+            if (posting.getId() != null) {
+                documents.putIfAbsent(posting.getId(), doc);
+            }
+            lengths[doc] = forEachTerm(posting, builder);
+            totalLength += lengths[doc];
+            builder.endDocument(doc);
+        }
+
+        float averageLength = corpus.isEmpty() ? 1f : Math.max(1f, (float) totalLength / corpus.size());
+        float[] lengthNorm = new float[corpus.size()];
+        for (int doc = 0; doc < lengthNorm.length; doc++) {
+            lengthNorm[doc] = K1 * (1 - B + B * lengths[doc] / averageLength);
+        }
+        return new PostingIndex(corpus, documents, builder.dictionary, builder.lists(), lengthNorm);
+    }
+
+    public int size() {
+        return postings.size();
+    }
+
+    public JobPosting posting(int doc) {
+        return postings.get(doc);
+    }
+
+    /**
+     * Document number of the posting with {@code id}, or -1.
+     */
+    public int find(String id) {
+        Integer doc = id == null ? null : documents.get(id);
+        return doc == null ? -1 : doc;
+    }
+
+    /**
+     * The {@code limit} best postings for a query of terms with positive
+     * weights, best first. A term's weight multiplies its BM25 contribution.
+     */
+    public List<Hit> search(Map<String, Float> query, int limit) {
+        if (limit <= 0 || postings.isEmpty()) {
+            return List.of();
+        }
+        Scratch scratch = SCRATCH.get();
+        float[] scores = scratch.scores(postings.size());
+        int[] touched = scratch.touched;
+        int matched = 0;
+        for (Map.Entry<String, Float> entry : query.entrySet()) {
+            Integer term = dictionary.get(entry.getKey());
+            if (term == null || !(entry.getValue() > 0)) {
+                continue;
+            }
+            float weight = entry.getValue() * idf[term] * (K1 + 1);
+            for (int posting : lists[term]) {
+                int doc = posting >>> TF_BITS;
+                int tf = posting & MAX_TF;
+                if (scores[doc] == 0f) {
+                    touched[matched++] = doc;
+                }
+                scores[doc] += weight * tf / (tf + lengthNorm[doc]);
+            }
+        }
+
+        PriorityQueue<Hit> best = new PriorityQueue<>(Math.min(limit, Math.max(matched, 1)) + 1, Hit.ORDER);
+        for (int i = 0; i < matched; i++) {
+            int doc = touched[i];
+            float score = scores[doc];
+            scores[doc] = 0f;
+            if (best.size() < limit) {
+                best.add(new Hit(doc, score));
+            } else if (score > best.peek().score()) {
+                best.poll();
+                best.add(new Hit(doc, score));
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(Hit.ORDER.reversed());
+        return hits;
+    }
+
+    /**
+     * The most distinctive terms of posting {@code doc}. A posting that lists
+     * its skills is described by those alone; otherwise its text is used,
+     * leaving out terms no other posting uses (names, typos).
+     */
+    public List<Keyword> keywords(int doc, int limit) {
+        JobPosting posting = postings.get(doc);
+        Map<String, int[]> counts = new HashMap<>();
+        count(posting, counts);
+        if (posting.getSkills() == null || posting.getSkills().isEmpty()) {
+            return keywords(counts, Math.min(2, postings.size()), limit);
+        }
+        Set<String> listed = new HashSet<>();
+        for (String skill : posting.getSkills()) {
+            KeywordTokenizer.terms(skill, listed::add);
+        }
+        counts.keySet().retainAll(listed);
+        return keywords(counts, 0, limit);
+    }
+
+    /**
+     * The most distinctive terms of a job ad that is not in the corpus.
+     * Only terms some posting of the corpus uses are considered, unless the
+     * corpus is empty.
+     */
+    public List<Keyword> keywords(CharSequence text, int limit) {
+        Map<String, int[]> counts = new HashMap<>();
+        KeywordTokenizer.terms(text, term -> counts.computeIfAbsent(term, t -> new int[1])[0]++);
+        return keywords(counts, postings.isEmpty() ? 0 : 1, limit);
+    }
+
+    /**
+     * Terms ranked by sublinear tf-idf, at most {@code limit}. A phrase and
+     * the words it is made of are not both listed: a selected bigram drops
+     * its words, and a word is skipped once a bigram containing it is in.
+     */
+    private List<Keyword> keywords(Map<String, int[]> counts, int minDocuments, int limit) {
+        List<Keyword> candidates = new ArrayList<>(counts.size());
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            Integer term = dictionary.get(entry.getKey());
+            int df = term == null ? 0 : lists[term].length;
+            if (df >= minDocuments) {
+                float weight = (float) (1 + Math.log(entry.getValue()[0])) * (term == null ? unknownIdf : idf[term]);
+                candidates.add(new Keyword(entry.getKey(), weight));
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(Keyword::weight).reversed().thenComparing(Keyword::term));
+
+        Map<String, Keyword> selected = new HashMap<>();
+        Set<String> covered = new HashSet<>();
+        for (Keyword candidate : candidates) {
+            if (selected.size() >= limit) {
+                break;
+            }
+            String term = candidate.term();
+            int space = term.indexOf(' ');
+            if (space < 0) {
+                if (!covered.contains(term)) {
+                    selected.put(term, candidate);
+                }
+            } else if (!selected.containsKey(term)) {
+                String first = term.substring(0, space);
+                String second = term.substring(space + 1);
+                selected.remove(first);
+                selected.remove(second);
+                covered.add(first);
+                covered.add(second);
+                selected.put(term, candidate);
+            }
+        }
+        List<Keyword> keywords = new ArrayList<>(selected.values());
+        keywords.sort(Comparator.comparingDouble(Keyword::weight).reversed().thenComparing(Keyword::term));
+        return keywords;
+    }
+
+    /**
+     * Adds the term counts of {@code posting} to {@code counts}.
+     */
+    private static void count(JobPosting posting, Map<String, int[]> counts) {
+        forEachTerm(posting, term -> counts.computeIfAbsent(term, t -> new int[1])[0]++);
+    }
+
+    /**
+     * Feeds the terms of {@code posting} to {@code sink}, returning how many there were.
+     */
+    private static int forEachTerm(JobPosting posting, Consumer<String> sink) {
+        int[] length = {0};
+        Consumer<String> counting = term -> {
+            sink.accept(term);
+            length[0]++;
+        };
+        KeywordTokenizer.terms(posting.getTitle(), counting);
+        if (posting.getSkills() != null) {
+            for (String skill : posting.getSkills()) {
+                for (int i = 0; i < SKILL_BOOST; i++) {
+                    KeywordTokenizer.terms(skill, counting);
+                }
+            }
+        }
+        KeywordTokenizer.words(posting.getDescription(), counting);
+        return length[0];
+    }
+
+    // BM25 idf, with the +1 that keeps terms found in most documents positive
+    private static float idf(int documents, int df) {
+        return (float) Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+    }
+
+    /**
+     * A scored posting; {@code doc} is its position in the corpus.
+     */
+    public record Hit(int doc, float score) {
+        // Worst first: lower score, then later document
+        static final Comparator<Hit> ORDER = Comparator.comparingDouble(Hit::score)
+            .thenComparing(Comparator.comparingInt(Hit::doc).reversed());
+    }
+
+    public record Keyword(String term, float weight) {
+    }
+
+    /**
+     * Accumulates posting lists one document at a time. Term frequencies of
+     * the current document are counted by term id, so each occurrence costs
+     * one dictionary lookup.
+     */
+    private static final class Builder implements Consumer<String> {
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private int[][] lists = new int[1024][];
+        private int[] sizes = new int[1024];
+        private int[] frequencies = new int[1024];
+        private int[] used = new int[256];
+        private int usedCount;
+
+        @Override
+        public void accept(String term) {
+            Integer id = dictionary.get(term);
+            if (id == null) {
+                id = dictionary.size();
+                dictionary.put(term, id);
+                if (id == lists.length) {
+                    lists = Arrays.copyOf(lists, id * 2);
+                    sizes = Arrays.copyOf(sizes, id * 2);
+                    frequencies = Arrays.copyOf(frequencies, id * 2);
+                }
+                lists[id] = new int[4];
+            }
+            if (frequencies[id]++ == 0) {
+                if (usedCount == used.length) {
+                    used = Arrays.copyOf(used, usedCount * 2);
+                }
+                used[usedCount++] = id;
+            }
+        }
+
+        void endDocument(int doc) {
+            for (int i = 0; i < usedCount; i++) {
+                int term = used[i];
+                int[] list = lists[term];
+                if (sizes[term] == list.length) {
+                    list = lists[term] = Arrays.copyOf(list, list.length * 2);
+                }
+                list[sizes[term]++] = doc << TF_BITS | Math.min(frequencies[term], MAX_TF);
+                frequencies[term] = 0;
+            }
+            usedCount = 0;
+        }
+
+        int[][] lists() {
+            int[][] trimmed = new int[dictionary.size()][];
+            for (int term = 0; term < trimmed.length; term++) {
+                trimmed[term] = sizes[term] == lists[term].length ? lists[term] : Arrays.copyOf(lists[term], sizes[term]);
+                lists[term] = null;
+            }
+            return trimmed;
+        }
+    }
+
+    private static final class Scratch {
+        private float[] scores = new float[0];
+        private int[] touched = new int[0];
+
+        // Scores are all zero between queries: search() resets the ones it touched
+        float[] scores(int documents) {
+            if (scores.length < documents) {
+                scores = new float[documents];
+                touched = new int[documents];
+            }
+            return scores;
+        }
+    }
+}
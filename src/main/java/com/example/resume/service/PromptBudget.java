@@ -0,0 +1,270 @@
+package com.example.resume.service;
+
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.Resume;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fits a prompt into the model's context before it is sent.
+ * <p>
+ * The rendered prompt is measured with {@link TokenEstimator}. If it exceeds
+ * {@code resume.prompt.max-tokens}, a copy of the resume is trimmed in
+ * rounds, each round tightening the caps on the low-priority sections in
+ * order (achievements, education, skills, experience): fewer entries, fewer
+ * bullets, and long free text cut at a sentence or word boundary. The summary
+ * is only shortened last, to exactly what still fits; personal information
+ * is never trimmed. The submitted resume is left untouched.
+ * <p>
+ * {@code max_tokens} then scales with the prompt, between
+ * {@code resume.completion.min-tokens} and {@code resume.completion.max-tokens},
+ * and never past the context window. Estimated and provider-reported prompt
+ * sizes are exported so the estimator's drift is visible.
+ */
+@Component
+public class PromptBudget {
+    private static final Logger logger = LoggerFactory.getLogger(PromptBudget.class);
+
+    private enum Section {
+        ACHIEVEMENTS, EDUCATION, SKILLS, EXPERIENCE
+    }
+
+    private record Caps(int entries, int bullets, int textTokens) {
+    }
+
+    private static final Caps[] ROUNDS = {
+        new Caps(20, 10, 400),
+        new Caps(10, 6, 200),
+        new Caps(5, 3, 100),
+        new Caps(3, 1, 40)
+    };
+
+    @Value("${resume.prompt.max-tokens:3000}")
+    private int maxPromptTokens;
+
+    @Value("${resume.completion.max-tokens:2000}")
+    private int maxCompletionTokens;
+
+    @Value("${resume.completion.min-tokens:1024}")
+    private int minCompletionTokens;
+
+    @Value("${resume.completion.tokens-per-prompt-token:1.5}")
+    private double completionRatio;
+
+    @Value("${resume.model.context-window:16385}")
+    private int contextWindow;
+
+    @Autowired
+    private PromptTemplateRegistry promptTemplates;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private DistributionSummary estimatedTokens;
+    private DistributionSummary actualTokens;
+    private DistributionSummary estimateRatio;
+    private DistributionSummary requestedMaxTokens;
+
+    @PostConstruct
+    void init() {
+        estimatedTokens = DistributionSummary.builder("resume.prompt.tokens")
+            .description("Prompt size in tokens")
+            .tag("source", "estimated")
+            .register(meterRegistry);
+        actualTokens = DistributionSummary.builder("resume.prompt.tokens")
+            .description("Prompt size in tokens")
+            .tag("source", "provider")
+            .register(meterRegistry);
+        estimateRatio = DistributionSummary.builder("resume.prompt.tokens.estimate.ratio")
+            .description("Estimated prompt tokens divided by the provider's count")
+            .register(meterRegistry);
+        requestedMaxTokens = DistributionSummary.builder("resume.completion.max.tokens")
+            .description("max_tokens requested per completion")
+            .register(meterRegistry);
+    }
+
+    public int getPromptLimit() {
+        return Math.min(maxPromptTokens, contextWindow - minCompletionTokens);
+    }
+
+    /**
+     * Renders {@code resume} with its template and fits the result to the budget.
+     *
+     * @throws IllegalArgumentException if even the fully trimmed prompt is too large
+     */
+    public BudgetedPrompt prepare(Resume resume, PromptTemplate.Kind kind) {
+        int limit = getPromptLimit();
+        String prompt = promptTemplates.render(resume, kind);
+        int tokens = TokenEstimator.count(prompt) + TokenEstimator.MESSAGE_OVERHEAD;
+        boolean trimmed = false;
+
+        if (tokens > limit) {
+            int original = tokens;
+            Resume copy = resume.copy();
+            rounds:
+            for (Caps caps : ROUNDS) {
+                for (Section section : Section.values()) {
+                    if (!trim(copy, section, caps)) {
+                        continue;
+                    }
+                    prompt = promptTemplates.render(copy, kind);
+                    tokens = TokenEstimator.count(prompt) + TokenEstimator.MESSAGE_OVERHEAD;
+                    if (tokens <= limit) {
+                        break rounds;
+                    }
+                }
+            }
+            if (tokens > limit && copy.getSummary() != null) {
+                int summaryTokens = TokenEstimator.count(copy.getSummary());
+                int allowance = summaryTokens - (tokens - limit);
+                if (allowance > 0) {
+                    copy.setSummary(TokenEstimator.truncate(copy.getSummary(), allowance));
+                    prompt = promptTemplates.render(copy, kind);
+                    tokens = TokenEstimator.count(prompt) + TokenEstimator.MESSAGE_OVERHEAD;
+                }
+            }
+            if (tokens > limit) {
+                throw new IllegalArgumentException("Resume is too large: about " + tokens
+                    + " prompt tokens after trimming, limit is " + limit);
+            }
+            trimmed = true;
+            meterRegistry.counter("resume.prompt.trimmed").increment();
+            logger.info("Trimmed prompt from {} to {} estimated tokens (limit {})", original, tokens, limit);
+        }
+
+        int maxTokens = completionAllowance(tokens);
+        estimatedTokens.record(tokens);
+        requestedMaxTokens.record(maxTokens);
+        return new BudgetedPrompt(prompt, tokens, maxTokens, trimmed);
+    }
+
+    /**
+     * Compares the estimate with the prompt size the provider reported, when it did.
+     */
+    public void recordUsage(BudgetedPrompt prompt, GeneratedResume completion) {
+        if (completion == null || completion.getUsage() == null || completion.getUsage().getPromptTokens() == null) {
+            return;
+        }
+        int actual = completion.getUsage().getPromptTokens();
+        actualTokens.record(actual);
+        if (actual > 0) {
+            estimateRatio.record((double) prompt.promptTokens() / actual);
+        }
+    }
+
+    private int completionAllowance(int promptTokens) {
+        int scaled = (int) Math.ceil(promptTokens * completionRatio);
+        int allowance = Math.min(maxCompletionTokens, Math.max(minCompletionTokens, scaled));
+        return Math.max(1, Math.min(allowance, contextWindow - promptTokens));
+    }
+
+    /**
+     * Applies {@code caps} to one section of {@code resume}; returns whether
+     * anything changed. Truncation returns the same instance when nothing was
+     * cut, so changes are detected by identity.
+     */
+    private static boolean trim(Resume resume, Section section, Caps caps) {
+        switch (section) {
+            case ACHIEVEMENTS: {
+                List<String> list = capBullets(resume.getAchievementsList(), caps.bullets(), caps.textTokens());
+                String text = TokenEstimator.truncate(resume.getAchievements(), caps.textTokens());
+                boolean changed = list != resume.getAchievementsList() || text != resume.getAchievements();
+                resume.setAchievementsList(list);
+                resume.setAchievements(text);
+                return changed;
+            }
+            case EDUCATION: {
+                List<Resume.Education> list = resume.getEducations();
+                boolean changed = false;
+                if (list != null && list.size() > caps.entries()) {
+                    resume.setEducations(new ArrayList<>(list.subList(0, caps.entries())));
+                    changed = true;
+                }
+                String text = TokenEstimator.truncate(resume.getEducation(), caps.textTokens());
+                changed |= text != resume.getEducation();
+                resume.setEducation(text);
+                return changed;
+            }
+            case SKILLS: {
+                // Skills are short; keep more of them than of the prose bullets
+                List<String> list = capBullets(resume.getSkillsList(), caps.bullets() * 3, caps.textTokens());
+                String text = TokenEstimator.truncate(resume.getSkills(), caps.textTokens());
+                boolean changed = list != resume.getSkillsList() || text != resume.getSkills();
+                resume.setSkillsList(list);
+                resume.setSkills(text);
+                return changed;
+            }
+            case EXPERIENCE: {
+                boolean changed = false;
+                List<Resume.Experience> list = resume.getExperiences();
+                if (list != null) {
+                    // Entries are kept in submitted order, which is normally most recent first
+                    int keep = Math.min(list.size(), caps.entries());
+                    List<Resume.Experience> kept = new ArrayList<>(keep);
+                    for (int i = 0; i < keep; i++) {
+                        Resume.Experience exp = list.get(i);
+                        List<String> bullets = capBullets(exp.getResponsibilities(), caps.bullets(), caps.textTokens());
+                        if (bullets != exp.getResponsibilities()) {
+                            Resume.Experience shortened = copyOf(exp);
+                            shortened.setResponsibilities(bullets);
+                            exp = shortened;
+                            changed = true;
+                        }
+                        kept.add(exp);
+                    }
+                    changed |= keep < list.size();
+                    resume.setExperiences(kept);
+                }
+                String text = TokenEstimator.truncate(resume.getExperience(), caps.textTokens() * 2);
+                changed |= text != resume.getExperience();
+                resume.setExperience(text);
+                return changed;
+            }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns {@code items} itself when already within the caps, otherwise a shortened copy.
+     */
+    private static List<String> capBullets(List<String> items, int maxItems, int maxTokens) {
+        if (items == null) {
+            return null;
+        }
+        List<String> capped = null;
+        int keep = Math.min(items.size(), maxItems);
+        for (int i = 0; i < keep; i++) {
+            String item = items.get(i);
+            String shortened = TokenEstimator.truncate(item, maxTokens);
+            if (capped == null && shortened != item) {
+                capped = new ArrayList<>(items.subList(0, i));
+            }
+            if (capped != null) {
+                capped.add(shortened);
+            }
+        }
+        if (capped == null && keep < items.size()) {
+            capped = new ArrayList<>(items.subList(0, keep));
+        }
+        return capped == null ? items : capped;
+    }
+
+    private static Resume.Experience copyOf(Resume.Experience exp) {
+        Resume.Experience copy = new Resume.Experience();
+        copy.setCompany(exp.getCompany());
+        copy.setPosition(exp.getPosition());
+        copy.setDuration(exp.getDuration());
+        copy.setResponsibilities(exp.getResponsibilities());
+        return copy;
+    }
+}
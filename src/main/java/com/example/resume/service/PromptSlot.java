@@ -0,0 +1,252 @@
+package com.example.resume.service;
+
+import com.example.resume.model.Resume;
+
+import java.util.List;
+
+/**
+ * Typed placeholders a prompt template may use, written {@code {{name}}} in
+ * the template source. Each slot renders whole lines (every line ends with a
+ * newline) and falls back from the nested {@link Resume} fields to the flat
+ * ones, then to generic filler text, so templates only hold the static
+ * wording around them.
+ */
+enum PromptSlot {
+    PERSONAL_INFORMATION("personalInformation") {
+        @Override
+        void render(Resume resume, StringBuilder out) {
+            Resume.PersonalInformation info = resume.getPersonalInformation();
+            if (info == null) {
+                return;
+            }
+            out.append("Name: ").append(info.getName()).append('\n');
+            out.append("Email: ").append(info.getEmail()).append('\n');
+            line(out, "Phone: ", info.getPhone());
+            line(out, "Address: ", info.getAddress());
+            line(out, "LinkedIn: ", info.getLinkedin());
+            line(out, "GitHub: ", info.getGithub());
+        }
+
+        @Override
+        int estimate(Resume resume) {
+            Resume.PersonalInformation info = resume.getPersonalInformation();
+            return info == null ? 0 : 64 + length(info.getName()) + length(info.getEmail()) + length(info.getPhone())
+                + length(info.getAddress()) + length(info.getLinkedin()) + length(info.getGithub());
+        }
+    },
+
+    SUMMARY("summary") {
+        @Override
+        void render(Resume resume, StringBuilder out) {
+            if (hasText(resume.getSummary())) {
+                out.append(resume.getSummary()).append('\n');
+            } else {
+                out.append("Experienced professional with strong skills in various domains. ")
+                    .append("Looking for opportunities to contribute and grow in a dynamic environment.\n");
+            }
+        }
+
+        @Override
+        int estimate(Resume resume) {
+            return Math.max(length(resume.getSummary()), 140) + 1;
+        }
+    },
+
+    SKILLS("skills") {
+        @Override
+        void render(Resume resume, StringBuilder out) {
+            if (!isEmpty(resume.getSkillsList())) {
+                bullets(out, resume.getSkillsList());
+            } else if (hasText(resume.getSkills())) {
+                out.append(resume.getSkills()).append('\n');
+            } else {
+                out.append("- Strong communication and interpersonal skills\n")
+                    .append("- Problem-solving and analytical abilities\n")
+                    .append("- Team collaboration and leadership\n");
+            }
+        }
+
+        @Override
+        int estimate(Resume resume) {
+            return Math.max(bulletsLength(resume.getSkillsList()) + length(resume.getSkills()), 120);
+        }
+    },
+
+    EXPERIENCE("experience") {
+        @Override
+        void render(Resume resume, StringBuilder out) {
+            List<Resume.Experience> experiences = resume.getExperiences();
+            if (!isEmpty(experiences)) {
+                for (int i = 0; i < experiences.size(); i++) {
+                    Resume.Experience exp = experiences.get(i);
+                    if (i > 0) {
+                        out.append('\n');
+                    }
+                    out.append(exp.getCompany()).append(" - ").append(exp.getPosition()).append('\n');
+                    out.append(exp.getDuration()).append('\n');
+                    if (exp.getResponsibilities() != null) {
+                        bullets(out, exp.getResponsibilities());
+                    }
+                }
+            } else if (hasText(resume.getExperience())) {
+                out.append(resume.getExperience()).append('\n');
+            } else {
+                out.append("Professional Experience\n")
+                    .append("Various roles demonstrating strong work ethic and ability to adapt to different environments.\n");
+            }
+        }
+
+        @Override
+        int estimate(Resume resume) {
+            int size = length(resume.getExperience());
+            if (resume.getExperiences() != null) {
+                for (Resume.Experience exp : resume.getExperiences()) {
+                    size += 8 + length(exp.getCompany()) + length(exp.getPosition()) + length(exp.getDuration())
+                        + bulletsLength(exp.getResponsibilities());
+                }
+            }
+            return Math.max(size, 120);
+        }
+    },
+
+    EDUCATION("education") {
+        @Override
+        void render(Resume resume, StringBuilder out) {
+            List<Resume.Education> educations = resume.getEducations();
+            if (!isEmpty(educations)) {
+                for (int i = 0; i < educations.size(); i++) {
+                    Resume.Education edu = educations.get(i);
+                    if (i > 0) {
+                        out.append('\n');
+                    }
+                    out.append(edu.getInstitution()).append('\n');
+                    out.append(edu.getDegree()).append(" in ").append(edu.getField()).append('\n');
+                    out.append(edu.getDuration()).append('\n');
+                }
+            } else if (hasText(resume.getEducation())) {
+                out.append(resume.getEducation()).append('\n');
+            } else {
+                out.append("Relevant educational background with focus on professional development.\n");
+            }
+        }
+
+        @Override
+        int estimate(Resume resume) {
+            int size = length(resume.getEducation());
+            if (resume.getEducations() != null) {
+                for (Resume.Education edu : resume.getEducations()) {
+                    size += 10 + length(edu.getInstitution()) + length(edu.getDegree()) + length(edu.getField())
+                        + length(edu.getDuration());
+                }
+            }
+            return Math.max(size, 80);
+        }
+    },
+
+    ACHIEVEMENTS("achievements") {
+        @Override
+        void render(Resume resume, StringBuilder out) {
+            if (!isEmpty(resume.getAchievementsList())) {
+                bullets(out, resume.getAchievementsList());
+            } else if (hasText(resume.getAchievements())) {
+                out.append(resume.getAchievements()).append('\n');
+            } else {
+                out.append("- Consistently recognized for outstanding performance\n")
+                    .append("- Successfully completed multiple challenging projects\n");
+            }
+        }
+
+        @Override
+        int estimate(Resume resume) {
+            return Math.max(bulletsLength(resume.getAchievementsList()) + length(resume.getAchievements()), 110);
+        }
+    },
+
+    /**
+     * The keywords the target job asks for that the candidate already has
+     * (see {@code JobMatcher#applyEmphasis}). Renders nothing without a
+     * target, so templates place it directly before their closing
+     * instructions; otherwise it is a section followed by a blank line.
+     */
+    EMPHASIS("emphasis") {
+        @Override
+        void render(Resume resume, StringBuilder out) {
+            List<String> emphasis = resume.getEmphasis();
+            if (isEmpty(emphasis)) {
+                return;
+            }
+            out.append("TARGET ROLE\n")
+                .append("The target job asks for these skills, which the candidate has. ")
+                .append("Give them prominence where the details above support it: ");
+            for (int i = 0; i < emphasis.size(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                out.append(emphasis.get(i));
+            }
+            out.append("\n\n");
+        }
+
+        @Override
+        int estimate(Resume resume) {
+            return isEmpty(resume.getEmphasis()) ? 0 : 128 + bulletsLength(resume.getEmphasis());
+        }
+    };
+
+    private final String placeholder;
+
+    PromptSlot(String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    abstract void render(Resume resume, StringBuilder out);
+
+    /**
+     * Upper bound-ish guess of the rendered length, used to size the output buffer.
+     */
+    abstract int estimate(Resume resume);
+
+    static PromptSlot forPlaceholder(String name) {
+        for (PromptSlot slot : values()) {
+            if (slot.placeholder.equals(name)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private static void line(StringBuilder out, String label, String value) {
+        if (value != null) {
+            out.append(label).append(value).append('\n');
+        }
+    }
+
+    private static void bullets(StringBuilder out, List<String> items) {
+        for (int i = 0; i < items.size(); i++) {
+            out.append("- ").append(items.get(i)).append('\n');
+        }
+    }
+
+    private static int bulletsLength(List<String> items) {
+        if (items == null) {
+            return 0;
+        }
+        int size = 0;
+        for (int i = 0; i < items.size(); i++) {
+            size += 3 + length(items.get(i));
+        }
+        return size;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
+    }
+
+    private static int length(String value) {
+        return value == null ? 4 : value.length();
+    }
+}
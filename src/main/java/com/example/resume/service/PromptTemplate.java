@@ -0,0 +1,121 @@
+package com.example.resume.service;
+
+import com.example.resume.model.Resume;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A prompt template compiled once into alternating static text segments and
+ * {@link PromptSlot}s. Rendering sizes the buffer from the static length plus
+ * each slot's estimate, then appends segments and slots in order, so the
+ * fixed instruction text is never rebuilt. Immutable and thread-safe.
+ */
+public final class PromptTemplate {
+
+    public enum Kind {
+        /** Structured input: personal information plus optional sections. */
+        STRUCTURED,
+        /** A free-text summary only. */
+        SUMMARY,
+        /** Only the work experience section of a structured resume, regenerated after an edit. */
+        EXPERIENCE,
+        /** Only the education section, regenerated after an edit. */
+        EDUCATION,
+        /** Only the skills section, regenerated after an edit. */
+        SKILLS,
+        /** Only the achievements section, regenerated after an edit. */
+        ACHIEVEMENTS;
+
+        /**
+         * Whether the prompt covers a single section rather than a whole resume.
+         */
+        public boolean isSection() {
+            return this != STRUCTURED && this != SUMMARY;
+        }
+
+        /**
+         * The whole-resume prompt a generation request uses: SUMMARY when it
+         * carries a free-text summary, STRUCTURED otherwise.
+         */
+        public static Kind forInput(Resume resume) {
+            return resume.getSummary() != null && !resume.getSummary().isEmpty() ? SUMMARY : STRUCTURED;
+        }
+    }
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    private final int version;
+    private final Kind kind;
+    private final String[] segments;
+    private final PromptSlot[] slots;
+    private final int staticLength;
+
+    private PromptTemplate(String name, int version, Kind kind, String[] segments, PromptSlot[] slots) {
+        this.name = name;
+        this.version = version;
+        this.kind = kind;
+        this.segments = segments;
+        this.slots = slots;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * Parses {@code source}, failing on unknown or unterminated placeholders.
+     */
+    public static PromptTemplate compile(String name, int version, Kind kind, String source) {
+        List<String> segments = new ArrayList<>();
+        List<PromptSlot> slots = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalStateException("Unterminated placeholder in prompt template " + name + " v" + version);
+            }
+            String placeholder = source.substring(open + OPEN.length(), close).trim();
+            PromptSlot slot = PromptSlot.forPlaceholder(placeholder);
+            if (slot == null) {
+                throw new IllegalStateException("Unknown placeholder {{" + placeholder + "}} in prompt template "
+                    + name + " v" + version);
+            }
+            segments.add(source.substring(position, open));
+            slots.add(slot);
+            position = close + CLOSE.length();
+        }
+        segments.add(source.substring(position));
+        return new PromptTemplate(name, version, kind, segments.toArray(new String[0]), slots.toArray(new PromptSlot[0]));
+    }
+
+    public String render(Resume resume) {
+        int capacity = staticLength;
+        for (PromptSlot slot : slots) {
+            capacity += slot.estimate(resume);
+        }
+        StringBuilder out = new StringBuilder(capacity);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(segments[i]);
+            slots[i].render(resume, out);
+        }
+        out.append(segments[slots.length]);
+        return out.toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+}
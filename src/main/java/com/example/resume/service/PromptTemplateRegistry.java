@@ -0,0 +1,130 @@
+package com.example.resume.service;
+
+import com.example.resume.model.Resume;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Loads and compiles every prompt template at startup.
+ * <p>
+ * Templates live at {@code resume.prompt.location} and are named
+ * {@code <name>.<kind>.v<version>.tmpl}, e.g. {@code executive.summary.v2.tmpl}.
+ * A request picks one with {@link Resume#getTemplate()}: {@code "executive"}
+ * resolves to the highest version, {@code "executive@1"} pins version 1, and
+ * no selector uses {@code resume.prompt.default-template}. Section templates
+ * ({@code <name>.skills.v1.tmpl} and so on) are optional for all but the
+ * default template; a template without one uses the default's.
+ */
+@Component
+public class PromptTemplateRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(PromptTemplateRegistry.class);
+
+    private static final Pattern FILE_NAME = Pattern.compile(
+        "([a-z0-9-]+)\\.(structured|summary|experience|education|skills|achievements)\\.v(\\d+)\\.tmpl");
+
+    @Value("${resume.prompt.location:classpath*:prompts/*.tmpl}")
+    private String location;
+
+    @Value("${resume.prompt.default-template:standard}")
+    private String defaultTemplate;
+
+    // Keyed by "<name>.<kind>.v<version>" and, for the latest version, "<name>.<kind>"
+    private final Map<String, PromptTemplate> templates = new HashMap<>();
+
+    @PostConstruct
+    void load() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(location);
+        for (Resource resource : resources) {
+            Matcher matcher = FILE_NAME.matcher(resource.getFilename() == null ? "" : resource.getFilename());
+            if (!matcher.matches()) {
+                logger.warn("Ignoring prompt template with unexpected file name: {}", resource.getFilename());
+                continue;
+            }
+            String name = matcher.group(1);
+            PromptTemplate.Kind kind = PromptTemplate.Kind.valueOf(matcher.group(2).toUpperCase(Locale.ROOT));
+            int version = Integer.parseInt(matcher.group(3));
+            PromptTemplate template = PromptTemplate.compile(name, version, kind, read(resource));
+
+            templates.put(key(name, kind) + ".v" + version, template);
+            PromptTemplate latest = templates.get(key(name, kind));
+            if (latest == null || latest.getVersion() < version) {
+                templates.put(key(name, kind), template);
+            }
+        }
+        for (PromptTemplate.Kind kind : PromptTemplate.Kind.values()) {
+            if (!templates.containsKey(key(defaultTemplate, kind))) {
+                throw new IllegalStateException("Default prompt template '" + defaultTemplate + "' has no "
+                    + kind.name().toLowerCase(Locale.ROOT) + " variant at " + location);
+            }
+        }
+        logger.info("Loaded {} prompt templates from {}", resources.length, location);
+    }
+
+    /**
+     * Renders the prompt for {@code resume} with the template it selects.
+     *
+     * @throws IllegalArgumentException if the selector names no known template
+     */
+    public String render(Resume resume, PromptTemplate.Kind kind) {
+        return resolve(resume.getTemplate(), kind).render(resume);
+    }
+
+    /**
+     * Whether {@code selector} names a template with a {@code kind} variant,
+     * e.g. one that can render a summary request.
+     */
+    public boolean exists(String selector, PromptTemplate.Kind kind) {
+        try {
+            resolve(selector, kind);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    PromptTemplate resolve(String selector, PromptTemplate.Kind kind) {
+        if (selector == null || selector.isBlank()) {
+            return templates.get(key(defaultTemplate, kind));
+        }
+        String trimmed = selector.trim().toLowerCase(Locale.ROOT);
+        int at = trimmed.indexOf('@');
+        String name = at < 0 ? trimmed : trimmed.substring(0, at);
+        PromptTemplate template = at < 0
+            ? templates.get(key(name, kind))
+            : templates.get(key(name, kind) + ".v" + trimmed.substring(at + 1).replaceFirst("^v", ""));
+        if (template == null && kind.isSection() && exists(selector, PromptTemplate.Kind.STRUCTURED)) {
+            // Section prompts carry little styling; share the default's unless overridden
+            template = templates.get(key(defaultTemplate, kind));
+        }
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown prompt template: " + selector);
+        }
+        return template;
+    }
+
+    private static String key(String name, PromptTemplate.Kind kind) {
+        return name + "." + kind.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            String source = new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+            // Editors add a final newline; the prompt itself does not end with one
+            return source.endsWith("\n") ? source.substring(0, source.length() - 1) : source;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.resume.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chooses the completion backend for each call and decides when to hedge.
+ * <p>
+ * {@code resume.providers} lists the backends by name; each is configured
+ * by {@code <name>.api.key}, {@code <name>.api.url} and
+ * {@code <name>.api.model}, and one without a real key is skipped. A call
+ * goes to the backend with the lowest {@link CompletionProvider#cost()}.
+ * When hedging is on and a second backend is up, a call still unanswered
+ * after the {@code resume.hedging.percentile} of its backend's recent
+ * latencies is also sent to the next best backend, and the first answer
+ * wins. Hedges are paid for from a budget that grows by
+ * {@code resume.hedging.budget} per call, so at most that share of calls is
+ * sent twice even when a backend slows down for everyone.
+ */
+@Component
+public class ProviderRouter {
+    private static final Logger logger = LoggerFactory.getLogger(ProviderRouter.class);
+
+    // Hedges that may be spent at once after a quiet spell
+    private static final double MAX_HEDGE_CREDIT = 10;
+
+    @Value("${resume.providers:openai}")
+    private List<String> providerNames;
+
+    @Value("${resume.routing.ewma-alpha:0.3}")
+    private double ewmaAlpha;
+
+    @Value("${resume.routing.error-half-life-ms:30000}")
+    private long errorHalfLifeMs;
+
+    @Value("${resume.hedging.enabled:true}")
+    private boolean hedgingEnabled;
+
+    @Value("${resume.hedging.percentile:0.95}")
+    private double hedgePercentile;
+
+    @Value("${resume.hedging.min-samples:20}")
+    private int hedgeMinSamples;
+
+    @Value("${resume.hedging.initial-delay-ms:10000}")
+    private long hedgeInitialDelayMs;
+
+    @Value("${resume.hedging.min-delay-ms:500}")
+    private long hedgeMinDelayMs;
+
+    @Value("${resume.hedging.budget:0.1}")
+    private double hedgeBudget;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<CompletionProvider> providers = new ArrayList<>();
+    private double hedgeCredit = MAX_HEDGE_CREDIT;
+
+    @PostConstruct
+    void init() {
+        for (String name : providerNames) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            CompletionProvider provider = new CompletionProvider(name,
+                environment.getProperty(name + ".api.url", "https://api.openai.com/v1"),
+                environment.getProperty(name + ".api.key", "mock-api-key"),
+                environment.getProperty(name + ".api.model", CompletionClient.DEFAULT_MODEL),
+                ewmaAlpha, errorHalfLifeMs);
+            if (!provider.isConfigured()) {
+                logger.info("Completion provider {} has no API key, skipping it", name);
+                continue;
+            }
+            providers.add(provider);
+            Gauge.builder("resume.provider.latency", provider, p -> p.getLatencyEwmaNanos() / 1e9)
+                .description("Latency EWMA of a completion provider")
+                .tag("provider", name)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+            Gauge.builder("resume.provider.error.rate", provider, CompletionProvider::getErrorRate)
+                .description("Error rate EWMA of a completion provider")
+                .tag("provider", name)
+                .register(meterRegistry);
+            Gauge.builder("resume.provider.in.flight", provider, CompletionProvider::getInFlight)
+                .description("Calls waiting on a completion provider")
+                .tag("provider", name)
+                .register(meterRegistry);
+            logger.info("Completion provider {} at {} using {}", name, provider.getUrl(), provider.getModel());
+        }
+    }
+
+    public boolean isConfigured() {
+        return !providers.isEmpty();
+    }
+
+    public List<CompletionProvider> getProviders() {
+        return List.copyOf(providers);
+    }
+
+    /**
+     * The cheapest backend other than {@code excluded}, or null if there is none.
+     */
+    public CompletionProvider select(CompletionProvider excluded) {
+        CompletionProvider best = null;
+        double bestCost = Double.MAX_VALUE;
+        for (CompletionProvider provider : providers) {
+            if (provider == excluded) {
+                continue;
+            }
+            double cost = provider.cost();
+            if (cost < bestCost) {
+                best = provider;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Where a call to {@code primary} would be hedged, or null when hedging
+     * is off or there is no other backend.
+     */
+    public CompletionProvider hedgeTarget(CompletionProvider primary) {
+        return hedgingEnabled ? select(primary) : null;
+    }
+
+    /**
+     * How long to wait on {@code primary} before hedging: the configured
+     * percentile of its recent latencies, or the initial delay until it has
+     * enough of them.
+     */
+    public long hedgeDelayMs(CompletionProvider primary) {
+        long percentile = primary.latencyPercentileNanos(hedgePercentile, hedgeMinSamples);
+        if (percentile < 0) {
+            return hedgeInitialDelayMs;
+        }
+        return Math.max(hedgeMinDelayMs, percentile / 1_000_000);
+    }
+
+    /**
+     * Adds a call's share to the hedge budget.
+     */
+    public synchronized void called() {
+        hedgeCredit = Math.min(MAX_HEDGE_CREDIT, hedgeCredit + hedgeBudget);
+    }
+
+    /**
+     * Takes one hedge from the budget, if there is one left.
+     */
+    public synchronized boolean tryHedge() {
+        if (hedgeCredit < 1) {
+            return false;
+        }
+        hedgeCredit--;
+        return true;
+    }
+
+    /**
+     * Counts a hedged call by whether the hedge answered first ({@code won}),
+     * the original call did ({@code lost}), or both failed.
+     */
+    public void recordHedge(String outcome) {
+        Counter.builder("resume.provider.hedges")
+            .description("Calls sent to a second provider, by which answered first")
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.resume.service;
+
+import com.example.resume.model.Resume;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Locality-sensitive fingerprint of the text a resume is generated from.
+ * The input is reduced to lower-cased words (so whitespace, punctuation
+ * and case edits vanish) and each word and each pair of adjacent words is
+ * hashed to a feature. A MinHash signature of the feature set is cut into
+ * {@link #BANDS} bands of {@link #ROWS} rows; two inputs with Jaccard
+ * similarity {@code s} share at least one band with probability
+ * {@code 1 - (1 - s^ROWS)^BANDS}: above 98% at 0.8, about 15% at 0.3.
+ * A shared band makes a candidate, which {@link #similarity} then checks
+ * exactly.
+ * <p>
+ * Everything that must match exactly for a reuse (the kind of input, the
+ * prompt template and the emphasized keywords) is hashed into every band.
+ * The structured contact details are not features: a reused generation is
+ * adapted to them (see {@code NearDuplicateDetector}).
+ */
+public final class ResumeFingerprint {
+
+    public static final int BANDS = 6;
+    public static final int ROWS = 3;
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private final long group;
+    private final int[] bands;
+    // Sorted and distinct, for the exact similarity check
+    private final long[] features;
+
+    private ResumeFingerprint(long group, int[] bands, long[] features) {
+        this.group = group;
+        this.bands = bands;
+        this.features = features;
+    }
+
+    public static ResumeFingerprint of(Resume resume) {
+        Features features = new Features();
+        boolean summary = resume.getSummary() != null && !resume.getSummary().isEmpty();
+        if (summary) {
+            features.add("summary", resume.getSummary());
+        } else {
+            features.add("experience", resume.getExperience());
+            if (resume.getExperiences() != null) {
+                for (Resume.Experience experience : resume.getExperiences()) {
+                    features.add("experience", experience.getCompany());
+                    features.add("experience", experience.getPosition());
+                    features.add("experience", experience.getDuration());
+                    features.addAll("experience", experience.getResponsibilities());
+                }
+            }
+            features.add("education", resume.getEducation());
+            if (resume.getEducations() != null) {
+                for (Resume.Education education : resume.getEducations()) {
+                    features.add("education", education.getInstitution());
+                    features.add("education", education.getDegree());
+                    features.add("education", education.getField());
+                    features.add("education", education.getDuration());
+                }
+            }
+            features.add("skills", resume.getSkills());
+            features.addAll("skills", resume.getSkillsList());
+            features.add("achievements", resume.getAchievements());
+            features.addAll("achievements", resume.getAchievementsList());
+        }
+
+        long group = hash(summary ? "summary" : "structured", SEED);
+        String template = resume.getTemplate() == null ? "" : resume.getTemplate().trim().toLowerCase(Locale.ROOT);
+        group = hash(template, group);
+        if (resume.getEmphasis() != null) {
+            for (String keyword : resume.getEmphasis()) {
+                group = hash(keyword, group);
+            }
+        }
+        long[] distinct = features.distinct();
+        return new ResumeFingerprint(group, bands(distinct, group), distinct);
+    }
+
+    int band(int index) {
+        return bands[index];
+    }
+
+    /**
+     * True when there is no text to compare, e.g. contact details only.
+     */
+    public boolean isEmpty() {
+        return features.length == 0;
+    }
+
+    /**
+     * Jaccard similarity of the two inputs' feature sets, from 0 to 1, or 0
+     * when they differ in anything that must match exactly.
+     */
+    public double similarity(ResumeFingerprint other) {
+        if (group != other.group) {
+            return 0;
+        }
+        long[] a = features;
+        long[] b = other.features;
+        if (a.length == 0 && b.length == 0) {
+            return 1;
+        }
+        int shared = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) shared / (a.length + b.length - shared);
+    }
+
+    /**
+     * The bands as hex digits, as stored with history entries.
+     */
+    public String encode() {
+        StringBuilder encoded = new StringBuilder(BANDS * 8);
+        for (int band : bands) {
+            encoded.append(String.format("%08x", band));
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Bands of an {@link #encode() encoded} fingerprint, or null if malformed.
+     */
+    public static int[] decode(String encoded) {
+        if (encoded == null || encoded.length() != BANDS * 8) {
+            return null;
+        }
+        int[] bands = new int[BANDS];
+        try {
+            for (int i = 0; i < BANDS; i++) {
+                bands[i] = Integer.parseUnsignedInt(encoded, i * 8, i * 8 + 8, 16);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return bands;
+    }
+
+    private static int[] bands(long[] features, long group) {
+        long[] minimums = new long[BANDS * ROWS];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+        for (long feature : features) {
+            for (int i = 0; i < minimums.length; i++) {
+                // One cheap independent-enough permutation per row: re-mix with a per-row seed
+                long value = mix(feature ^ (SEED * (i + 1)));
+                if (value < minimums[i]) {
+                    minimums[i] = value;
+                }
+            }
+        }
+        int[] bands = new int[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long h = group + band;
+            for (int row = 0; row < ROWS; row++) {
+                h = mix(h * 31 + minimums[band * ROWS + row]);
+            }
+            bands[band] = (int) (h ^ h >>> 32);
+        }
+        return bands;
+    }
+
+    // FNV-1a over the characters, then a 64-bit finalizer so nearby strings spread over all bits
+    private static long hash(CharSequence text, long seed) {
+        long h = seed ^ 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Hashes of the words and adjacent word pairs of each field, salted
+     * with the section they came from so text moved between sections
+     * counts as changed.
+     */
+    private static final class Features {
+        private long[] hashes = new long[64];
+        private int size;
+        private final StringBuilder word = new StringBuilder(24);
+
+        void addAll(String section, List<String> values) {
+            if (values != null) {
+                for (String value : values) {
+                    add(section, value);
+                }
+            }
+        }
+
+        void add(String section, String text) {
+            if (text == null) {
+                return;
+            }
+            long salt = hash(section, SEED);
+            long previous = 0;
+            boolean hasPrevious = false;
+            for (int i = 0; i <= text.length(); i++) {
+                char c = i < text.length() ? text.charAt(i) : ' ';
+                if (Character.isLetterOrDigit(c)) {
+                    word.append(Character.toLowerCase(c));
+                    continue;
+                }
+                if (word.length() == 0) {
+                    continue;
+                }
+                long current = hash(word, salt);
+                word.setLength(0);
+                push(current);
+                if (hasPrevious) {
+                    push(mix(previous * 31 + current));
+                }
+                previous = current;
+                hasPrevious = true;
+            }
+        }
+
+        private void push(long feature) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+            }
+            hashes[size++] = feature;
+        }
+
+        long[] distinct() {
+            long[] sorted = Arrays.copyOf(hashes, size);
+            Arrays.sort(sorted);
+            int unique = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[unique++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, unique);
+        }
+    }
+}
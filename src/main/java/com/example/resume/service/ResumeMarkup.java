@@ -0,0 +1,140 @@
+package com.example.resume.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads generated resume text into layout blocks for the document
+ * renderers. Models answer in loose markdown, and the local fallback in
+ * plain text with upper-case headings, so both are accepted:
+ * <ul>
+ *   <li>the first non-blank line is the title; {@code # } is stripped;</li>
+ *   <li>{@code ## }-style lines, lines entirely in bold and short
+ *       upper-case lines are headings;</li>
+ *   <li>lines starting with {@code - }, {@code * } or {@code •} are bullets;</li>
+ *   <li>anything else is a paragraph; {@code **bold**} spans are kept as runs.</li>
+ * </ul>
+ * Horizontal rules and blank lines carry no content and are dropped.
+ */
+public final class ResumeMarkup {
+
+    public enum Type {
+        TITLE, HEADING, BULLET, PARAGRAPH
+    }
+
+    public record Run(String text, boolean bold) {
+    }
+
+    public record Block(Type type, List<Run> runs) {
+    }
+
+    private static final int MAX_HEADING_LENGTH = 60;
+
+    private ResumeMarkup() {
+    }
+
+    public static List<Block> parse(String content) {
+        List<Block> blocks = new ArrayList<>();
+        if (content == null) {
+            return blocks;
+        }
+        boolean titled = false;
+        for (String raw : content.split("\r?\n")) {
+            String line = raw.strip();
+            if (line.isEmpty() || isRule(line)) {
+                continue;
+            }
+            if (!titled) {
+                titled = true;
+                blocks.add(new Block(Type.TITLE, plain(stripHashes(line))));
+                continue;
+            }
+            String bold = boldHeading(line);
+            if (line.startsWith("#")) {
+                blocks.add(new Block(Type.HEADING, plain(stripHashes(line))));
+            } else if (line.startsWith("- ") || line.startsWith("* ") || line.startsWith("•")) {
+                blocks.add(new Block(Type.BULLET, runs(line.substring(line.startsWith("•") ? 1 : 2).strip())));
+            } else if (bold != null) {
+                blocks.add(new Block(Type.HEADING, plain(bold)));
+            } else if (isUpperCaseHeading(line)) {
+                blocks.add(new Block(Type.HEADING, plain(line)));
+            } else {
+                blocks.add(new Block(Type.PARAGRAPH, runs(line)));
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Splits {@code **bold**} spans out of a line; an unmatched marker is kept as text.
+     */
+    static List<Run> runs(String line) {
+        List<Run> runs = new ArrayList<>(1);
+        int position = 0;
+        while (position < line.length()) {
+            int open = line.indexOf("**", position);
+            int close = open < 0 ? -1 : line.indexOf("**", open + 2);
+            if (close < 0) {
+                runs.add(new Run(line.substring(position), false));
+                break;
+            }
+            if (open > position) {
+                runs.add(new Run(line.substring(position, open), false));
+            }
+            if (close > open + 2) {
+                runs.add(new Run(line.substring(open + 2, close), true));
+            }
+            position = close + 2;
+        }
+        return runs;
+    }
+
+    private static List<Run> plain(String text) {
+        return List.of(new Run(text.replace("**", ""), false));
+    }
+
+    private static String stripHashes(String line) {
+        int start = 0;
+        while (start < line.length() && line.charAt(start) == '#') {
+            start++;
+        }
+        return line.substring(start).strip();
+    }
+
+    private static boolean isRule(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '-' && c != '=' && c != '_' && c != '*') {
+                return false;
+            }
+        }
+        return line.length() >= 3;
+    }
+
+    /**
+     * The text of a line that is bold as a whole, e.g. {@code **Education:**}, or null.
+     */
+    private static String boldHeading(String line) {
+        String trimmed = line.endsWith(":") ? line.substring(0, line.length() - 1) : line;
+        if (trimmed.length() <= 4 || trimmed.length() > MAX_HEADING_LENGTH
+            || !trimmed.startsWith("**") || trimmed.indexOf("**", 2) != trimmed.length() - 2) {
+            return null;
+        }
+        return trimmed.substring(2, trimmed.length() - 2).strip();
+    }
+
+    private static boolean isUpperCaseHeading(String line) {
+        if (line.length() > MAX_HEADING_LENGTH) {
+            return false;
+        }
+        boolean letters = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (Character.isLowerCase(c)) {
+                return false;
+            }
+            letters |= Character.isLetter(c);
+        }
+        return letters;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.resume.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the regenerable sections of a generated resume, so one can be
+ * replaced without touching the rest of the text.
+ * <p>
+ * A heading is a line that, once markdown decoration, list numbering and a
+ * trailing colon are stripped, is exactly a known section name: "## Skills",
+ * "**WORK EXPERIENCE:**" and "4. Education" all qualify. A section's body
+ * runs from the line after its heading to the next heading, without trailing
+ * blank lines. When a section's heading appears more than once it is reported
+ * as not found, so the caller regenerates everything rather than guess.
+ */
+public final class ResumeSections {
+
+    /**
+     * Body of one section: {@code content.substring(start, end)}.
+     */
+    public record Span(int start, int end) {
+    }
+
+    private static final Map<String, PromptTemplate.Kind> HEADINGS = Map.ofEntries(
+        Map.entry("experience", PromptTemplate.Kind.EXPERIENCE),
+        Map.entry("work experience", PromptTemplate.Kind.EXPERIENCE),
+        Map.entry("professional experience", PromptTemplate.Kind.EXPERIENCE),
+        Map.entry("relevant experience", PromptTemplate.Kind.EXPERIENCE),
+        Map.entry("employment history", PromptTemplate.Kind.EXPERIENCE),
+        Map.entry("work history", PromptTemplate.Kind.EXPERIENCE),
+        Map.entry("education", PromptTemplate.Kind.EDUCATION),
+        Map.entry("education and training", PromptTemplate.Kind.EDUCATION),
+        Map.entry("academic background", PromptTemplate.Kind.EDUCATION),
+        Map.entry("skills", PromptTemplate.Kind.SKILLS),
+        Map.entry("key skills", PromptTemplate.Kind.SKILLS),
+        Map.entry("core skills", PromptTemplate.Kind.SKILLS),
+        Map.entry("technical skills", PromptTemplate.Kind.SKILLS),
+        Map.entry("core competencies", PromptTemplate.Kind.SKILLS),
+        Map.entry("skills and competencies", PromptTemplate.Kind.SKILLS),
+        Map.entry("achievements", PromptTemplate.Kind.ACHIEVEMENTS),
+        Map.entry("key achievements", PromptTemplate.Kind.ACHIEVEMENTS),
+        Map.entry("achievements and certifications", PromptTemplate.Kind.ACHIEVEMENTS),
+        Map.entry("certifications", PromptTemplate.Kind.ACHIEVEMENTS),
+        Map.entry("accomplishments", PromptTemplate.Kind.ACHIEVEMENTS),
+        Map.entry("awards", PromptTemplate.Kind.ACHIEVEMENTS),
+        Map.entry("awards and achievements", PromptTemplate.Kind.ACHIEVEMENTS),
+        Map.entry("honors and awards", PromptTemplate.Kind.ACHIEVEMENTS));
+
+    // Headings that end the section before them but are never regenerated on their own
+    private static final Set<String> BOUNDARIES = Set.of("contact", "contact information", "personal information",
+        "summary", "professional summary", "profile", "professional profile", "objective", "career objective",
+        "projects", "languages", "interests", "references");
+
+    // Longer lines are prose, not headings
+    private static final int MAX_HEADING_LENGTH = 48;
+
+    private ResumeSections() {
+    }
+
+    /**
+     * Locates each regenerable section that appears exactly once in {@code content}.
+     */
+    public static Map<PromptTemplate.Kind, Span> locate(String content) {
+        Map<PromptTemplate.Kind, Span> spans = new EnumMap<>(PromptTemplate.Kind.class);
+        Set<PromptTemplate.Kind> repeated = EnumSet.noneOf(PromptTemplate.Kind.class);
+        PromptTemplate.Kind open = null;
+        int bodyStart = 0;
+        int bodyEnd = 0;
+        int lineStart = 0;
+        while (lineStart < content.length()) {
+            int newline = content.indexOf('\n', lineStart);
+            int lineEnd = newline < 0 ? content.length() : newline;
+            int next = newline < 0 ? content.length() : newline + 1;
+            String heading = heading(content, lineStart, lineEnd);
+            if (heading != null) {
+                close(spans, repeated, open, bodyStart, bodyEnd);
+                open = HEADINGS.get(heading);
+                bodyStart = next;
+                bodyEnd = next;
+            } else if (!isBlank(content, lineStart, lineEnd)) {
+                bodyEnd = trimEnd(content, lineStart, lineEnd);
+            }
+            lineStart = next;
+        }
+        close(spans, repeated, open, bodyStart, bodyEnd);
+        return spans;
+    }
+
+    /**
+     * Replaces the body of each section in {@code bodies} with the given
+     * text; everything outside those spans is kept byte for byte.
+     */
+    public static String splice(String content, Map<PromptTemplate.Kind, Span> spans,
+                                Map<PromptTemplate.Kind, String> bodies) {
+        List<Map.Entry<PromptTemplate.Kind, String>> replacements = new ArrayList<>(bodies.entrySet());
+        // Back to front, so earlier offsets stay valid
+        replacements.sort((a, b) -> Integer.compare(spans.get(b.getKey()).start(), spans.get(a.getKey()).start()));
+        StringBuilder out = new StringBuilder(content);
+        for (Map.Entry<PromptTemplate.Kind, String> replacement : replacements) {
+            Span span = spans.get(replacement.getKey());
+            String body = replacement.getValue();
+            if (span.start() > 0 && content.charAt(span.start() - 1) != '\n') {
+                // Heading was the last line, without a newline
+                body = "\n" + body;
+            }
+            if (span.start() == span.end() && span.end() < content.length()) {
+                // Empty section: keep the next heading on its own line
+                body = body + "\n";
+            }
+            out.replace(span.start(), span.end(), body);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Cleans a regenerated section for splicing: surrounding whitespace and
+     * a leading heading, which models tend to repeat despite instructions,
+     * are removed.
+     */
+    public static String body(String generated) {
+        if (generated == null) {
+            return "";
+        }
+        String text = generated.strip();
+        int newline = text.indexOf('\n');
+        int lineEnd = newline < 0 ? text.length() : newline;
+        if (heading(text, 0, lineEnd) != null) {
+            text = text.substring(lineEnd).strip();
+        }
+        return text;
+    }
+
+    private static void close(Map<PromptTemplate.Kind, Span> spans, Set<PromptTemplate.Kind> repeated,
+                              PromptTemplate.Kind kind, int start, int end) {
+        if (kind == null || repeated.contains(kind)) {
+            return;
+        }
+        if (spans.remove(kind) != null) {
+            repeated.add(kind);
+            return;
+        }
+        spans.put(kind, new Span(start, Math.max(start, end)));
+    }
+
+    /**
+     * The normalized heading on this line, or null if it is not a known heading.
+     */
+    private static String heading(String content, int start, int end) {
+        while (start < end && isDecoration(content.charAt(start))) {
+            start++;
+        }
+        int digits = start;
+        while (digits < end && Character.isDigit(content.charAt(digits))) {
+            digits++;
+        }
+        if (digits > start && digits < end && (content.charAt(digits) == '.' || content.charAt(digits) == ')')) {
+            start = digits + 1;
+            while (start < end && isDecoration(content.charAt(start))) {
+                start++;
+            }
+        }
+        while (end > start && (isDecoration(content.charAt(end - 1)) || content.charAt(end - 1) == ':')) {
+            end--;
+        }
+        if (start == end || end - start > MAX_HEADING_LENGTH) {
+            return null;
+        }
+        String name = content.substring(start, end).toLowerCase(Locale.ROOT)
+            .replace("&", "and")
+            .replaceAll("\\s+", " ");
+        return HEADINGS.containsKey(name) || BOUNDARIES.contains(name) ? name : null;
+    }
+
+    private static boolean isDecoration(char c) {
+        return c == '#' || c == '*' || c == '_' || c == '=' || Character.isWhitespace(c);
+    }
+
+    private static boolean isBlank(String content, int start, int end) {
+        return trimEnd(content, start, end) == start;
+    }
+
+    private static int trimEnd(String content, int start, int end) {
+        while (end > start && Character.isWhitespace(content.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+}
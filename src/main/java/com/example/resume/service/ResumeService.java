@@ -1,281 +1,536 @@
 package com.example.resume.service;
 
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.HistoryEntry;
 import com.example.resume.model.Resume;
+import com.example.resume.model.SummaryProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
 
 @Service
 public class ResumeService {
     private static final Logger logger = LoggerFactory.getLogger(ResumeService.class);
 
-    @Value("${openai.api.key:mock-api-key}")
-    private String apiKey;
+    @Autowired
+    private CompletionClient completionClient;
 
-    @Value("${openai.api.url:https://api.openai.com/v1}")
-    private String apiUrl;
+    @Autowired
+    private CompletionCache completionCache;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private CompletionCoalescer completionCoalescer;
 
-    public String generateResume(Resume resume) {
+    @Autowired
+    private CircuitBreaker circuitBreaker;
+
+    @Autowired
+    private LocalResumeRenderer localResumeRenderer;
+
+    @Autowired
+    private SummaryExtractor summaryExtractor;
+
+    @Autowired
+    private PromptBudget promptBudget;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private GenerationMetrics generationMetrics;
+
+    @Autowired
+    private HistoryStore historyStore;
+
+    @Autowired
+    private JobMatcher jobMatcher;
+
+    @Autowired
+    private NearDuplicateDetector nearDuplicates;
+
+    @Value("${resume.regeneration.max-sections:3}")
+    private int maxRegeneratedSections;
+
+    public GeneratedResume generateResume(Resume resume) {
+        GenerationMetrics.Request request = generationMetrics.begin("sync");
+        String promptHash = null;
         try {
-            // Validate minimum required data
-            if (resume == null) {
-                throw new IllegalArgumentException("Resume data is required");
-            }
+            BudgetedPrompt prompt = preparePrompt(resume, request);
+            String cacheKey = CompletionCache.keyFor(prompt);
+            promptHash = cacheKey;
 
-            // If summary is provided, we can generate a resume
-            if (resume.getSummary() != null && !resume.getSummary().isEmpty()) {
-                logger.info("Generating resume from summary");
-                String generatedResume = generateResumeFromSummary(resume);
-                return generatedResume;
+            // Validate API key
+            if (!completionClient.isConfigured()) {
+                logger.warn("Invalid or missing OpenAI API key. Using mock implementation.");
+                request.path(GenerationMetrics.PATH_MOCK);
+                return remember(resume, cacheKey, GeneratedResume.of(generateMockResume(resume, prompt)));
             }
 
-            // Otherwise, validate required fields
-            if (resume.getPersonalInformation() == null) {
-                throw new IllegalArgumentException("Personal information is required");
+            GeneratedResume cached = completionCache.get(cacheKey);
+            if (cached != null) {
+                logger.info("Serving resume from completion cache");
+                request.path(GenerationMetrics.PATH_CACHE);
+                return remember(resume, cacheKey, cached);
             }
-            
-            if (resume.getPersonalInformation().getName() == null || resume.getPersonalInformation().getName().isEmpty()) {
-                throw new IllegalArgumentException("Name is required");
-            }
-            
-            if (resume.getPersonalInformation().getEmail() == null || resume.getPersonalInformation().getEmail().isEmpty()) {
-                throw new IllegalArgumentException("Email is required");
+
+            ResumeFingerprint fingerprint = nearDuplicates.fingerprint(resume);
+            GeneratedResume reused = nearDuplicates.find(resume, fingerprint);
+            if (reused != null) {
+                request.path(GenerationMetrics.PATH_NEAR_DUPLICATE);
+                return remember(resume, cacheKey, reused);
             }
 
-            // Validate API key
-            if (apiKey == null || apiKey.isEmpty() || "mock-api-key".equals(apiKey)) {
+            request.path(GenerationMetrics.PATH_UPSTREAM);
+            return remember(resume, cacheKey, completionCoalescer.execute(cacheKey, () -> callUpstream(cacheKey, prompt)),
+                fingerprint);
+        } catch (CircuitOpenException e) {
+            request.path(GenerationMetrics.PATH_FALLBACK);
+            return remember(resume, promptHash, GeneratedResume.of(generateFallbackResume(resume)));
+        } catch (IllegalArgumentException e) {
+            logger.error("Validation error: {}", e.getMessage());
+            request.fail(e);
+            throw e;
+        } catch (UpstreamSaturatedException e) {
+            request.fail(e);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error generating resume: {}", e.getMessage(), e);
+            request.fail(e);
+            throw new RuntimeException("Error generating resume: " + e.getMessage());
+        } finally {
+            request.end();
+        }
+    }
+
+    /**
+     * Same contract as {@link #generateResume(Resume)}, but the upstream call
+     * runs on the non-blocking client so no thread waits on the provider.
+     */
+    public CompletableFuture<GeneratedResume> generateResumeAsync(Resume resume) {
+        GenerationMetrics.Request request = generationMetrics.begin("async");
+        try {
+            BudgetedPrompt prompt = preparePrompt(resume, request);
+            String cacheKey = CompletionCache.keyFor(prompt);
+
+            if (!completionClient.isConfigured()) {
                 logger.warn("Invalid or missing OpenAI API key. Using mock implementation.");
-                return generateMockResume(resume);
+                request.path(GenerationMetrics.PATH_MOCK);
+                request.end();
+                return CompletableFuture.completedFuture(
+                    remember(resume, cacheKey, GeneratedResume.of(generateMockResume(resume, prompt))));
             }
 
-            // Log API key status (masked for security)
-            logger.info("Using OpenAI API with key: {}...{}", 
-                apiKey.substring(0, 4), 
-                apiKey.substring(apiKey.length() - 4));
-
-            String prompt = buildPrompt(resume);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Bearer " + apiKey);
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "gpt-3.5-turbo");
-            requestBody.put("messages", new Object[] {
-                new HashMap<String, String>() {{
-                    put("role", "user");
-                    put("content", prompt);
-                }}
-            });
-            requestBody.put("max_tokens", 2000);
-            requestBody.put("temperature", 0.7);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-
-            logger.info("Sending request to OpenAI API at: {}", apiUrl);
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                apiUrl + "/chat/completions",
-                request,
-                String.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                logger.info("Successfully generated resume");
-                return response.getBody();
-            } else {
-                logger.error("OpenAI API returned error: {}", response.getBody());
-                throw new RuntimeException("Failed to generate resume: " + response.getBody());
+            GeneratedResume cached = completionCache.get(cacheKey);
+            if (cached != null) {
+                logger.info("Serving resume from completion cache");
+                request.path(GenerationMetrics.PATH_CACHE);
+                request.end();
+                return CompletableFuture.completedFuture(remember(resume, cacheKey, cached));
+            }
+
+            ResumeFingerprint fingerprint = nearDuplicates.fingerprint(resume);
+            GeneratedResume reused = nearDuplicates.find(resume, fingerprint);
+            if (reused != null) {
+                request.path(GenerationMetrics.PATH_NEAR_DUPLICATE);
+                request.end();
+                return CompletableFuture.completedFuture(remember(resume, cacheKey, reused));
             }
+
+            request.path(GenerationMetrics.PATH_UPSTREAM);
+            return completionCoalescer.executeAsync(cacheKey, () -> callUpstreamAsync(cacheKey, prompt))
+                .thenApply(generatedResume -> remember(resume, cacheKey, generatedResume, fingerprint))
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    if (cause instanceof CircuitOpenException) {
+                        request.path(GenerationMetrics.PATH_FALLBACK);
+                        return remember(resume, cacheKey, GeneratedResume.of(generateFallbackResume(resume)));
+                    }
+                    if (cause instanceof UpstreamSaturatedException saturated) {
+                        request.fail(saturated);
+                        throw saturated;
+                    }
+                    logger.error("Error generating resume: {}", cause.getMessage(), cause);
+                    request.fail(cause);
+                    throw new RuntimeException("Error generating resume: " + cause.getMessage());
+                })
+                .whenComplete((generatedResume, error) -> request.end());
         } catch (IllegalArgumentException e) {
             logger.error("Validation error: {}", e.getMessage());
-            throw e;
+            request.fail(e);
+            request.end();
+            return CompletableFuture.failedFuture(e);
         } catch (Exception e) {
             logger.error("Error generating resume: {}", e.getMessage(), e);
-            throw new RuntimeException("Error generating resume: " + e.getMessage());
+            request.fail(e);
+            request.end();
+            return CompletableFuture.failedFuture(new RuntimeException("Error generating resume: " + e.getMessage()));
         }
     }
 
-    private Resume.PersonalInformation extractPersonalInfo(String summary) {
-        Resume.PersonalInformation info = new Resume.PersonalInformation();
-        
-        // Extract name (look for "I'm [Name]" or "My name is [Name]" or "I am [Name]")
-        Pattern namePattern = Pattern.compile("I'm ([A-Za-z ]+)|My name is ([A-Za-z ]+)|I am ([A-Za-z ]+)");
-        Matcher nameMatcher = namePattern.matcher(summary);
-        if (nameMatcher.find()) {
-            String name = nameMatcher.group(1) != null ? nameMatcher.group(1) : 
-                         (nameMatcher.group(2) != null ? nameMatcher.group(2) : nameMatcher.group(3));
-            info.setName(name.trim());
-            logger.info("Extracted name from summary: {}", name);
-        } else {
-            // If no name found, use a default
-            info.setName("Professional Candidate");
-            logger.info("No name found in summary, using default name");
+    /**
+     * Regenerates an edited resume starting from the stored generation
+     * {@code previous}. Only the sections whose structured fields changed
+     * (experience, education, skills, achievements) are sent upstream, each
+     * with its own small prompt and all in parallel, and the results are
+     * spliced into the previous text. Anything else falls back to a full
+     * generation: edits to the contact details, summary or template, a
+     * changed section that cannot be found in the previous text, or more than
+     * {@code resume.regeneration.max-sections} changed sections.
+     */
+    public CompletableFuture<GeneratedResume> regenerateResume(HistoryEntry previous, Resume updated) {
+        List<PromptTemplate.Kind> changed = changedSections(previous.getResume(), updated);
+        String content = previous.getResult() == null ? null : previous.getResult().getContent();
+        Map<PromptTemplate.Kind, ResumeSections.Span> spans = content == null ? Map.of() : ResumeSections.locate(content);
+        if (changed == null || changed.size() > maxRegeneratedSections || !spans.keySet().containsAll(changed)) {
+            logger.info("Edit to history entry {} needs a full regeneration", previous.getId());
+            meterRegistry.counter("resume.regeneration", "outcome", "full").increment();
+            return generateResumeAsync(updated);
         }
-        
-        // Extract email (look for email pattern)
-        Pattern emailPattern = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}");
-        Matcher emailMatcher = emailPattern.matcher(summary);
-        if (emailMatcher.find()) {
-            info.setEmail(emailMatcher.group());
-            logger.info("Extracted email from summary: {}", emailMatcher.group());
-        } else {
-            // If no email found, use a default
-            info.setEmail("candidate@example.com");
-            logger.info("No email found in summary, using default email");
+        if (changed.isEmpty()) {
+            meterRegistry.counter("resume.regeneration", "outcome", "unchanged").increment();
+            return CompletableFuture.completedFuture(previous.getResult().withId(previous.getId()));
         }
-        
-        return info;
-    }
 
-    private String generateResumeFromSummary(Resume resume) {
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("You are a professional resume writer. Create a detailed, professional resume based on the following summary. ");
-        prompt.append("Extract key information and create appropriate sections. ");
-        prompt.append("Make reasonable assumptions where information is missing.\n\n");
-        
-        prompt.append("SUMMARY:\n").append(resume.getSummary()).append("\n\n");
-        
-        prompt.append("Please create a professional resume with the following sections:\n");
-        prompt.append("1. Contact Information (at the top)\n");
-        prompt.append("2. Professional Summary\n");
-        prompt.append("3. Skills (as bullet points)\n");
-        prompt.append("4. Work Experience (with dates, company names, and achievements)\n");
-        prompt.append("5. Education\n");
-        prompt.append("6. Achievements and Certifications\n\n");
-        prompt.append("Format the resume professionally with proper spacing, bullet points, and section headers. ");
-        prompt.append("Use action verbs and quantify achievements where possible. ");
-        prompt.append("Make the resume compelling and highlight the most relevant information for the job market.");
-        
-        return prompt.toString();
+        GenerationMetrics.Request request = generationMetrics.begin("incremental");
+        try {
+            // Stored under the full prompt's hash, like any other generation of this resume
+            String promptHash = CompletionCache.keyFor(preparePrompt(updated, request));
+            boolean configured = completionClient.isConfigured();
+            if (!configured) {
+                logger.warn("Invalid or missing OpenAI API key. Using mock implementation.");
+            }
+            request.path(configured ? GenerationMetrics.PATH_UPSTREAM : GenerationMetrics.PATH_MOCK);
+
+            Map<PromptTemplate.Kind, CompletableFuture<GeneratedResume>> sections = new EnumMap<>(PromptTemplate.Kind.class);
+            for (PromptTemplate.Kind section : changed) {
+                BudgetedPrompt prompt = generationMetrics.time(GenerationMetrics.Stage.PROMPT_BUILD,
+                    () -> promptBudget.prepare(updated, section));
+                sections.put(section, configured
+                    ? completeSection(prompt)
+                    : CompletableFuture.completedFuture(GeneratedResume.of(generateMockResume(updated, prompt))));
+                meterRegistry.counter("resume.regeneration.sections", "section", section.name().toLowerCase()).increment();
+            }
+            meterRegistry.counter("resume.regeneration", "outcome", "partial").increment();
+            logger.info("Regenerating sections {} of history entry {}", changed, previous.getId());
+
+            return CompletableFuture.allOf(sections.values().toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> splice(content, spans, sections))
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    if (cause instanceof CircuitOpenException) {
+                        request.path(GenerationMetrics.PATH_FALLBACK);
+                        return GeneratedResume.of(generateFallbackResume(updated));
+                    }
+                    if (cause instanceof UpstreamSaturatedException saturated) {
+                        request.fail(saturated);
+                        throw saturated;
+                    }
+                    logger.error("Error regenerating resume: {}", cause.getMessage(), cause);
+                    request.fail(cause);
+                    throw new RuntimeException("Error generating resume: " + cause.getMessage());
+                })
+                .thenApply(generatedResume -> remember(updated, promptHash, generatedResume))
+                .whenComplete((generatedResume, error) -> request.end());
+        } catch (IllegalArgumentException e) {
+            logger.error("Validation error: {}", e.getMessage());
+            request.fail(e);
+            request.end();
+            return CompletableFuture.failedFuture(e);
+        } catch (Exception e) {
+            logger.error("Error regenerating resume: {}", e.getMessage(), e);
+            request.fail(e);
+            request.end();
+            return CompletableFuture.failedFuture(new RuntimeException("Error generating resume: " + e.getMessage()));
+        }
     }
 
-    private String buildPrompt(Resume resume) {
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("You are a professional resume writer. Create a detailed, professional resume based on the following information. ");
-        prompt.append("Format the resume with proper sections, bullet points, and professional language. ");
-        prompt.append("Make the resume compelling and highlight achievements and skills.\n\n");
-
-        // Personal Information
-        prompt.append("PERSONAL INFORMATION\n");
-        if (resume.getPersonalInformation() != null) {
-            prompt.append("Name: ").append(resume.getPersonalInformation().getName()).append("\n");
-            prompt.append("Email: ").append(resume.getPersonalInformation().getEmail()).append("\n");
-            if (resume.getPersonalInformation().getPhone() != null) {
-                prompt.append("Phone: ").append(resume.getPersonalInformation().getPhone()).append("\n");
+    /**
+     * Generates the resume with a streamed completion, handing each content
+     * delta to {@code onDelta} as soon as it arrives. Blocks until the
+     * upstream stream ends.
+     */
+    public void streamResume(Resume resume, Consumer<String> onDelta) {
+        GenerationMetrics.Request request = generationMetrics.begin("stream");
+        StringBuilder streamed = new StringBuilder();
+        Consumer<String> recording = delta -> {
+            streamed.append(delta);
+            onDelta.accept(delta);
+        };
+        try {
+            BudgetedPrompt prompt = preparePrompt(resume, request);
+            String promptHash = CompletionCache.keyFor(prompt);
+
+            if (!completionClient.isConfigured()) {
+                logger.warn("Invalid or missing OpenAI API key. Using mock implementation.");
+                request.path(GenerationMetrics.PATH_MOCK);
+                // Emit the mock line by line so clients exercise the same incremental path
+                for (String line : generateMockResume(resume, prompt).split("(?<=\n)")) {
+                    recording.accept(line);
+                }
+                remember(resume, promptHash, GeneratedResume.of(streamed.toString()));
+                return;
             }
-            if (resume.getPersonalInformation().getAddress() != null) {
-                prompt.append("Address: ").append(resume.getPersonalInformation().getAddress()).append("\n");
+
+            ResumeFingerprint fingerprint = nearDuplicates.fingerprint(resume);
+            GeneratedResume reused = nearDuplicates.find(resume, fingerprint);
+            if (reused != null) {
+                request.path(GenerationMetrics.PATH_NEAR_DUPLICATE);
+                for (String line : reused.getContent().split("(?<=\n)")) {
+                    recording.accept(line);
+                }
+                remember(resume, promptHash, reused);
+                return;
             }
-            if (resume.getPersonalInformation().getLinkedin() != null) {
-                prompt.append("LinkedIn: ").append(resume.getPersonalInformation().getLinkedin()).append("\n");
+
+            if (!circuitBreaker.tryAcquire()) {
+                request.path(GenerationMetrics.PATH_FALLBACK);
+                for (String line : generateFallbackResume(resume).split("(?<=\n)")) {
+                    recording.accept(line);
+                }
+                remember(resume, promptHash, GeneratedResume.of(streamed.toString()));
+                return;
             }
-            if (resume.getPersonalInformation().getGithub() != null) {
-                prompt.append("GitHub: ").append(resume.getPersonalInformation().getGithub()).append("\n");
+            request.path(GenerationMetrics.PATH_UPSTREAM);
+            long upstreamStart = System.nanoTime();
+            try {
+                completionClient.stream(prompt, recording);
+                circuitBreaker.onSuccess();
+                remember(resume, promptHash, GeneratedResume.of(streamed.toString()), fingerprint);
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure(e);
+                throw e;
+            } finally {
+                generationMetrics.record(GenerationMetrics.Stage.UPSTREAM, System.nanoTime() - upstreamStart);
             }
+        } catch (IllegalArgumentException e) {
+            logger.error("Validation error: {}", e.getMessage());
+            request.fail(e);
+            throw e;
+        } catch (UpstreamSaturatedException e) {
+            request.fail(e);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error streaming resume: {}", e.getMessage(), e);
+            request.fail(e);
+            throw new RuntimeException("Error generating resume: " + e.getMessage());
+        } finally {
+            request.end();
         }
-        prompt.append("\n");
-
-        // Summary
-        if (resume.getSummary() != null && !resume.getSummary().isEmpty()) {
-            prompt.append("SUMMARY\n").append(resume.getSummary()).append("\n\n");
-        } else {
-            prompt.append("SUMMARY\n");
-            prompt.append("Experienced professional with strong skills in various domains. ");
-            prompt.append("Looking for opportunities to contribute and grow in a dynamic environment.\n\n");
+    }
+
+    /**
+     * Single upstream call made by the coalescing leader. Only this call
+     * feeds the circuit breaker and the cache.
+     */
+    private GeneratedResume callUpstream(String cacheKey, BudgetedPrompt prompt) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new CircuitOpenException();
+        }
+        try {
+            GeneratedResume generatedResume = generationMetrics.time(GenerationMetrics.Stage.UPSTREAM,
+                () -> completionClient.complete(prompt));
+            circuitBreaker.onSuccess();
+            promptBudget.recordUsage(prompt, generatedResume);
+            completionCache.put(cacheKey, generatedResume);
+            return generatedResume;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(e);
+            throw e;
         }
+    }
 
-        // Skills
-        if (resume.getSkillsList() != null && !resume.getSkillsList().isEmpty()) {
-            prompt.append("SKILLS\n");
-            resume.getSkillsList().forEach(skill -> prompt.append("- ").append(skill).append("\n"));
-            prompt.append("\n");
-        } else if (resume.getSkills() != null && !resume.getSkills().isEmpty()) {
-            prompt.append("SKILLS\n").append(resume.getSkills()).append("\n\n");
-        } else {
-            prompt.append("SKILLS\n");
-            prompt.append("- Strong communication and interpersonal skills\n");
-            prompt.append("- Problem-solving and analytical abilities\n");
-            prompt.append("- Team collaboration and leadership\n\n");
+    private CompletableFuture<GeneratedResume> callUpstreamAsync(String cacheKey, BudgetedPrompt prompt) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new CircuitOpenException());
         }
+        long upstreamStart = System.nanoTime();
+        return completionClient.completeAsync(prompt).whenComplete((generatedResume, error) -> {
+            generationMetrics.record(GenerationMetrics.Stage.UPSTREAM, System.nanoTime() - upstreamStart);
+            if (error != null) {
+                circuitBreaker.onFailure(unwrap(error));
+            } else {
+                circuitBreaker.onSuccess();
+                promptBudget.recordUsage(prompt, generatedResume);
+                completionCache.put(cacheKey, generatedResume);
+            }
+        });
+    }
 
-        // Experience
-        if (resume.getExperiences() != null && !resume.getExperiences().isEmpty()) {
-            prompt.append("EXPERIENCE\n");
-            resume.getExperiences().forEach(exp -> {
-                prompt.append(exp.getCompany()).append(" - ").append(exp.getPosition()).append("\n");
-                prompt.append(exp.getDuration()).append("\n");
-                if (exp.getResponsibilities() != null) {
-                    exp.getResponsibilities().forEach(resp -> prompt.append("- ").append(resp).append("\n"));
-                }
-                prompt.append("\n");
-            });
-        } else if (resume.getExperience() != null && !resume.getExperience().isEmpty()) {
-            prompt.append("EXPERIENCE\n").append(resume.getExperience()).append("\n\n");
-        } else {
-            prompt.append("EXPERIENCE\n");
-            prompt.append("Professional Experience\n");
-            prompt.append("Various roles demonstrating strong work ethic and ability to adapt to different environments.\n\n");
+    private CompletableFuture<GeneratedResume> completeSection(BudgetedPrompt prompt) {
+        String cacheKey = CompletionCache.keyFor(prompt);
+        GeneratedResume cached = completionCache.get(cacheKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+        return completionCoalescer.executeAsync(cacheKey, () -> callUpstreamAsync(cacheKey, prompt));
+    }
 
-        // Education
-        if (resume.getEducations() != null && !resume.getEducations().isEmpty()) {
-            prompt.append("EDUCATION\n");
-            resume.getEducations().forEach(edu -> {
-                prompt.append(edu.getInstitution()).append("\n");
-                prompt.append(edu.getDegree()).append(" in ").append(edu.getField()).append("\n");
-                prompt.append(edu.getDuration()).append("\n\n");
-            });
-        } else if (resume.getEducation() != null && !resume.getEducation().isEmpty()) {
-            prompt.append("EDUCATION\n").append(resume.getEducation()).append("\n\n");
-        } else {
-            prompt.append("EDUCATION\n");
-            prompt.append("Relevant educational background with focus on professional development.\n\n");
+    /**
+     * Sections of {@code updated} that differ from {@code previous}, or null
+     * when the edit reaches beyond them: the contact details, the summary,
+     * the template or the target job changed, or the resume was generated
+     * from free text.
+     */
+    private static List<PromptTemplate.Kind> changedSections(Resume previous, Resume updated) {
+        if (previous == null || hasText(previous.getSummary()) || hasText(updated.getSummary())
+            || !Objects.equals(previous.getPersonalInformation(), updated.getPersonalInformation())
+            || !Objects.equals(previous.getName(), updated.getName())
+            || !Objects.equals(previous.getEmail(), updated.getEmail())
+            || !Objects.equals(previous.getPhone(), updated.getPhone())
+            || !Objects.equals(previous.getTemplate(), updated.getTemplate())
+            || !Objects.equals(previous.getTargetPostingId(), updated.getTargetPostingId())
+            || !Objects.equals(previous.getJobDescription(), updated.getJobDescription())) {
+            return null;
+        }
+        List<PromptTemplate.Kind> changed = new ArrayList<>(4);
+        if (!Objects.equals(previous.getExperiences(), updated.getExperiences())
+            || !Objects.equals(previous.getExperience(), updated.getExperience())) {
+            changed.add(PromptTemplate.Kind.EXPERIENCE);
+        }
+        if (!Objects.equals(previous.getEducations(), updated.getEducations())
+            || !Objects.equals(previous.getEducation(), updated.getEducation())) {
+            changed.add(PromptTemplate.Kind.EDUCATION);
+        }
+        if (!Objects.equals(previous.getSkillsList(), updated.getSkillsList())
+            || !Objects.equals(previous.getSkills(), updated.getSkills())) {
+            changed.add(PromptTemplate.Kind.SKILLS);
+        }
+        if (!Objects.equals(previous.getAchievementsList(), updated.getAchievementsList())
+            || !Objects.equals(previous.getAchievements(), updated.getAchievements())) {
+            changed.add(PromptTemplate.Kind.ACHIEVEMENTS);
         }
+        return changed;
+    }
 
-        // Achievements
-        if (resume.getAchievementsList() != null && !resume.getAchievementsList().isEmpty()) {
-            prompt.append("ACHIEVEMENTS\n");
-            resume.getAchievementsList().forEach(achievement -> prompt.append("- ").append(achievement).append("\n"));
-            prompt.append("\n");
-        } else if (resume.getAchievements() != null && !resume.getAchievements().isEmpty()) {
-            prompt.append("ACHIEVEMENTS\n").append(resume.getAchievements()).append("\n\n");
-        } else {
-            prompt.append("ACHIEVEMENTS\n");
-            prompt.append("- Consistently recognized for outstanding performance\n");
-            prompt.append("- Successfully completed multiple challenging projects\n\n");
+    /**
+     * Splices the completed sections into {@code content}. Token usage is
+     * the sum over the section calls; the model is the first one reported.
+     */
+    private static GeneratedResume splice(String content, Map<PromptTemplate.Kind, ResumeSections.Span> spans,
+                                          Map<PromptTemplate.Kind, CompletableFuture<GeneratedResume>> sections) {
+        Map<PromptTemplate.Kind, String> bodies = new EnumMap<>(PromptTemplate.Kind.class);
+        GeneratedResume result = new GeneratedResume();
+        for (Map.Entry<PromptTemplate.Kind, CompletableFuture<GeneratedResume>> section : sections.entrySet()) {
+            GeneratedResume generated = section.getValue().join();
+            bodies.put(section.getKey(), ResumeSections.body(generated.getContent()));
+            if (result.getModel() == null) {
+                result.setModel(generated.getModel());
+            }
+            if (generated.getUsage() != null) {
+                GeneratedResume.Usage usage = result.getUsage() != null ? result.getUsage() : new GeneratedResume.Usage();
+                usage.setPromptTokens(add(usage.getPromptTokens(), generated.getUsage().getPromptTokens()));
+                usage.setCompletionTokens(add(usage.getCompletionTokens(), generated.getUsage().getCompletionTokens()));
+                usage.setTotalTokens(add(usage.getTotalTokens(), generated.getUsage().getTotalTokens()));
+                result.setUsage(usage);
+            }
         }
+        result.setContent(ResumeSections.splice(content, spans, bodies));
+        return result;
+    }
 
-        prompt.append("Please create a professional resume with the following sections:\n");
-        prompt.append("1. Contact Information (at the top)\n");
-        prompt.append("2. Professional Summary\n");
-        prompt.append("3. Skills (as bullet points)\n");
-        prompt.append("4. Work Experience (with dates, company names, and achievements)\n");
-        prompt.append("5. Education\n");
-        prompt.append("6. Achievements and Certifications\n\n");
-        prompt.append("Format the resume professionally with proper spacing, bullet points, and section headers. ");
-        prompt.append("Use action verbs and quantify achievements where possible. ");
-        prompt.append("Make the resume compelling and highlight the most relevant information for the job market.");
-        
-        return prompt.toString();
+    private static Integer add(Integer total, Integer value) {
+        return value == null ? total : total == null ? value : total + value;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    /**
+     * Degraded response while the circuit is open: the submitted data laid
+     * out as a resume by {@link LocalResumeRenderer}, returned immediately.
+     */
+    private String generateFallbackResume(Resume resume) {
+        logger.warn("Upstream circuit open, serving locally rendered resume");
+        meterRegistry.counter("resume.fallback", "reason", "circuit_open").increment();
+        if (resume.getPersonalInformation() == null && resume.getSummary() != null) {
+            // Filled in on a copy: the request is what history stores and later diffs against
+            SummaryProfile profile = summaryExtractor.extract(resume.getSummary());
+            Resume completed = resume.copy();
+            completed.setPersonalInformation(profile.toPersonalInformation());
+            if (completed.getSkillsList() == null && !profile.getSkills().isEmpty()) {
+                completed.setSkillsList(profile.getSkills());
+            }
+            return localResumeRenderer.render(completed);
+        }
+        return localResumeRenderer.render(resume);
+    }
+
+    /**
+     * Queues the generation for the history store and returns the result
+     * tagged with its history id, or unchanged if it was not stored.
+     */
+    private GeneratedResume remember(Resume resume, String promptHash, GeneratedResume result) {
+        return remember(resume, promptHash, result, null);
+    }
+
+    /**
+     * As {@link #remember(Resume, String, GeneratedResume)} for provider
+     * output, which is also indexed for reuse by near-duplicate inputs.
+     */
+    private GeneratedResume remember(Resume resume, String promptHash, GeneratedResume result,
+                                     ResumeFingerprint fingerprint) {
+        String id = historyStore.record(resume, promptHash, result, fingerprint == null ? null : fingerprint.encode());
+        nearDuplicates.add(id, fingerprint);
+        return id == null ? result : result.withId(id);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private BudgetedPrompt preparePrompt(Resume resume, GenerationMetrics.Request request) {
+        PromptTemplate.Kind kind = generationMetrics.time(GenerationMetrics.Stage.VALIDATION, () -> {
+            // Validate minimum required data
+            if (resume == null) {
+                throw new IllegalArgumentException("Resume data is required");
+            }
+
+            // If summary is provided, we can generate a resume
+            PromptTemplate.Kind inputKind = PromptTemplate.Kind.forInput(resume);
+            if (inputKind == PromptTemplate.Kind.SUMMARY) {
+                logger.info("Generating resume from summary");
+                return inputKind;
+            }
+
+            // Otherwise, validate required fields
+            validate(resume);
+            return inputKind;
+        });
+        request.input(kind);
+        return generationMetrics.time(GenerationMetrics.Stage.PROMPT_BUILD, () -> {
+            jobMatcher.applyEmphasis(resume);
+            return promptBudget.prepare(resume, kind);
+        });
+    }
+
+    private void validate(Resume resume) {
+        if (resume.getPersonalInformation() == null) {
+            throw new IllegalArgumentException("Personal information is required");
+        }
+
+        if (resume.getPersonalInformation().getName() == null || resume.getPersonalInformation().getName().isEmpty()) {
+            throw new IllegalArgumentException("Name is required");
+        }
+
+        if (resume.getPersonalInformation().getEmail() == null || resume.getPersonalInformation().getEmail().isEmpty()) {
+            throw new IllegalArgumentException("Email is required");
+        }
     }
 
-    private String generateMockResume(Resume resume) {
-        logger.info("Generating mock resume for: {}", 
-            resume.getPersonalInformation() != null ? resume.getPersonalInformation().getName() : "Unknown");
-        return buildPrompt(resume);
+    private String generateMockResume(Resume resume, BudgetedPrompt prompt) {
+        logger.info("Generating mock resume");
+        return prompt.text();
     }
 }
\ No newline at end of file
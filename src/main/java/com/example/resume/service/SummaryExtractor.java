@@ -0,0 +1,224 @@
+package com.example.resume.service;
+
+import com.example.resume.model.SummaryProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pulls contact details, years of experience and skills out of a free-text
+ * summary in a single left-to-right pass.
+ * <p>
+ * The scan walks whitespace-separated tokens and only tries a precompiled,
+ * anchored pattern where the token's first characters can start that field,
+ * so most words cost a couple of char comparisons. A match moves the cursor
+ * past its end. The first occurrence of each contact field wins; years of
+ * experience keeps the largest value and skills accumulate. Stateless and
+ * thread-safe.
+ */
+@Component
+public class SummaryExtractor {
+    private static final Logger logger = LoggerFactory.getLogger(SummaryExtractor.class);
+
+    private static final int MAX_SKILLS = 30;
+    private static final int MAX_SKILL_LENGTH = 40;
+
+    private static final Pattern EMAIL = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}");
+    private static final Pattern PROFILE_URL = Pattern.compile(
+        "(?:https?://)?(?:www\\.)?(?:(?<linkedin>linkedin\\.com/in/[\\w-]+)|(?<github>github\\.com/[\\w-]+))/?");
+    private static final Pattern NAME = Pattern.compile("(?:I'm|I am|My name is)\\s+([A-Z][a-z]+(?: [A-Z][a-z]+){0,3})");
+    private static final Pattern YEARS = Pattern.compile("(\\d{1,2})\\+?\\s*(?:years?|yrs)\\b");
+    private static final Pattern PHONE = Pattern.compile("\\+?\\d[\\d ().-]{7,18}\\d(?!\\w)");
+    private static final Pattern SKILLS = Pattern.compile(
+        "(?i:skills?|skilled in|proficient in|experienced (?:in|with)|expertise in)\\s*:?\\s+([^.;\\n]+)");
+    // Cheap checks that gate the regexes above, so most words never reach a matcher
+    private static final String[] NAME_PREFIXES = {"I'm", "I am", "My name"};
+    private static final String[] SKILLS_PREFIXES = {"skill", "proficient", "experienced", "expertise"};
+    private static final String[] URL_PREFIXES = {"http", "www.", "linkedin.com/", "github.com/"};
+
+    private static final Pattern SKILL_SEPARATOR = Pattern.compile("\\s*(?:,|/|\\band\\b|&)\\s*");
+
+    public SummaryProfile extract(String summary) {
+        SummaryProfile profile = new SummaryProfile();
+        if (summary == null || summary.isEmpty()) {
+            return profile;
+        }
+
+        Scan scan = new Scan(summary);
+        Set<String> skills = new LinkedHashSet<>();
+        int length = summary.length();
+        int i = 0;
+        while (i < length) {
+            char c = summary.charAt(i);
+            if (c <= ' ' || c == '(' || c == '"' || c == '<') {
+                i++;
+                continue;
+            }
+            int end = scan.field(profile, skills, i);
+            if (end < 0) {
+                // No field starts here; skip the rest of the token
+                end = i + 1;
+                while (end < length && summary.charAt(end) > ' ') {
+                    end++;
+                }
+            }
+            i = end;
+        }
+        profile.getSkills().addAll(skills);
+
+        // Field presence only; the values themselves are personal data
+        logger.debug("Extracted summary fields: name={}, email={}, phone={}, skills={}",
+            profile.getName() != null, profile.getEmail() != null, profile.getPhone() != null, skills.size());
+        return profile;
+    }
+
+    /**
+     * Per-call matchers, created on first use and reset onto each candidate region.
+     */
+    private static final class Scan {
+        private final String text;
+        private Matcher email;
+        private Matcher profileUrl;
+        private Matcher name;
+        private Matcher years;
+        private Matcher phone;
+        private Matcher skills;
+
+        Scan(String text) {
+            this.text = text;
+        }
+
+        /**
+         * Tries the fields that can start at {@code start} and returns the
+         * end of the match, or -1 if none applies.
+         */
+        int field(SummaryProfile profile, Set<String> found, int start) {
+            char c = text.charAt(start);
+            Matcher m;
+            if (c >= '0' && c <= '9' || c == '+') {
+                int digits = digitRun(start);
+                if (digits > 0 && digits <= 2 && (m = years = at(years, YEARS, start)).lookingAt()) {
+                    int value = Integer.parseInt(m.group(1));
+                    if (profile.getYearsOfExperience() == null || value > profile.getYearsOfExperience()) {
+                        profile.setYearsOfExperience(value);
+                    }
+                    return m.end();
+                }
+                if (mayBePhone(start) && (m = phone = at(phone, PHONE, start)).lookingAt()
+                    && isPhoneNumber(m.start(), m.end())) {
+                    if (profile.getPhone() == null) {
+                        profile.setPhone(m.group());
+                    }
+                    return m.end();
+                }
+            }
+            if ((c == 'I' || c == 'M') && startsWithAny(start, false, NAME_PREFIXES)
+                && (m = name = at(name, NAME, start)).lookingAt()) {
+                if (profile.getName() == null) {
+                    profile.setName(m.group(1));
+                }
+                return m.end();
+            }
+            if (startsWithAny(start, true, SKILLS_PREFIXES)
+                && (m = skills = at(skills, SKILLS, start)).lookingAt()) {
+                addSkills(found, m.group(1));
+                return m.end();
+            }
+            if (startsWithAny(start, true, URL_PREFIXES)
+                && (m = profileUrl = at(profileUrl, PROFILE_URL, start)).lookingAt()) {
+                if (m.group("linkedin") != null && profile.getLinkedin() == null) {
+                    profile.setLinkedin(m.group());
+                } else if (m.group("github") != null && profile.getGithub() == null) {
+                    profile.setGithub(m.group());
+                }
+                return m.end();
+            }
+            if (hasAt(start) && (m = email = at(email, EMAIL, start)).lookingAt()) {
+                if (profile.getEmail() == null) {
+                    profile.setEmail(m.group());
+                }
+                return m.end();
+            }
+            return -1;
+        }
+
+        private boolean startsWithAny(int start, boolean ignoreCase, String[] prefixes) {
+            char first = ignoreCase ? Character.toLowerCase(text.charAt(start)) : text.charAt(start);
+            for (String prefix : prefixes) {
+                if (prefix.charAt(0) == first && text.regionMatches(ignoreCase, start, prefix, 0, prefix.length())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean hasAt(int start) {
+            for (int i = start; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '@') {
+                    return true;
+                }
+                if (c <= ' ') {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private int digitRun(int start) {
+            int end = start;
+            while (end < text.length() && text.charAt(end) >= '0' && text.charAt(end) <= '9') {
+                end++;
+            }
+            return end - start;
+        }
+
+        // Ten digits must appear before the first letter for the phone pattern to be worth trying
+        private boolean mayBePhone(int start) {
+            int digits = 0;
+            for (int i = start; i < text.length() && digits < 10; i++) {
+                char c = text.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    digits++;
+                } else if (Character.isLetter(c)) {
+                    return false;
+                }
+            }
+            return digits >= 10;
+        }
+
+        // Rejects date ranges and other digit runs that are too short or long to dial
+        private boolean isPhoneNumber(int start, int end) {
+            int digits = 0;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    digits++;
+                }
+            }
+            return digits >= 10 && digits <= 15;
+        }
+
+        private Matcher at(Matcher matcher, Pattern pattern, int start) {
+            if (matcher == null) {
+                matcher = pattern.matcher(text);
+            }
+            return matcher.region(start, text.length());
+        }
+    }
+
+    private static void addSkills(Set<String> skills, String list) {
+        for (String skill : SKILL_SEPARATOR.split(list)) {
+            String trimmed = skill.trim();
+            if (!trimmed.isEmpty() && trimmed.length() <= MAX_SKILL_LENGTH && skills.size() < MAX_SKILLS) {
+                skills.add(trimmed);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.example.resume.service;
+
+/**
+ * Offline prompt token estimate for the cl100k family of BPE encodings.
+ * <p>
+ * The text is split exactly like the encoder's pre-tokenizer (contractions,
+ * letter runs with one leading non-letter, digit groups of up to three,
+ * punctuation runs and whitespace), in one pass without regular expressions.
+ * Instead of applying the merge table, which is not shipped with the app,
+ * each piece is costed by its shape: a lowercase word of up to ten ASCII
+ * letters is one token, longer or all-caps words cost more, and every
+ * non-ASCII letter counts as its own token. That keeps the estimate within a
+ * few percent of the real count for resume text and errs on the high side.
+ */
+public final class TokenEstimator {
+
+    /** Chat framing added per request: role markers plus the reply primer. */
+    public static final int MESSAGE_OVERHEAD = 7;
+
+    private TokenEstimator() {
+    }
+
+    public static int count(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int tokens = 0;
+        int position = 0;
+        int length = text.length();
+        while (position < length) {
+            int end = pieceEnd(text, position);
+            tokens += pieceTokens(text, position, end);
+            position = end;
+        }
+        return tokens;
+    }
+
+    /**
+     * Cuts {@code text} at the last piece boundary that keeps it within
+     * {@code maxTokens}, preferring the end of a sentence when one falls in
+     * the last quarter of the kept text, and marks the cut with "...".
+     */
+    public static String truncate(String text, int maxTokens) {
+        if (text == null) {
+            return null;
+        }
+        int tokens = 0;
+        int position = 0;
+        int length = text.length();
+        while (position < length) {
+            int end = pieceEnd(text, position);
+            int cost = pieceTokens(text, position, end);
+            if (tokens + cost > maxTokens) {
+                break;
+            }
+            tokens += cost;
+            position = end;
+        }
+        if (position >= length) {
+            return text;
+        }
+        int sentence = Math.max(text.lastIndexOf(". ", position), text.lastIndexOf(".\n", position));
+        if (sentence >= position * 3 / 4 && sentence > 0) {
+            return text.substring(0, sentence + 1);
+        }
+        return text.substring(0, position).stripTrailing() + "...";
+    }
+
+    private static int pieceEnd(CharSequence text, int start) {
+        int length = text.length();
+        char c = text.charAt(start);
+
+        if (c == '\'' && start + 1 < length) {
+            int contraction = contractionLength(text, start + 1);
+            if (contraction > 0) {
+                return start + 1 + contraction;
+            }
+        }
+        if (Character.isLetter(c)) {
+            return letterRunEnd(text, start + 1);
+        }
+        if (c != '\r' && c != '\n' && !Character.isDigit(c) && start + 1 < length
+            && Character.isLetter(text.charAt(start + 1))) {
+            return letterRunEnd(text, start + 2);
+        }
+        if (Character.isDigit(c)) {
+            int end = start + 1;
+            while (end < length && end - start < 3 && Character.isDigit(text.charAt(end))) {
+                end++;
+            }
+            return end;
+        }
+
+        int punctuationStart = c == ' ' && start + 1 < length && isPunctuation(text.charAt(start + 1)) ? start + 1 : start;
+        if (isPunctuation(text.charAt(punctuationStart))) {
+            int end = punctuationStart + 1;
+            while (end < length && isPunctuation(text.charAt(end))) {
+                end++;
+            }
+            while (end < length && isNewline(text.charAt(end))) {
+                end++;
+            }
+            return end;
+        }
+
+        // Whitespace: up to the last newline in the run, or all but the space that prefixes the next word
+        int end = start;
+        int lastNewline = -1;
+        while (end < length && Character.isWhitespace(text.charAt(end))) {
+            if (isNewline(text.charAt(end))) {
+                lastNewline = end;
+            }
+            end++;
+        }
+        if (lastNewline >= 0) {
+            return lastNewline + 1;
+        }
+        if (end < length && end - start > 1) {
+            return end - 1;
+        }
+        return end;
+    }
+
+    private static int pieceTokens(CharSequence text, int start, int end) {
+        char first = text.charAt(start);
+        if (Character.isWhitespace(first) && (end - start == 1 || Character.isWhitespace(text.charAt(end - 1)))) {
+            return 1;
+        }
+        if (Character.isDigit(first) || first == '\'') {
+            return 1;
+        }
+        int letters = 0;
+        int upper = 0;
+        int nonAscii = 0;
+        int punctuation = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetter(c)) {
+                letters++;
+                if (c > 0x7f) {
+                    nonAscii++;
+                } else if (c >= 'A' && c <= 'Z') {
+                    upper++;
+                }
+            } else if (isPunctuation(c)) {
+                punctuation++;
+            }
+        }
+        if (letters == 0) {
+            return 1 + (punctuation - 1) / 2;
+        }
+        int ascii = letters - nonAscii;
+        int perToken = ascii > 1 && upper * 2 > ascii ? 3 : 10;
+        int tokens = (ascii == 0 ? 0 : 1 + (ascii - 1) / perToken) + nonAscii;
+        // A punctuation prefix such as "(" or "-" usually stays its own token
+        return tokens + (isPunctuation(first) ? 1 : 0);
+    }
+
+    private static int letterRunEnd(CharSequence text, int position) {
+        int length = text.length();
+        while (position < length && Character.isLetter(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int contractionLength(CharSequence text, int position) {
+        char a = Character.toLowerCase(text.charAt(position));
+        if (a == 's' || a == 't' || a == 'm' || a == 'd') {
+            return 1;
+        }
+        if (position + 1 < text.length()) {
+            char b = Character.toLowerCase(text.charAt(position + 1));
+            if ((a == 'r' && b == 'e') || (a == 'v' && b == 'e') || (a == 'l' && b == 'l')) {
+                return 2;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isPunctuation(char c) {
+        return !Character.isWhitespace(c) && !Character.isLetter(c) && !Character.isDigit(c);
+    }
+
+    private static boolean isNewline(char c) {
+        return c == '\n' || c == '\r';
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.resume.service;
+
+/**
+ * Non-2xx answer from the completion provider.
+ */
+public class UpstreamException extends RuntimeException {
+    private final int statusCode;
+
+    public UpstreamException(int statusCode, String body) {
+        super("Failed to generate resume: " + body);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,418 @@
+package com.example.resume.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Client-side admission control for calls to the completion provider.
+ * <ul>
+ *   <li>Token buckets cap requests per minute and (estimated) tokens per minute.</li>
+ *   <li>An AIMD concurrency limit grows by roughly one per round trip while calls are
+ *       fast and successful, and is cut on a 429 or when recent latency rises to
+ *       {@code latency-tolerance} times its long-run average, at most once per round trip.</li>
+ *   <li>Retries use full-jitter exponential backoff, or the provider's Retry-After when given.</li>
+ * </ul>
+ * Calls that cannot be admitted at once wait in a FIFO queue of at most
+ * {@code max-waiters}, and are admitted in order as permits are released and
+ * the buckets refill. A call that finds the queue full, or is still waiting
+ * after {@code acquire-timeout-ms}, fails with {@link UpstreamSaturatedException}
+ * rather than adding to an unbounded backlog. Waiting is done on a scheduler,
+ * so async callers never block a thread for admission.
+ */
+@Component
+public class UpstreamLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamLimiter.class);
+
+    // Weights of the latency averages: the recent one follows the last few calls, the baseline the last hundred or so
+    private static final double RECENT_ALPHA = 0.3;
+    private static final double BASELINE_ALPHA = 0.02;
+    // Successful calls needed before latency is compared with the baseline
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
+    @Value("${resume.limiter.requests-per-minute:3500}")
+    private long requestsPerMinute;
+
+    @Value("${resume.limiter.tokens-per-minute:200000}")
+    private long tokensPerMinute;
+
+    @Value("${resume.limiter.initial-concurrency:20}")
+    private int initialConcurrency;
+
+    @Value("${resume.limiter.min-concurrency:1}")
+    private int minConcurrency;
+
+    @Value("${resume.limiter.max-concurrency:200}")
+    private int maxConcurrency;
+
+    @Value("${resume.limiter.backoff-ratio:0.5}")
+    private double backoffRatio;
+
+    @Value("${resume.limiter.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    @Value("${resume.limiter.max-waiters:500}")
+    private int maxWaiters;
+
+    @Value("${resume.limiter.acquire-timeout-ms:10000}")
+    private long acquireTimeoutMs;
+
+    // Total calls per request, the first one included
+    @Value("${resume.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${resume.retry.base-backoff-ms:500}")
+    private long baseBackoffMs;
+
+    @Value("${resume.retry.max-backoff-ms:20000}")
+    private long maxBackoffMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TokenBucket requestBucket;
+    private TokenBucket tokenBucket;
+    private ScheduledExecutorService scheduler;
+
+    // Guarded by this
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private double concurrencyLimit;
+    private int inFlight;
+    private boolean refillScheduled;
+    private double recentLatencyMs;
+    private double baselineLatencyMs;
+    private long latencySamples;
+    private long lastDecreaseNanos;
+
+    @PostConstruct
+    void init() {
+        requestBucket = new TokenBucket(requestsPerMinute);
+        tokenBucket = new TokenBucket(tokensPerMinute);
+        concurrencyLimit = initialConcurrency;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upstream-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("resume.upstream.concurrency.limit", this, UpstreamLimiter::getConcurrencyLimit)
+            .description("Current adaptive limit on concurrent upstream calls")
+            .register(meterRegistry);
+        Gauge.builder("resume.upstream.inflight", this, UpstreamLimiter::getInFlight)
+            .description("Upstream calls currently admitted by the limiter")
+            .register(meterRegistry);
+        Gauge.builder("resume.upstream.waiting", this, UpstreamLimiter::getWaiting)
+            .description("Upstream calls queued for admission by the limiter")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Retries allowed after the first call: {@code max-attempts} counts every call.
+     */
+    public int getMaxRetries() {
+        return Math.max(0, maxAttempts - 1);
+    }
+
+    public synchronized double getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    /**
+     * Blocks until a call costing {@code estimatedTokens} may be sent.
+     *
+     * @throws UpstreamSaturatedException if it cannot be admitted within {@code acquire-timeout-ms}
+     */
+    public Permit acquire(long estimatedTokens) {
+        CompletableFuture<Permit> permit = acquireAsync(estimatedTokens);
+        try {
+            // The deadline is enforced on the scheduler; the slack only guards against it being stalled
+            return permit.get(acquireTimeoutMs + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            permit.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for upstream capacity", e);
+        } catch (TimeoutException e) {
+            permit.cancel(false);
+            throw saturated("Timed out waiting for upstream capacity");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to acquire upstream capacity", e.getCause());
+        }
+    }
+
+    /**
+     * Completes once a call costing {@code estimatedTokens} may be sent, or
+     * fails with {@link UpstreamSaturatedException}. Cancelling the future
+     * gives up the place in the queue.
+     */
+    public CompletableFuture<Permit> acquireAsync(long estimatedTokens) {
+        Waiter waiter = new Waiter(estimatedTokens);
+        synchronized (this) {
+            if (waiters.isEmpty() && tryAdmit(estimatedTokens) == 0) {
+                waiter.future.complete(new Permit());
+                return waiter.future;
+            }
+            if (waiters.size() >= maxWaiters) {
+                waiter.future.completeExceptionally(saturated("Too many calls waiting for upstream capacity"));
+                return waiter.future;
+            }
+            waiter.timeout = scheduler.schedule(() -> expire(waiter), acquireTimeoutMs, TimeUnit.MILLISECONDS);
+            waiters.addLast(waiter);
+        }
+        waiter.future.whenComplete((permit, error) -> {
+            if (waiter.future.isCancelled()) {
+                abandon(waiter);
+            }
+        });
+        dispatch();
+        return waiter.future;
+    }
+
+    /**
+     * Delay before retry {@code attempt} (0-based). A provider Retry-After
+     * (in seconds) wins over the computed backoff.
+     */
+    public long backoffDelayMs(int attempt, String retryAfter) {
+        if (retryAfter != null) {
+            try {
+                return Math.min(maxBackoffMs, Math.max(0, (long) (Double.parseDouble(retryAfter.trim()) * 1000)));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring non-numeric Retry-After: {}", retryAfter);
+            }
+        }
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    public CompletableFuture<Void> delay(long delayMs) {
+        CompletableFuture<Void> delayed = new CompletableFuture<>();
+        scheduler.schedule(() -> delayed.complete(null), delayMs, TimeUnit.MILLISECONDS);
+        return delayed;
+    }
+
+    /**
+     * Takes a permit's worth of concurrency and bucket capacity if all are
+     * available and returns 0, or returns how long the buckets need to
+     * refill (-1 when it is the concurrency limit that is reached).
+     */
+    private long tryAdmit(long estimatedTokens) {
+        if (inFlight >= (int) concurrencyLimit) {
+            return -1;
+        }
+        long waitMs = Math.max(requestBucket.waitMs(1), tokenBucket.waitMs(estimatedTokens));
+        if (waitMs == 0) {
+            requestBucket.take(1);
+            tokenBucket.take(estimatedTokens);
+            inFlight++;
+        }
+        return waitMs;
+    }
+
+    /**
+     * Admits waiters from the head of the queue while there is capacity. A
+     * head held back by the buckets is retried once they have refilled; one
+     * held back by the concurrency limit is admitted when a permit is released.
+     */
+    private void dispatch() {
+        List<Waiter> admitted = new ArrayList<>();
+        long refillMs = 0;
+        synchronized (this) {
+            while (!waiters.isEmpty()) {
+                long waitMs = tryAdmit(waiters.peekFirst().estimatedTokens);
+                if (waitMs != 0) {
+                    if (waitMs > 0 && !refillScheduled) {
+                        refillScheduled = true;
+                        refillMs = waitMs;
+                    }
+                    break;
+                }
+                admitted.add(waiters.pollFirst());
+            }
+        }
+        if (refillMs > 0) {
+            scheduler.schedule(() -> {
+                synchronized (this) {
+                    refillScheduled = false;
+                }
+                dispatch();
+            }, refillMs, TimeUnit.MILLISECONDS);
+        }
+        for (Waiter waiter : admitted) {
+            waiter.timeout.cancel(false);
+            Permit permit = new Permit();
+            if (!waiter.future.complete(permit)) {
+                // Cancelled between leaving the queue and being admitted
+                permit.failed();
+            }
+        }
+    }
+
+    private void expire(Waiter waiter) {
+        boolean removed;
+        synchronized (this) {
+            removed = waiters.remove(waiter);
+        }
+        if (removed) {
+            waiter.future.completeExceptionally(saturated("Timed out waiting for upstream capacity"));
+            dispatch();
+        }
+    }
+
+    private void abandon(Waiter waiter) {
+        boolean removed;
+        synchronized (this) {
+            removed = waiters.remove(waiter);
+        }
+        if (removed) {
+            waiter.timeout.cancel(false);
+            dispatch();
+        }
+    }
+
+    private UpstreamSaturatedException saturated(String message) {
+        logger.warn("{} ({} waiting, {} in flight)", message, getWaiting(), getInFlight());
+        meterRegistry.counter("resume.upstream.rejected").increment();
+        return new UpstreamSaturatedException(message, acquireTimeoutMs);
+    }
+
+    private void onComplete(boolean succeeded, boolean throttled, long latencyMs) {
+        synchronized (this) {
+            inFlight--;
+            if (succeeded || throttled) {
+                adjustLimit(throttled, latencyMs);
+            }
+            // Errors unrelated to load say nothing about the provider's capacity
+        }
+        dispatch();
+    }
+
+    // Guarded by this
+    private void adjustLimit(boolean throttled, long latencyMs) {
+        boolean slow = false;
+        if (!throttled) {
+            if (latencySamples++ == 0) {
+                recentLatencyMs = latencyMs;
+                baselineLatencyMs = latencyMs;
+            } else {
+                recentLatencyMs += RECENT_ALPHA * (latencyMs - recentLatencyMs);
+                baselineLatencyMs += BASELINE_ALPHA * (latencyMs - baselineLatencyMs);
+            }
+            slow = latencySamples >= MIN_LATENCY_SAMPLES && recentLatencyMs > latencyTolerance * baselineLatencyMs;
+        }
+        if (!throttled && !slow) {
+            concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1.0 / concurrencyLimit);
+            return;
+        }
+        // Calls admitted before the last cut report on the old limit; cut again only after a round trip
+        long now = System.nanoTime();
+        if (lastDecreaseNanos != 0 && now - lastDecreaseNanos < (long) (recentLatencyMs * 1_000_000)) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        concurrencyLimit = Math.max(minConcurrency, concurrencyLimit * backoffRatio);
+        logger.info("Upstream {}; concurrency limit reduced to {}", throttled ? "throttled"
+            : String.format("slow (%.0fms recently against %.0fms usually)", recentLatencyMs, baselineLatencyMs),
+            (int) concurrencyLimit);
+    }
+
+    private static final class Waiter {
+        private final long estimatedTokens;
+        private final CompletableFuture<Permit> future = new CompletableFuture<>();
+        private ScheduledFuture<?> timeout;
+
+        Waiter(long estimatedTokens) {
+            this.estimatedTokens = estimatedTokens;
+        }
+    }
+
+    /**
+     * An admitted call. Exactly one of the completion methods must be called.
+     */
+    public class Permit {
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        public void success() {
+            release(true, false);
+        }
+
+        public void throttled() {
+            release(false, true);
+        }
+
+        public void failed() {
+            release(false, false);
+        }
+
+        private synchronized void release(boolean succeeded, boolean throttled) {
+            if (!released) {
+                released = true;
+                onComplete(succeeded, throttled, (System.nanoTime() - startNanos) / 1_000_000);
+            }
+        }
+    }
+
+    /**
+     * Per-minute bucket refilled continuously. Guarded by the enclosing limiter's lock.
+     */
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double refillPerMs;
+        private double available;
+        private long lastRefillNanos = System.nanoTime();
+
+        TokenBucket(long perMinute) {
+            this.capacity = Math.max(1, perMinute);
+            this.refillPerMs = capacity / 60_000.0;
+            this.available = capacity;
+        }
+
+        long waitMs(long amount) {
+            refill();
+            double needed = Math.min(amount, capacity) - available;
+            return needed <= 0 ? 0 : Math.max(1, (long) Math.ceil(needed / refillPerMs));
+        }
+
+        void take(long amount) {
+            available -= Math.min(amount, capacity);
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            available = Math.min(capacity, available + (now - lastRefillNanos) / 1_000_000.0 * refillPerMs);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.resume.service;
+
+/**
+ * Raised instead of calling the provider when the limiter cannot admit a
+ * call in time: the queue of waiting calls is full, or no capacity freed up
+ * before the admission deadline.
+ */
+public class UpstreamSaturatedException extends RuntimeException {
+    private final long retryAfterMs;
+
+    public UpstreamSaturatedException(String message, long retryAfterMs) {
+        super(message);
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    /**
+     * A hint for when to try again, in milliseconds.
+     */
+    public long getRetryAfterMs() {
+        return retryAfterMs;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.Resume.config;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.Resume;
+import com.example.resume.service.ResumeService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class HttpClientConfigTests {
+
+    private static final String COMPLETION =
+        "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"Generated Resume Content\"}}]}";
+
+    private static final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private static volatile long responseDelayMs;
+    private static HttpServer stub;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(responseDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = COMPLETION.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } catch (IOException ignored) {
+                // client gave up after its read timeout
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        registry.add("resume.cache.enabled", () -> "false");
+        registry.add("http.client.read-timeout-ms", () -> "500");
+        registry.add("http.client.response-timeout-ms", () -> "500");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @BeforeEach
+    void reset() {
+        clientPorts.clear();
+        responseDelayMs = 0;
+    }
+
+    @Test
+    void reusesPooledConnectionAcrossRequests() {
+        for (int i = 0; i < 5; i++) {
+            String result = resumeService.generateResume(sampleResume()).getContent();
+            assertTrue(result.contains("Generated Resume Content"));
+        }
+        assertEquals(1, clientPorts.size(), "expected a single kept-alive connection, saw ports " + clientPorts);
+    }
+
+    @Test
+    void stalledUpstreamIsBoundedByReadTimeout() {
+        responseDelayMs = 3000;
+        long start = System.nanoTime();
+        assertThrows(RuntimeException.class, () -> resumeService.generateResume(sampleResume()));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMs < 2000, "call should fail near the 500ms timeout, took " + elapsedMs + "ms");
+    }
+
+    private static Resume sampleResume() {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setName("Jane Doe");
+        info.setEmail("jane@example.com");
+        Resume resume = new Resume();
+        resume.setPersonalInformation(info);
+        return resume;
+    }
+}
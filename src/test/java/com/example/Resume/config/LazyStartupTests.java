@@ -0,0 +1,49 @@
+package com.example.Resume.config;
+
+import com.example.resume.ResumeApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts with lazy initialization, as the fast-start deployment does, and
+ * checks that the beans doing startup work or exporting metrics nothing
+ * else asks for were created without a request.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = "spring.main.lazy-initialization=true")
+public class LazyStartupTests {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void historyProperties(DynamicPropertyRegistry registry) throws IOException {
+        String history = Files.createTempDirectory("lazy-startup").resolve("history.log").toString();
+        registry.add("resume.history.enabled", () -> "true");
+        registry.add("resume.history.path", () -> history);
+    }
+
+    @Test
+    void startupBeansAreCreatedEagerly() {
+        for (String bean : new String[] {"historyStore", "promptTemplateRegistry", "jobMatcher", "nearDuplicateDetector",
+            "loggingMetrics"}) {
+            assertTrue(context.getBeanFactory().containsSingleton(bean), bean + " was left to the first request");
+        }
+        assertNotNull(meterRegistry.find("resume.matching.postings").gauge());
+        assertNotNull(meterRegistry.find("resume.duplicates.entries").gauge());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives more concurrent /generate requests than Tomcat has worker threads
+ * against a slow stub and checks they are all in flight upstream at once.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AsyncGenerationLoadTests {
+
+    private static final int TOMCAT_THREADS = 200;
+    private static final int CONCURRENT_REQUESTS = 400;
+    private static final long UPSTREAM_DELAY_MS = 3000;
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+    private static HttpServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CONCURRENT_REQUESTS * 2);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(UPSTREAM_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            byte[] body = "{\"choices\":[{\"message\":{\"content\":\"ok\"}}]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        registry.add("resume.cache.enabled", () -> "false");
+        registry.add("resume.limiter.initial-concurrency", () -> String.valueOf(CONCURRENT_REQUESTS));
+        registry.add("resume.limiter.max-concurrency", () -> String.valueOf(CONCURRENT_REQUESTS));
+        registry.add("resume.limiter.tokens-per-minute", () -> "100000000");
+        registry.add("resume.generation.mode", () -> "async");
+        registry.add("server.tomcat.threads.max", () -> String.valueOf(TOMCAT_THREADS));
+        registry.add("http.client.pool-acquire-timeout-ms", () -> "10000");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void inFlightRequestsExceedTomcatThreadPool() {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            // Distinct payloads so requests are not coalesced into one upstream call
+            String body = "{\"personalInformation\":{\"name\":\"Jane Doe\",\"email\":\"jane" + i + "@example.com\"}}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/v1/resume/generate"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.join().statusCode());
+        }
+        assertTrue(peakInFlight.get() > TOMCAT_THREADS,
+            "expected more than " + TOMCAT_THREADS + " concurrent upstream calls, peak was "
+                + peakInFlight.get() + " (" + elapsedMs + "ms total)");
+    }
+}
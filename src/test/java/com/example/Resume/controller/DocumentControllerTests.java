@@ -0,0 +1,164 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Generates a resume (mock path), then downloads it as PDF and DOCX and
+ * checks both are readable documents rendered on the render pool, which
+ * has one thread and one queue slot so it can be saturated.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class DocumentControllerTests {
+
+    private static final String CONTENT = "# Jane Doe\n\n## Skills\n- Java & Spring <Boot>\n\n"
+        + "## Work Experience\n**Acme - Engineer** (2019-2024)\n- Built the billing platform\n";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ThreadPoolTaskExecutor renderExecutor;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void historyProperties(DynamicPropertyRegistry registry) throws IOException {
+        String history = Files.createTempDirectory("documents").resolve("history.log").toString();
+        registry.add("resume.history.enabled", () -> "true");
+        registry.add("resume.history.path", () -> history);
+        registry.add("resume.render.threads", () -> "1");
+        registry.add("resume.render.queue-capacity", () -> "1");
+    }
+
+    @Test
+    void storedGenerationRendersAsPdf() throws Exception {
+        HttpResponse<String> generated = send(HttpRequest.newBuilder(uri("/generate"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(
+                "{\"personalInformation\":{\"name\":\"Jane Doe\",\"email\":\"jane@example.com\"}}")),
+            HttpResponse.BodyHandlers.ofString());
+        String id = new ObjectMapper().readTree(generated.body()).get("id").asText();
+        long rendered = renderExecutor.getThreadPoolExecutor().getCompletedTaskCount();
+
+        HttpResponse<byte[]> pdf = send(HttpRequest.newBuilder(uri("/render/" + id)).GET(),
+            HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, pdf.statusCode());
+        assertEquals("application/pdf", pdf.headers().firstValue("Content-Type").orElse(null));
+        assertEquals("attachment; filename=\"resume-" + id + ".pdf\"",
+            pdf.headers().firstValue("Content-Disposition").orElse(null));
+        PdfReader reader = new PdfReader(pdf.body());
+        assertTrue(new PdfTextExtractor(reader).getTextFromPage(1).contains("Jane Doe"));
+        reader.close();
+        assertTrue(renderExecutor.getThreadPoolExecutor().getCompletedTaskCount() > rendered,
+            "document was not rendered on the render pool");
+    }
+
+    @Test
+    void postedContentRendersAsDocx() throws Exception {
+        HttpResponse<byte[]> docx = send(HttpRequest.newBuilder(uri("/render?format=docx"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(new ObjectMapper().writeValueAsString(Map.of("content", CONTENT)))),
+            HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, docx.statusCode());
+        Map<String, byte[]> parts = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(docx.body()))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                parts.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        assertTrue(parts.keySet().containsAll(List.of("[Content_Types].xml", "_rels/.rels",
+            "word/document.xml", "word/styles.xml", "word/numbering.xml")));
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(new ByteArrayInputStream(parts.get("word/document.xml")));
+        String text = document.getDocumentElement().getTextContent();
+        assertTrue(text.contains("Java & Spring <Boot>"), text);
+        assertTrue(text.contains("Acme - Engineer"), text);
+    }
+
+    @Test
+    void unknownFormatAndEntryAreRejected() throws Exception {
+        assertEquals(400, send(HttpRequest.newBuilder(uri("/render/any?format=odt")).GET(),
+            HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(404, send(HttpRequest.newBuilder(uri("/render/missing")).GET(),
+            HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    void saturatedRenderPoolAnswersJson503() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable block = () -> {
+            started.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        // Occupy the single render thread, and only once it has taken its task, the single queue slot
+        renderExecutor.execute(block);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        renderExecutor.execute(block);
+        try {
+            HttpResponse<String> rejected = send(HttpRequest.newBuilder(uri("/render"))
+                .header("Content-Type", "application/json")
+                .header("Origin", "http://localhost:5173")
+                .POST(HttpRequest.BodyPublishers.ofString(new ObjectMapper().writeValueAsString(Map.of("content", CONTENT)))),
+                HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(503, rejected.statusCode(), rejected.body());
+            assertTrue(rejected.headers().firstValue("Content-Type").orElse("").startsWith("application/json"),
+                rejected.headers().map().toString());
+            assertTrue(rejected.headers().firstValue("Content-Disposition").isEmpty(),
+                rejected.headers().map().toString());
+            assertEquals("http://localhost:5173", rejected.headers().firstValue("Access-Control-Allow-Origin").orElse(null));
+            // Exactly one JSON document: readValue fails on trailing content
+            Map<?, ?> body = new ObjectMapper().enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+                .readValue(rejected.body(), Map.class);
+            assertEquals(503, body.get("status"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest.Builder request, HttpResponse.BodyHandler<T> handler) throws Exception {
+        return client.send(request.build(), handler);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + port + "/api/v1/resume" + path);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.Resume;
+import com.example.resume.service.ResumeService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs a successful sync request, an async request and a rejected request
+ * through the pipeline and checks the Prometheus scrape exposes each stage.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+public class GenerationMetricsTests {
+
+    private static HttpServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            boolean reject = request.contains("reject@example.com");
+            byte[] body = (reject ? "{\"error\":\"bad request\"}" : "{\"choices\":[{\"message\":{\"content\":\"ok\"}}],"
+                + "\"usage\":{\"prompt_tokens\":200,\"completion_tokens\":1,\"total_tokens\":201}}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(reject ? 400 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        registry.add("resume.cache.enabled", () -> "false");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void pipelineStagesAreExportedInPrometheusFormat() throws Exception {
+        assertEquals(200, post("{\"personalInformation\":{\"name\":\"Jane Doe\",\"email\":\"jane@example.com\"}}"));
+        assertEquals(500, post("{\"personalInformation\":{\"name\":\"Jane Doe\",\"email\":\"reject@example.com\"}}"));
+        assertEquals(400, post("{\"personalInformation\":{\"name\":\"Jane Doe\"}}"));
+        resumeService.generateResumeAsync(asyncResume()).join();
+
+        String scrape = client.send(HttpRequest.newBuilder(URI.create(base() + "/actuator/prometheus")).build(),
+            HttpResponse.BodyHandlers.ofString()).body();
+
+        for (String stage : new String[] {"validation", "prompt_build", "upstream", "upstream_connect",
+                "upstream_ttfb", "response_parse"}) {
+            assertTrue(scrape.contains("resume_generation_stage_seconds_count{application=\"resume-generator\","
+                + "stage=\"" + stage + "\",}"), "missing stage " + stage);
+            assertTrue(scrape.contains("resume_generation_stage_seconds_bucket{application=\"resume-generator\","
+                + "stage=\"" + stage + "\",le=\""), "missing histogram for stage " + stage);
+        }
+        assertTrue(scrape.contains("resume_generation_duration_seconds_count{application=\"resume-generator\","
+            + "input=\"structured\",mode=\"async\",outcome=\"success\",path=\"upstream\",}"));
+        assertTrue(scrape.contains("resume_generation_requests_total{application=\"resume-generator\","
+            + "input=\"structured\",path=\"upstream\",}"));
+        assertTrue(scrape.contains("resume_generation_errors_total{application=\"resume-generator\","
+            + "category=\"upstream_client\",}"));
+        assertTrue(scrape.contains("resume_upstream_connections{application=\"resume-generator\",client=\"async\","
+            + "state=\"leased\",}"));
+        assertTrue(scrape.contains("resume_prompt_tokens_count{application=\"resume-generator\",source=\"provider\",}"));
+    }
+
+    private int post(String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base() + "/api/v1/resume/generate"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode();
+    }
+
+    private String base() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    private static Resume asyncResume() {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setName("Jane Doe");
+        info.setEmail("async@example.com");
+        Resume resume = new Resume();
+        resume.setPersonalInformation(info);
+        return resume;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Generates a resume (mock path), then checks the listing shows only ids,
+ * timestamps and hashes, the full entry needs its id, and listing by email
+ * is refused while {@code resume.history.list-by-email} is off.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class HistoryControllerTests {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void historyProperties(DynamicPropertyRegistry registry) throws IOException {
+        String history = Files.createTempDirectory("history-api").resolve("history.log").toString();
+        registry.add("resume.history.enabled", () -> "true");
+        registry.add("resume.history.path", () -> history);
+    }
+
+    @Test
+    void listingCarriesNoPersonalData() throws Exception {
+        HttpResponse<String> generated = client.send(HttpRequest.newBuilder(uri("/generate"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"personalInformation\":{\"name\":\"Jane Doe\","
+                + "\"email\":\"jane@example.com\",\"phone\":\"555-0100\"}}"))
+            .build(), HttpResponse.BodyHandlers.ofString());
+        String id = objectMapper.readTree(generated.body()).get("id").asText();
+
+        JsonNode entry = get("/history/" + id, 200);
+        assertEquals("Jane Doe", entry.get("resume").get("personalInformation").get("name").asText());
+
+        JsonNode listed = get("/history?hash=" + entry.get("promptHash").asText(), 200);
+        assertEquals(1, listed.size());
+        assertEquals(id, listed.get(0).get("id").asText());
+        assertTrue(listed.get(0).hasNonNull("createdAt"));
+        assertFalse(listed.get(0).has("resume"));
+        assertFalse(listed.get(0).has("result"));
+        assertFalse(listed.get(0).has("email"));
+        assertFalse(listed.toString().contains("555-0100"), listed.toString());
+
+        assertEquals(403, get("/history?email=jane@example.com", 403).get("status").asInt());
+    }
+
+    private JsonNode get(String path, int expectedStatus) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path)).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertEquals(expectedStatus, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + port + "/api/v1/resume" + path);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Submit/poll against a provider that holds every call until released: with
+ * one worker and a queue of one, the third job is refused with 429 and
+ * Retry-After, and the live jobs stay pollable while the store of finished
+ * jobs holds a single entry.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class JobControllerTests {
+
+    private static final CountDownLatch release = new CountDownLatch(1);
+    private static HttpServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"choices\":[{\"message\":{\"content\":\"# Jane Doe\"}}]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        registry.add("resume.jobs.workers", () -> "1");
+        registry.add("resume.jobs.queue-capacity", () -> "1");
+        registry.add("resume.jobs.max-stored", () -> "1");
+        registry.add("resume.jobs.retry-after-seconds", () -> "7");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        release.countDown();
+        stub.stop(0);
+    }
+
+    @Test
+    void queuesPollsAndRejectsWhenFull() throws Exception {
+        HttpResponse<String> first = submit("I'm Jane Doe, a backend engineer. Reach me at jane@example.com.");
+        HttpResponse<String> second = submit("I'm John Roe, a data engineer. Reach me at john@example.com.");
+        assertEquals(202, first.statusCode(), first.body());
+        assertEquals(202, second.statusCode(), second.body());
+        String firstId = objectMapper.readTree(first.body()).get("id").asText();
+        String secondId = objectMapper.readTree(second.body()).get("id").asText();
+        assertEquals("/api/v1/resume/jobs/" + firstId, first.headers().firstValue("Location").orElse(null));
+
+        HttpResponse<String> rejected = submit("I'm Ann Poe, a nurse. Reach me at ann@example.com.");
+        assertEquals(429, rejected.statusCode(), rejected.body());
+        assertEquals("7", rejected.headers().firstValue("Retry-After").orElse(null));
+        assertEquals(429, objectMapper.readTree(rejected.body()).get("status").asInt());
+
+        awaitStatus(firstId, "RUNNING");
+        assertEquals("QUEUED", poll(secondId).get("status").asText());
+
+        release.countDown();
+        // The last job to finish; the first may already have been evicted from the one-entry store
+        JsonNode done = awaitStatus(secondId, "SUCCEEDED");
+        assertEquals("# Jane Doe", done.get("result").get("content").asText());
+        assertTrue(done.hasNonNull("completedAt"));
+    }
+
+    @Test
+    void unknownJobIsNotFound() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base() + "/missing")).build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertEquals(404, response.statusCode());
+    }
+
+    private HttpResponse<String> submit(String summary) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(base()))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("summary", summary))))
+            .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode poll(String id) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base() + "/" + id)).build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body());
+    }
+
+    private JsonNode awaitStatus(String id, String status) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        JsonNode job = poll(id);
+        while (!status.equals(job.get("status").asText()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            job = poll(id);
+        }
+        assertEquals(status, job.get("status").asText(), job.toString());
+        return job;
+    }
+
+    private String base() {
+        return "http://127.0.0.1:" + port + "/api/v1/resume/jobs";
+    }
+}
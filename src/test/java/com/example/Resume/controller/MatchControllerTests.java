@@ -0,0 +1,97 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Matches a resume against the bundled sample corpus and checks a targeted
+ * generation records the emphasized keywords with its history entry.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class MatchControllerTests {
+
+    private static final String RESUME = "{\"personalInformation\":{\"name\":\"Jane Doe\",\"email\":\"jane@example.com\"},"
+        + "\"skillsList\":[\"Java\",\"Spring Boot\",\"Kafka\",\"PostgreSQL\"],"
+        + "\"experiences\":[{\"company\":\"Acme\",\"position\":\"Backend Engineer\",\"duration\":\"2019-2024\","
+        + "\"responsibilities\":[\"Built payment APIs as microservices on k8s\"]}]%s}";
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void historyProperties(DynamicPropertyRegistry registry) throws IOException {
+        String history = Files.createTempDirectory("matching").resolve("history.log").toString();
+        registry.add("resume.history.enabled", () -> "true");
+        registry.add("resume.history.path", () -> history);
+    }
+
+    @Test
+    void ranksCorpusPostingsWithMissingKeywords() throws Exception {
+        HttpResponse<String> response = post("/match?limit=3", String.format(RESUME, ""));
+
+        assertEquals(200, response.statusCode(), response.body());
+        JsonNode matches = objectMapper.readTree(response.body());
+        assertEquals(3, matches.size());
+        JsonNode best = matches.get(0);
+        assertEquals("backend-java-1", best.get("postingId").asText());
+        assertTrue(terms(best.get("matchedKeywords")).containsAll(List.of("kafka", "spring boot")), best.toString());
+        assertEquals(List.of("rest apis"), terms(best.get("missingKeywords")));
+        assertTrue(best.get("score").asDouble() > matches.get(1).get("score").asDouble());
+
+        assertEquals(400, post("/match?limit=0", String.format(RESUME, "")).statusCode());
+        assertEquals(404, post("/match/target", String.format(RESUME, ",\"targetPostingId\":\"nope\"")).statusCode());
+    }
+
+    @Test
+    void targetedGenerationEmphasizesMatchedKeywords() throws Exception {
+        HttpResponse<String> generated = post("/generate", String.format(RESUME, ",\"targetPostingId\":\"backend-java-1\""));
+        assertEquals(200, generated.statusCode(), generated.body());
+        String id = objectMapper.readTree(generated.body()).get("id").asText();
+
+        HttpResponse<String> entry = client.send(HttpRequest.newBuilder(uri("/history/" + id)).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+        List<String> emphasis = terms(objectMapper.readTree(entry.body()).get("resume").get("emphasis"));
+
+        assertTrue(emphasis.containsAll(List.of("kafka", "spring boot", "java")), emphasis.toString());
+        assertFalse(emphasis.contains("rest apis"), emphasis.toString());
+        assertEquals(400, post("/generate", String.format(RESUME, ",\"targetPostingId\":\"nope\"")).statusCode());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<String> terms(JsonNode array) {
+        List<String> terms = new ArrayList<>();
+        array.forEach(term -> terms.add(term.asText()));
+        return terms;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + port + "/api/v1/resume" + path);
+    }
+}
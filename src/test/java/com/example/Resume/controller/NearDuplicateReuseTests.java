@@ -0,0 +1,133 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Resubmits a summary with trivial edits and a new phone number: the stored
+ * generation is reused with the number swapped, without a provider call.
+ * The same text from another person always reaches the provider.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class NearDuplicateReuseTests {
+
+    private static final String SUMMARY = "I'm %s, a backend engineer with twelve years of experience building "
+        + "payment platforms and data pipelines. I led a team of six that moved billing onto Kafka and Kubernetes, "
+        + "cut checkout latency in half and mentored four engineers into senior roles. Reach me at %s or %s.";
+
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static HttpServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            String prompt = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            // Echo the contact details back the way a model would, including a first name on its own
+            String content = prompt.contains("John Smith")
+                ? "# John Smith\\njohn@example.com | +1 555 010 7777\\n\\n## Summary\\nJohn is a backend engineer, call "
+                : "# Jane Doe\\njane@example.com | +1 555 010 1234\\n\\n## Summary\\nJane is a backend engineer, call ";
+            content += calls.incrementAndGet();
+            byte[] body = ("{\"choices\":[{\"message\":{\"content\":\"" + content + "\"}}],\"model\":\"stub\"}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        String history = Files.createTempDirectory("duplicates").resolve("history.log").toString();
+        registry.add("resume.history.enabled", () -> "true");
+        registry.add("resume.history.path", () -> history);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void resubmittedSummaryReusesGeneration() throws Exception {
+        int before = calls.get();
+        JsonNode first = generate(String.format(SUMMARY, "Jane Doe", "jane@example.com", "+1 555 010 1234"));
+        assertEquals(before + 1, calls.get());
+
+        String edited = String.format(SUMMARY, "Jane Doe", "Jane@Example.com ", "+1 555 010 9999")
+            .replace("  ", " ").replace("half", "half!").replace("Kafka and", "Kafka  and\n");
+        JsonNode reused = generate(edited);
+
+        assertEquals(before + 1, calls.get(), "near-duplicate summary reached the provider");
+        String content = reused.get("content").asText();
+        assertTrue(content.contains("+1 555 010 9999"), content);
+        assertFalse(content.contains("1234"), content);
+        assertTrue(content.endsWith("call " + (before + 1)), content);
+        assertNotEquals(first.get("id").asText(), reused.get("id").asText());
+
+        generate(String.format(SUMMARY, "Jane Doe", "jane@example.com", "+1 555 010 1234")
+            .replace("twelve years", "twelve years as a pastry chef in Lyon, then eight years"));
+        assertEquals(before + 2, calls.get());
+    }
+
+    @Test
+    void anotherPersonsGenerationIsNeverReused() throws Exception {
+        generate(String.format(SUMMARY, "Jane Doe", "jane.doe@example.org", "+1 555 010 1234"));
+        int before = calls.get();
+
+        JsonNode other = generate(String.format(SUMMARY, "John Smith", "john@example.com", "+1 555 010 7777"));
+
+        assertEquals(before + 1, calls.get(), "another person's near-duplicate was served from history");
+        String content = other.get("content").asText();
+        assertFalse(content.contains("Jane"), content);
+        assertFalse(content.contains("1234"), content);
+
+        // Same address, but the stored text would keep "Jane" on its own
+        generate(String.format(SUMMARY, "Janet Doe", "jane.doe@example.org", "+1 555 010 1234"));
+        assertEquals(before + 2, calls.get(), "a generation naming someone else was reused");
+    }
+
+    private JsonNode generate(String summary) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + port + "/api/v1/resume/generate"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("summary", summary))))
+            .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two stub providers, a slow one listed first and a fast one: the first
+ * call goes to the slow one, is hedged on the fast one and the slow
+ * exchange is cancelled; after that the latency EWMA routes to the fast one.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ProviderRoutingTests {
+
+    private static final Map<String, AtomicInteger> calls = Map.of("slow", new AtomicInteger(), "fast", new AtomicInteger());
+    private static HttpServer slow;
+    private static HttpServer fast;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        slow = stub("slow", 5000);
+        fast = stub("fast", 50);
+        registry.add("resume.providers", () -> "slow,fast");
+        for (HttpServer server : new HttpServer[] {slow, fast}) {
+            String name = server == slow ? "slow" : "fast";
+            registry.add(name + ".api.key", () -> "sk-test-0123456789");
+            registry.add(name + ".api.url", () -> "http://127.0.0.1:" + server.getAddress().getPort() + "/v1");
+        }
+        registry.add("resume.hedging.initial-delay-ms", () -> "300");
+        registry.add("resume.cache.enabled", () -> "false");
+        registry.add("resume.duplicates.enabled", () -> "false");
+    }
+
+    private static HttpServer stub(String name, long delayMs) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            calls.get(name).incrementAndGet();
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"choices\":[{\"message\":{\"content\":\"# From " + name + "\"}}],\"model\":\"stub\"}")
+                .getBytes(StandardCharsets.UTF_8);
+            try (OutputStream out = exchange.getResponseBody()) {
+                exchange.sendResponseHeaders(200, body.length);
+                out.write(body);
+            } catch (IOException e) {
+                // The client hung up: the hedge won and this exchange was cancelled
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        slow.stop(0);
+        fast.stop(0);
+    }
+
+    @Test
+    void slowCallIsHedgedAndLaterCallsGoToTheFasterProvider() throws Exception {
+        long start = System.nanoTime();
+        assertEquals("# From fast", generate("first@example.com"));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs < 3000, "hedged call took " + elapsedMs + "ms");
+        assertEquals(1, calls.get("slow").get());
+        assertEquals(1.0, meterRegistry.get("resume.provider.hedges").tag("outcome", "won").counter().count());
+        assertEquals(0.0, meterRegistry.get("resume.provider.in.flight").tag("provider", "slow").gauge().value(),
+            "losing exchange was not cancelled");
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("# From fast", generate("next" + i + "@example.com"));
+        }
+        assertEquals(1, calls.get("slow").get());
+        assertEquals(6, calls.get("fast").get());
+        assertEquals(1.0, meterRegistry.get("resume.provider.hedges").tag("outcome", "won").counter().count());
+    }
+
+    private String generate(String email) throws Exception {
+        String body = "{\"personalInformation\":{\"name\":\"Jane Doe\",\"email\":\"" + email + "\"}}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + port + "/api/v1/resume/generate"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        JsonNode result = objectMapper.readTree(response.body());
+        return result.get("content").asText();
+    }
+}
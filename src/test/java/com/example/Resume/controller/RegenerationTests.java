@@ -0,0 +1,131 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Generates a resume, edits its skills and regenerates it: only the skills
+ * prompt may reach the provider, and the rest of the text must be kept.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RegenerationTests {
+
+    private static final String FULL = "# Jane Doe\\n\\n## Skills\\n- Java\\n\\n## Work Experience\\n"
+        + "Acme - Engineer\\n- Built the billing platform\\n\\n## Education\\nState University\\n";
+
+    private static final List<String> prompts = new CopyOnWriteArrayList<>();
+    private static HttpServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            prompts.add(request);
+            String content = request.contains("Rewrite only the Skills") ? "Skills\\n- Kotlin\\n- Go" : FULL;
+            byte[] body = ("{\"choices\":[{\"message\":{\"content\":\"" + content + "\"}}],"
+                + "\"usage\":{\"prompt_tokens\":50,\"completion_tokens\":10,\"total_tokens\":60}}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        String history = Files.createTempDirectory("regeneration").resolve("history.log").toString();
+        registry.add("resume.history.enabled", () -> "true");
+        registry.add("resume.history.path", () -> history);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void onlyChangedSectionIsRegenerated() throws Exception {
+        JsonNode first = post("/generate", resume("Java"));
+        assertEquals(1, prompts.size());
+
+        JsonNode second = post("/regenerate/" + first.get("id").asText(), resume("Kotlin\", \"Go"));
+        assertEquals(2, prompts.size());
+        String sectionPrompt = prompts.get(1);
+        assertTrue(sectionPrompt.contains("Kotlin"));
+        assertFalse(sectionPrompt.contains("Acme"), "unchanged experience was sent upstream");
+
+        assertEquals(first.get("content").asText().replace("- Java", "- Kotlin\n- Go"), second.get("content").asText());
+        assertEquals(50, second.get("usage").get("promptTokens").asInt());
+        assertNotEquals(first.get("id").asText(), second.get("id").asText());
+
+        // Nothing changed since the last generation: served without a call
+        JsonNode third = post("/regenerate/" + second.get("id").asText(), resume("Kotlin\", \"Go"));
+        assertEquals(2, prompts.size());
+        assertEquals(second.get("id").asText(), third.get("id").asText());
+    }
+
+    @Test
+    void unknownPreviousGenerationIsNotFound() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base() + "/regenerate/missing"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(resume("Java")))
+            .build();
+        assertEquals(404, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    private JsonNode post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base() + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body());
+    }
+
+    private String base() {
+        return "http://127.0.0.1:" + port + "/api/v1/resume";
+    }
+
+    private static String resume(String skills) {
+        return "{\"personalInformation\":{\"name\":\"Jane Doe\",\"email\":\"jane@example.com\"},"
+            + "\"experiences\":[{\"company\":\"Acme\",\"position\":\"Engineer\",\"duration\":\"2019-2024\","
+            + "\"responsibilities\":[\"Built the billing platform\"]}],"
+            + "\"skillsList\":[\"" + skills + "\"]}";
+    }
+}
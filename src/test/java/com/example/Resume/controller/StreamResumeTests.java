@@ -0,0 +1,240 @@
+package com.example.Resume.controller;
+
+import com.example.resume.ResumeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives /generate/stream against a stub streaming provider, whose behaviour
+ * is picked by the email in the prompt: a short stream, a 400, a stream held
+ * until released, and an endless stream. One streaming thread and no queue,
+ * so a second concurrent stream is rejected.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class StreamResumeTests {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final CountDownLatch holding = new CountDownLatch(1);
+    private static final CountDownLatch release = new CountDownLatch(1);
+    private static final CountDownLatch upstreamAborted = new CountDownLatch(1);
+    private static final AtomicInteger endlessChunks = new AtomicInteger();
+    private static HttpServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ThreadPoolTaskExecutor streamingExecutor;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = JSON;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (request.contains("failing@example.com")) {
+                byte[] body = "{\"error\":\"bad request\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(400, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                if (request.contains("endless@example.com")) {
+                    streamUntilAborted(out);
+                    return;
+                }
+                if (request.contains("holding@example.com")) {
+                    holding.countDown();
+                    release.await(30, TimeUnit.SECONDS);
+                }
+                sendDelta(out, "# Jane Doe\n");
+                sendDelta(out, "Backend engineer");
+                out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        registry.add("resume.cache.enabled", () -> "false");
+        registry.add("resume.stream.max-concurrent", () -> "1");
+        registry.add("resume.stream.queue-capacity", () -> "0");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        release.countDown();
+        stub.stop(0);
+    }
+
+    @BeforeEach
+    void awaitIdleStreams() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (streamingExecutor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void framesDeltasAsJsonEventsThenDone() throws Exception {
+        HttpResponse<String> response = stream("framing");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+        List<Map.Entry<String, String>> events = events(response.body());
+        assertEquals(List.of("delta", "delta", "done"), events.stream().map(Map.Entry::getKey).toList());
+        // The newline inside the first chunk stays inside its JSON payload
+        assertEquals("# Jane Doe\n", objectMapper.readTree(events.get(0).getValue()).get("content").asText());
+        assertEquals("Backend engineer", objectMapper.readTree(events.get(1).getValue()).get("content").asText());
+    }
+
+    @Test
+    void upstreamFailureEndsWithErrorEvent() throws Exception {
+        List<Map.Entry<String, String>> events = events(stream("failing").body());
+
+        assertEquals(List.of("error"), events.stream().map(Map.Entry::getKey).toList());
+        JsonNode error = objectMapper.readTree(events.get(0).getValue());
+        assertEquals(500, error.get("status").asInt());
+        assertTrue(error.get("message").asText().contains("bad request"), error.toString());
+    }
+
+    @Test
+    void rejectsStreamWhenStreamingExecutorIsFull() throws Exception {
+        CompletableFuture<HttpResponse<String>> held = client.sendAsync(streamRequest("holding"),
+            HttpResponse.BodyHandlers.ofString());
+        assertTrue(holding.await(10, TimeUnit.SECONDS));
+
+        List<Map.Entry<String, String>> rejected = events(stream("rejected").body());
+        assertEquals(List.of("error"), rejected.stream().map(Map.Entry::getKey).toList());
+        assertEquals(503, objectMapper.readTree(rejected.get(0).getValue()).get("status").asInt());
+
+        release.countDown();
+        List<Map.Entry<String, String>> completed = events(held.get(10, TimeUnit.SECONDS).body());
+        assertEquals("done", completed.get(completed.size() - 1).getKey());
+    }
+
+    @Test
+    void clientDisconnectAbortsUpstreamRead() throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(resume("endless"));
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST /api/v1/resume/generate/stream HTTP/1.1\r\nHost: 127.0.0.1\r\n"
+                + "Content-Type: application/json\r\nAccept: text/event-stream\r\n"
+                + "Content-Length: " + body.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(body);
+            out.flush();
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null && !line.startsWith("event:delta")) {
+                // Skip the status line, headers and chunk sizes up to the first delta
+            }
+            assertTrue(line != null, "stream ended before the first delta");
+        }
+
+        assertTrue(upstreamAborted.await(10, TimeUnit.SECONDS),
+            "upstream kept streaming after the client left (" + endlessChunks.get() + " chunks sent)");
+    }
+
+    private static void streamUntilAborted(OutputStream out) {
+        try {
+            for (int i = 0; i < 1000; i++) {
+                sendDelta(out, "line " + i + "\n");
+                endlessChunks.incrementAndGet();
+                Thread.sleep(10);
+            }
+        } catch (IOException e) {
+            upstreamAborted.countDown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sendDelta(OutputStream out, String content) throws IOException {
+        String chunk = JSON.writeValueAsString(Map.of("choices", List.of(Map.of("delta", Map.of("content", content)))));
+        out.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private HttpResponse<String> stream(String tag) throws Exception {
+        return client.send(streamRequest(tag), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest streamRequest(String tag) throws Exception {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/v1/resume/generate/stream"))
+            .header("Content-Type", "application/json")
+            .header("Accept", "text/event-stream")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(resume(tag))))
+            .build();
+    }
+
+    private static Map<String, Object> resume(String tag) {
+        String email = tag + "@example.com";
+        return Map.of("name", "Jane Doe", "email", email,
+            "personalInformation", Map.of("name", "Jane Doe", "email", email));
+    }
+
+    /**
+     * Splits an SSE body into (event name, data) pairs, joining multi-line data with newlines.
+     */
+    private static List<Map.Entry<String, String>> events(String body) {
+        List<Map.Entry<String, String>> events = new ArrayList<>();
+        for (String block : body.split("\n\n")) {
+            String name = "message";
+            StringBuilder data = new StringBuilder();
+            for (String line : block.split("\n")) {
+                if (line.startsWith("event:")) {
+                    name = line.substring(6).trim();
+                } else if (line.startsWith("data:")) {
+                    data.append(data.length() > 0 ? "\n" : "").append(line.substring(5));
+                }
+            }
+            if (!block.isBlank()) {
+                events.add(Map.entry(name, data.toString()));
+            }
+        }
+        return events;
+    }
+}
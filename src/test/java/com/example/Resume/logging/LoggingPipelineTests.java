@@ -0,0 +1,87 @@
+package com.example.Resume.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import com.example.resume.logging.JsonLayout;
+import com.example.resume.logging.PiiRedactor;
+import com.example.resume.logging.WireLogSampler;
+import com.example.resume.model.Resume;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoggingPipelineTests {
+
+    @Test
+    void redactsContactDetailsButNotOtherNumbers() {
+        assertEquals("Reach [email] or [phone], see [profile] and [profile]",
+            PiiRedactor.redact("Reach jane.doe+cv@mail.example.co.uk or +1 (555) 123-4567, "
+                + "see https://www.linkedin.com/in/jane-doe and github.com/janedoe"));
+        assertEquals("Call [phone] today", PiiRedactor.redact("Call 5551234567 today"));
+
+        String plain = "Job 3f2b8c1e-0d4a-4b7e-9a51-7c2d1e6f8a90 took 1523 ms on 2024-05-01 from 10.0.12.7, "
+            + "offset 12345678";
+        assertSame(plain, PiiRedactor.redact(plain));
+        String dated = "Window 2024-05-01 10:15:30 to 2024-05-02";
+        assertEquals(dated, PiiRedactor.redact(dated));
+    }
+
+    @Test
+    void modelsKeepContactDetailsOutOfToString() {
+        Resume resume = new Resume();
+        resume.setName("Jane Doe");
+        resume.setEmail("jane@example.com");
+        resume.setPhone("555-123-4567");
+        resume.setSummary("I'm Jane Doe");
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setAddress("1 Main St");
+        resume.setPersonalInformation(info);
+
+        String text = resume.toString();
+        assertFalse(text.contains("Jane"), text);
+        assertFalse(text.contains("jane@example.com"), text);
+        assertFalse(text.contains("555"), text);
+        assertFalse(text.contains("Main St"), text);
+    }
+
+    @Test
+    void writesRedactedJsonAndSamplesWireLogs() throws Exception {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger logger = context.getLogger("com.example.resume.Test");
+        JsonLayout layout = new JsonLayout();
+        layout.setContext(context);
+        layout.start();
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.WARN,
+            "Rejected \"{}\"\n", null, new Object[] {"jane@example.com"});
+
+        JsonNode json = new ObjectMapper().readTree(layout.doLayout(event));
+        assertEquals("WARN", json.get("level").asText());
+        assertEquals("com.example.resume.Test", json.get("logger").asText());
+        assertEquals("Rejected \"[email]\"\n", json.get("message").asText());
+        assertTrue(json.get("timestamp").asText().endsWith("Z"));
+
+        WireLogSampler sampler = new WireLogSampler();
+        sampler.setSampleEvery(10);
+        Logger wire = new LoggerContext().getLogger("org.springframework.web.servlet.DispatcherServlet");
+        wire.setLevel(Level.DEBUG);
+        int passed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (sampler.decide(null, wire, Level.DEBUG, "Completed {}", null, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+        assertEquals(10, passed);
+        assertEquals(90, sampler.getSampledOutCount());
+        assertEquals(FilterReply.NEUTRAL, sampler.decide(null, wire, Level.WARN, "Failed", null, null));
+        assertEquals(FilterReply.NEUTRAL, sampler.decide(null, logger, Level.DEBUG, "Ours", null, null));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.Resume.service;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.BatchItemResult;
+import com.example.resume.model.Resume;
+import com.example.resume.service.BatchGenerationService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class BatchGenerationServiceTests {
+
+    private static final int ITEMS = 16;
+    private static final long UPSTREAM_DELAY_MS = 150;
+
+    private static HttpServer stub;
+
+    @Autowired
+    private BatchGenerationService batchGenerationService;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(UPSTREAM_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"choices\":[{\"message\":{\"content\":\"ok\"}}]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        registry.add("resume.cache.enabled", () -> "false");
+        registry.add("resume.limiter.tokens-per-minute", () -> "100000000");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void throughputScalesWithConcurrency() throws Exception {
+        long serialMs = runBatch("serial", 1);
+        long parallelMs = runBatch("parallel", 8);
+        double speedup = (double) serialMs / parallelMs;
+        assertTrue(speedup > 4, "expected near-linear speedup at concurrency 8, got "
+            + String.format("%.1f", speedup) + "x (" + serialMs + "ms vs " + parallelMs + "ms)");
+    }
+
+    @Test
+    void failingEntriesAreReportedIndividually() throws Exception {
+        List<Resume> resumes = distinctResumes("mixed", 3);
+        resumes.set(1, new Resume());
+        List<BatchItemResult> results = new CopyOnWriteArrayList<>();
+
+        batchGenerationService.generateAll(resumes, 2, results::add);
+
+        assertEquals(3, results.size());
+        for (BatchItemResult result : results) {
+            assertEquals(result.getIndex() == 1 ? "error" : "ok", result.getStatus());
+        }
+    }
+
+    private long runBatch(String prefix, int concurrency) throws InterruptedException {
+        List<BatchItemResult> results = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+        batchGenerationService.generateAll(distinctResumes(prefix, ITEMS), concurrency, results::add);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(ITEMS, results.size());
+        results.forEach(result -> assertEquals("ok", result.getStatus()));
+        return elapsedMs;
+    }
+
+    private static List<Resume> distinctResumes(String prefix, int count) {
+        List<Resume> resumes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Resume.PersonalInformation info = new Resume.PersonalInformation();
+            info.setName("Candidate " + i);
+            info.setEmail(prefix + i + "@example.com");
+            Resume resume = new Resume();
+            resume.setPersonalInformation(info);
+            resumes.add(resume);
+        }
+        return resumes;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.Resume.service;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.Resume;
+import com.example.resume.service.CircuitBreaker;
+import com.example.resume.service.ResumeService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class CircuitBreakerTests {
+
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static volatile boolean healthy;
+    private static HttpServer stub;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private CircuitBreaker circuitBreaker;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            calls.incrementAndGet();
+            byte[] body = (healthy ? "{\"choices\":[{\"message\":{\"content\":\"ok\"}}]}" : "{\"error\":\"down\"}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(healthy ? 200 : 503, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        registry.add("resume.cache.enabled", () -> "false");
+        registry.add("resume.retry.max-attempts", () -> "1");
+        registry.add("resume.breaker.minimum-calls", () -> "3");
+        registry.add("resume.breaker.open-ms", () -> "2000");
+        registry.add("resume.breaker.half-open-max-calls", () -> "1");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void opensOnFailuresServesLocalRenderingAndRecovers() throws Exception {
+        healthy = false;
+        for (int i = 0; i < 3; i++) {
+            int attempt = i;
+            assertThrows(RuntimeException.class, () -> resumeService.generateResume(sampleResume("fail" + attempt)));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        int callsWhenOpened = calls.get();
+        String fallback = resumeService.generateResume(sampleResume("open")).getContent();
+        assertEquals(callsWhenOpened, calls.get(), "open circuit must not call the provider");
+        assertTrue(fallback.startsWith("JANE DOE\nopen@example.com"), fallback);
+        assertTrue(fallback.contains("SKILLS\n- Java\n- SQL\n"), fallback);
+        assertTrue(resumeService.generateResumeAsync(sampleResume("open-async")).join().getContent().startsWith("JANE DOE"));
+        // A summary-only request is completed from the summary on a copy, not in the caller's object
+        Resume summaryOnly = new Resume();
+        summaryOnly.setSummary("I'm Jane Doe, a backend engineer. Reach me at summary@example.com.");
+        String fromSummary = resumeService.generateResume(summaryOnly).getContent();
+        assertTrue(fromSummary.startsWith("JANE DOE"), fromSummary);
+        assertNull(summaryOnly.getPersonalInformation());
+        assertNull(summaryOnly.getSkillsList());
+
+        healthy = true;
+        Thread.sleep(2100);
+        assertEquals("ok", resumeService.generateResume(sampleResume("probe")).getContent());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private static Resume sampleResume(String tag) {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setName("Jane Doe");
+        info.setEmail(tag + "@example.com");
+        Resume resume = new Resume();
+        resume.setPersonalInformation(info);
+        resume.setSkillsList(List.of("Java", "SQL"));
+        return resume;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.Resume.service;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.Resume;
+import com.example.resume.service.CompletionCache;
+import com.example.resume.service.ResumeService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Repeated generations against a stub that numbers its answers, and the
+ * cache's size and TTL bounds on standalone instances with a manual clock.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class CompletionCacheTests {
+
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static HttpServer stub;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = ("{\"choices\":[{\"message\":{\"content\":\"generation " + calls.incrementAndGet() + "\"}}]}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        registry.add("resume.cache.enabled", () -> "true");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void repeatedPromptIsServedWithoutCallingUpstream() {
+        GeneratedResume first = resumeService.generateResume(sampleResume("repeat@example.com"));
+        int callsAfterFirst = calls.get();
+
+        GeneratedResume again = resumeService.generateResume(sampleResume("repeat@example.com"));
+        GeneratedResume async = resumeService.generateResumeAsync(sampleResume("repeat@example.com")).join();
+
+        assertEquals(callsAfterFirst, calls.get());
+        assertEquals(first.getContent(), again.getContent());
+        assertEquals(first.getContent(), async.getContent());
+
+        resumeService.generateResume(sampleResume("other@example.com"));
+        assertEquals(callsAfterFirst + 1, calls.get());
+    }
+
+    @Test
+    void entriesExpireAfterTheTtl() {
+        AtomicLong nanos = new AtomicLong();
+        CompletionCache cache = newCache(100, 60, nanos::get);
+        cache.put("key", GeneratedResume.of("cached"));
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(59));
+        assertNotNull(cache.get("key"));
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    void sizeIsBoundedByMaxEntries() {
+        CompletionCache cache = newCache(5, 60, Ticker.systemTicker());
+        for (int i = 0; i < 50; i++) {
+            cache.put("key-" + i, GeneratedResume.of("completion " + i));
+        }
+
+        Cache<?, ?> entries = (Cache<?, ?>) ReflectionTestUtils.getField(cache, "cache");
+        entries.cleanUp();
+        assertTrue(entries.estimatedSize() <= 5, "cache holds " + entries.estimatedSize() + " entries");
+    }
+
+    private static CompletionCache newCache(long maxEntries, long ttlMinutes, Ticker ticker) {
+        CompletionCache cache = new CompletionCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", maxEntries);
+        ReflectionTestUtils.setField(cache, "ttlMinutes", ttlMinutes);
+        ReflectionTestUtils.setField(cache, "ticker", ticker);
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(cache, "init");
+        return cache;
+    }
+
+    private static Resume sampleResume(String email) {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setName("Jane Doe");
+        info.setEmail(email);
+        Resume resume = new Resume();
+        resume.setPersonalInformation(info);
+        return resume;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.Resume.service;
+
+import com.example.resume.service.CompletionCoalescer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompletionCoalescerTests {
+
+    private static final int CALLERS = 64;
+
+    private final CompletionCoalescer coalescer = new CompletionCoalescer();
+
+    @Test
+    void concurrentBlockingCallersShareOneUpstreamCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> {
+                    ready.countDown();
+                    return coalescer.execute("same-key", () -> {
+                        upstreamCalls.incrementAndGet();
+                        await(release);
+                        return "resume";
+                    });
+                }));
+            }
+            assertTrue(ready.await(5, TimeUnit.SECONDS));
+            // Give every caller time to reach the coalescer before the leader finishes
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("resume", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, upstreamCalls.get());
+            assertEquals(0, coalescer.inFlightCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentAsyncCallersShareOneUpstreamCall() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(coalescer.executeAsync("same-key", () -> {
+                upstreamCalls.incrementAndGet();
+                return upstream;
+            }));
+        }
+        // Cancelling one caller's copy must not affect the shared call
+        results.get(0).cancel(true);
+        upstream.complete("resume");
+
+        for (CompletableFuture<String> result : results.subList(1, CALLERS)) {
+            assertEquals("resume", result.join());
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void distinctKeysAreNotCoalesced() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(coalescer.executeAsync("key-" + i, () -> {
+                upstreamCalls.incrementAndGet();
+                return upstream;
+            }));
+        }
+        upstream.complete("resume");
+        results.forEach(CompletableFuture::join);
+        assertEquals(8, upstreamCalls.get());
+    }
+
+    @Test
+    void failuresAreSharedAndNotRemembered() {
+        assertThrows(IllegalStateException.class, () -> coalescer.execute("key", () -> {
+            throw new IllegalStateException("upstream down");
+        }));
+        assertEquals("recovered", coalescer.execute("key", () -> "recovered"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
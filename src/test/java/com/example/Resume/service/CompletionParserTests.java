@@ -0,0 +1,64 @@
+package com.example.Resume.service;
+
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.service.CompletionParser;
+import com.example.resume.service.UpstreamException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompletionParserTests {
+
+    private static final String COMPLETION = "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion\","
+        + "\"model\":\"gpt-4o-mini\",\"choices\":["
+        + "{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"JANE DOE\\nJava \\u00e9\","
+        + "\"tool_calls\":[{\"content\":\"nested\"}]},\"logprobs\":null,\"finish_reason\":\"stop\"},"
+        + "{\"index\":1,\"message\":{\"content\":\"second\"},\"finish_reason\":\"length\"}],"
+        + "\"usage\":{\"prompt_tokens\":12,\"completion_tokens\":5,\"total_tokens\":17},"
+        + "\"system_fingerprint\":\"fp_1\"}";
+
+    @Test
+    void extractsFirstChoiceAndUsageFromStream() throws Exception {
+        GeneratedResume result = CompletionParser.parse(
+            new ByteArrayInputStream(COMPLETION.getBytes(StandardCharsets.UTF_8)));
+
+        assertExpected(result);
+    }
+
+    @Test
+    void nonBlockingParserHandlesTokensSplitAcrossChunks() throws Exception {
+        byte[] body = COMPLETION.getBytes(StandardCharsets.UTF_8);
+        CompletionParser parser = CompletionParser.nonBlocking();
+        for (int offset = 0; offset < body.length; offset += 7) {
+            parser.feed(ByteBuffer.wrap(body, offset, Math.min(7, body.length - offset)));
+        }
+
+        assertExpected(parser.finish());
+    }
+
+    @Test
+    void missingContentIsReportedAsBadGateway() {
+        byte[] body = "{\"choices\":[]}".getBytes(StandardCharsets.UTF_8);
+
+        UpstreamException error = assertThrows(UpstreamException.class,
+            () -> CompletionParser.parse(new ByteArrayInputStream(body)));
+
+        assertEquals(502, error.getStatusCode());
+        assertTrue(error.getMessage().contains("content"), error.getMessage());
+    }
+
+    private static void assertExpected(GeneratedResume result) {
+        assertEquals("JANE DOE\nJava \u00e9", result.getContent());
+        assertEquals("gpt-4o-mini", result.getModel());
+        assertEquals("stop", result.getFinishReason());
+        assertEquals(12, result.getUsage().getPromptTokens());
+        assertEquals(5, result.getUsage().getCompletionTokens());
+        assertEquals(17, result.getUsage().getTotalTokens());
+    }
+}
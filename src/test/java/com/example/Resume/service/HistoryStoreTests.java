@@ -0,0 +1,90 @@
+package com.example.Resume.service;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.HistoryEntry;
+import com.example.resume.model.Resume;
+import com.example.resume.service.HistoryStore;
+import com.example.resume.service.ResumeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts against a log holding one stored entry followed by a torn write,
+ * then generates (mock path) and reads the entries back through each index.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class HistoryStoreTests {
+
+    private static final String SEEDED = "{\"id\":\"seed-1\",\"createdAt\":\"2024-01-01T00:00:00Z\","
+        + "\"email\":\"old@example.com\",\"promptHash\":\"abc\",\"resume\":{\"summary\":\"x\"},"
+        + "\"result\":{\"content\":\"Seeded resume\"}}\n";
+
+    private static Path log;
+
+    @Autowired
+    private HistoryStore historyStore;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @DynamicPropertySource
+    static void historyProperties(DynamicPropertyRegistry registry) throws IOException {
+        log = Files.createTempDirectory("history").resolve("history.log");
+        Files.writeString(log, SEEDED + "{\"id\":\"torn\",\"email\":\"to", StandardCharsets.UTF_8);
+        registry.add("resume.history.enabled", () -> "true");
+        registry.add("resume.history.path", log::toString);
+        registry.add("resume.history.batch-size", () -> "2");
+    }
+
+    @Test
+    void rebuildsIndexAndDropsTornTail() throws IOException {
+        assertEquals(SEEDED.length(), Files.size(log));
+        HistoryEntry seeded = historyStore.get("seed-1");
+        assertEquals("Seeded resume", seeded.getResult().getContent());
+        assertEquals(1, historyStore.findByPromptHash("abc", 10).size());
+        assertEquals(null, historyStore.get("torn"));
+    }
+
+    @Test
+    void generationsAreReadableAtOnceAndAfterFlush() throws Exception {
+        GeneratedResume first = resumeService.generateResume(resume("jane@example.com"));
+        GeneratedResume second = resumeService.generateResume(resume("jane@example.com"));
+        assertNotNull(first.getId());
+        assertEquals(first.getContent(), historyStore.get(first.getId()).getResult().getContent());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.readString(log).contains(second.getId()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(Files.readString(log).contains(second.getId()), "entry was not flushed");
+
+        List<HistoryEntry> byEmail = historyStore.findByEmail(" JANE@example.com", 10);
+        assertEquals(List.of(second.getId(), first.getId()), byEmail.stream().map(HistoryEntry::getId).toList());
+        HistoryEntry stored = historyStore.get(first.getId());
+        assertEquals("Jane Doe", stored.getResume().getPersonalInformation().getName());
+        assertEquals(2, historyStore.findByPromptHash(stored.getPromptHash(), 10).size());
+    }
+
+    private static Resume resume(String email) {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setName("Jane Doe");
+        info.setEmail(email);
+        Resume resume = new Resume();
+        resume.setPersonalInformation(info);
+        return resume;
+    }
+}
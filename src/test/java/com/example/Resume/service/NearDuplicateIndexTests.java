@@ -0,0 +1,60 @@
+package com.example.Resume.service;
+
+import com.example.resume.model.Resume;
+import com.example.resume.service.NearDuplicateIndex;
+import com.example.resume.service.ResumeFingerprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NearDuplicateIndexTests {
+
+    private static final String SUMMARY = "I'm Jane Doe, a backend engineer with twelve years of experience building "
+        + "payment platforms and data pipelines. I led a team of six that moved billing onto Kafka and Kubernetes, "
+        + "cut checkout latency in half and mentored four engineers into senior roles. Reach me at jane@example.com.";
+
+    @Test
+    void trivialEditsKeepInputsSimilar() {
+        ResumeFingerprint original = ResumeFingerprint.of(summary(SUMMARY));
+        ResumeFingerprint reformatted = ResumeFingerprint.of(summary(
+            "  " + SUMMARY.replace(", ", " , ").replace(". ", ".\n\n").toUpperCase()));
+        ResumeFingerprint oneWord = ResumeFingerprint.of(summary(SUMMARY.replace("half", "third")));
+        Resume otherTemplate = summary(SUMMARY);
+        otherTemplate.setTemplate("executive");
+
+        assertEquals(1.0, original.similarity(reformatted));
+        assertTrue(original.similarity(oneWord) > 0.9, String.valueOf(original.similarity(oneWord)));
+        assertEquals(0.0, original.similarity(ResumeFingerprint.of(otherTemplate)));
+        assertTrue(original.similarity(ResumeFingerprint.of(summary("I'm a nurse in Ohio."))) < 0.1);
+        assertArrayEquals(ResumeFingerprint.decode(original.encode()), ResumeFingerprint.decode(reformatted.encode()));
+    }
+
+    @Test
+    void findsNearDuplicatesAndDropsOldestHalfWhenFull() {
+        NearDuplicateIndex index = new NearDuplicateIndex(4);
+        String original = UUID.randomUUID().toString();
+        index.add(original, ResumeFingerprint.of(summary(SUMMARY)));
+        index.add(UUID.randomUUID().toString(), ResumeFingerprint.of(summary("I'm a nurse in Ohio.")));
+
+        assertEquals(List.of(original), index.candidates(ResumeFingerprint.of(summary(SUMMARY + " ")), 3));
+        assertTrue(index.memoryBytes() > 0);
+
+        index.add(UUID.randomUUID().toString(), ResumeFingerprint.of(summary("Pastry chef in Lyon.")));
+        index.add(UUID.randomUUID().toString(), ResumeFingerprint.of(summary("Welder in Gdansk.")));
+        index.add(UUID.randomUUID().toString(), ResumeFingerprint.of(summary("Pilot in Quito.")));
+
+        assertEquals(3, index.size());
+        assertTrue(index.candidates(ResumeFingerprint.of(summary(SUMMARY)), 3).isEmpty());
+    }
+
+    private static Resume summary(String text) {
+        Resume resume = new Resume();
+        resume.setSummary(text);
+        return resume;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.Resume.service;
+
+import com.example.resume.model.JobPosting;
+import com.example.resume.model.Resume;
+import com.example.resume.service.JobMatcher;
+import com.example.resume.service.KeywordTokenizer;
+import com.example.resume.service.PostingIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PostingIndexTests {
+
+    private static final List<JobPosting> POSTINGS = List.of(
+        new JobPosting("java", "Backend Engineer", "Acme", "Build payment services on Kubernetes.",
+            List.of("Java", "Spring Boot", "Kafka", "PostgreSQL")),
+        new JobPosting("react", "Frontend Engineer", "Acme", "Build web apps with React and TypeScript.",
+            List.of("React", "TypeScript", "CSS")),
+        new JobPosting("data", "Data Engineer", "Quarry", "Stream events with Kafka into Spark and PostgreSQL.",
+            List.of("Python", "Spark", "Kafka", "SQL")),
+        new JobPosting("platform", "Platform Engineer", "Quarry", "Run Kubernetes clusters with Terraform.",
+            List.of("Kubernetes", "Terraform", "Go")));
+
+    @Test
+    void tokenizerFoldsSpellingsAndKeepsPhrases() {
+        assertEquals(List.of("kubernetes", "postgresql", "kubernetes postgresql"), KeywordTokenizer.terms("K8s/Postgres"));
+        assertEquals(List.of("c++", "c#", ".net", "c# .net", "node.js"), KeywordTokenizer.terms("C++, C# .NET; Node"));
+        assertEquals(List.of("spring", "boot", "spring boot", "kafka"),
+            KeywordTokenizer.terms("Spring Boot with 5+ years of Kafka."));
+    }
+
+    @Test
+    void ranksPostingsByWeightedOverlap() {
+        PostingIndex index = PostingIndex.build(POSTINGS);
+        Resume resume = new Resume();
+        resume.setSkillsList(List.of("Java", "Spring Boot", "Kafka"));
+        Resume.Experience experience = new Resume.Experience();
+        experience.setResponsibilities(List.of("Moved billing to Postgres on k8s"));
+        resume.setExperiences(List.of(experience));
+
+        Map<String, Float> query = JobMatcher.query(resume);
+        List<PostingIndex.Hit> hits = index.search(query, 3);
+
+        assertEquals(List.of("java", "data", "platform"),
+            hits.stream().map(hit -> index.posting(hit.doc()).getId()).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertEquals(2f, query.get("kafka"));
+        assertEquals(1f, query.get("kubernetes"));
+        assertTrue(index.search(Map.of("cobol", 1f), 3).isEmpty());
+    }
+
+    @Test
+    void keywordsPreferPhrasesOverTheirWords() {
+        PostingIndex index = PostingIndex.build(POSTINGS);
+
+        List<String> keywords = index.keywords("We need Spring Boot, Kafka and Kafka Streams. Pizza on Fridays.", 5)
+            .stream().map(PostingIndex.Keyword::term).toList();
+
+        assertTrue(keywords.contains("kafka"), keywords.toString());
+        assertTrue(keywords.contains("spring boot"), keywords.toString());
+        assertFalse(keywords.contains("spring"), keywords.toString());
+        assertFalse(keywords.contains("pizza"), keywords.toString());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.Resume.service;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.Resume;
+import com.example.resume.service.BudgetedPrompt;
+import com.example.resume.service.PromptBudget;
+import com.example.resume.service.PromptTemplate;
+import com.example.resume.service.TokenEstimator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {"resume.prompt.max-tokens=800", "resume.completion.min-tokens=500"})
+public class PromptBudgetTests {
+
+    @Autowired
+    private PromptBudget promptBudget;
+
+    @Test
+    void estimatorFollowsPreTokenizerSplits() {
+        // cl100k: "Hello", " world" / "Senior", " Java", " developer", " with", " ", "10", " years", " of", " experience", "."
+        assertEquals(2, TokenEstimator.count("Hello world"));
+        assertEquals(10, TokenEstimator.count("Senior Java developer with 10 years of experience."));
+        assertEquals("Led a team. Shipped...", TokenEstimator.truncate("Led a team. Shipped the platform.", 5));
+    }
+
+    @Test
+    void smallPromptIsSentAsIsWithScaledAllowance() {
+        BudgetedPrompt prompt = promptBudget.prepare(resume(2, 2), PromptTemplate.Kind.STRUCTURED);
+
+        assertFalse(prompt.trimmed());
+        assertTrue(prompt.promptTokens() < 800);
+        assertEquals(Math.max(500, (int) Math.ceil(prompt.promptTokens() * 1.5)), prompt.maxTokens());
+    }
+
+    @Test
+    void oversizedResumeIsTrimmedToBudgetWithoutTouchingTheInput() {
+        Resume resume = resume(30, 12);
+
+        BudgetedPrompt prompt = promptBudget.prepare(resume, PromptTemplate.Kind.STRUCTURED);
+
+        assertTrue(prompt.trimmed());
+        assertTrue(prompt.promptTokens() <= 800, "estimated " + prompt.promptTokens());
+        assertEquals(prompt.promptTokens(), TokenEstimator.count(prompt.text()) + TokenEstimator.MESSAGE_OVERHEAD);
+        assertTrue(prompt.text().contains("Name: Jane Doe\nEmail: jane@example.com\n"));
+        assertTrue(prompt.text().contains("Company 0 - Engineer"), "most recent role must survive");
+        assertTrue(prompt.maxTokens() > prompt.promptTokens() && prompt.maxTokens() <= 2000);
+        assertEquals(30, resume.getExperiences().size());
+        assertEquals(12, resume.getExperiences().get(0).getResponsibilities().size());
+    }
+
+    @Test
+    void longSummaryIsShortenedLast() {
+        Resume resume = new Resume();
+        resume.setSummary("Built distributed systems for payments and logistics. ".repeat(300));
+
+        BudgetedPrompt prompt = promptBudget.prepare(resume, PromptTemplate.Kind.SUMMARY);
+
+        assertTrue(prompt.trimmed());
+        assertTrue(prompt.promptTokens() <= 800, "estimated " + prompt.promptTokens());
+        assertTrue(prompt.text().contains("Built distributed systems for payments and logistics."));
+    }
+
+    private static Resume resume(int experiences, int bullets) {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setName("Jane Doe");
+        info.setEmail("jane@example.com");
+        Resume resume = new Resume();
+        resume.setPersonalInformation(info);
+        List<Resume.Experience> list = new ArrayList<>();
+        for (int i = 0; i < experiences; i++) {
+            Resume.Experience exp = new Resume.Experience();
+            exp.setCompany("Company " + i);
+            exp.setPosition("Engineer");
+            exp.setDuration("2015 - 2018");
+            List<String> responsibilities = new ArrayList<>();
+            for (int j = 0; j < bullets; j++) {
+                responsibilities.add("Designed and operated high-throughput services, cutting p99 latency by "
+                    + j + "0% while mentoring engineers across three teams");
+            }
+            exp.setResponsibilities(responsibilities);
+            list.add(exp);
+        }
+        resume.setExperiences(list);
+        resume.setSkillsList(List.of("Java", "Kafka", "PostgreSQL"));
+        return resume;
+    }
+}
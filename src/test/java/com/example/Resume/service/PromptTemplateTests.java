@@ -0,0 +1,94 @@
+package com.example.Resume.service;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.Resume;
+import com.example.resume.service.PromptTemplate;
+import com.example.resume.service.PromptTemplateRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class PromptTemplateTests {
+
+    @Autowired
+    private PromptTemplateRegistry promptTemplates;
+
+    @Test
+    void rendersSlotsBetweenStaticSegments() {
+        PromptTemplate template = PromptTemplate.compile("test", 1, PromptTemplate.Kind.STRUCTURED,
+            "Skills:\n{{ skills }}--\n{{achievements}}end");
+        Resume resume = new Resume();
+        resume.setSkillsList(List.of("Java", "SQL"));
+        resume.setAchievements("Shipped it");
+
+        assertEquals("Skills:\n- Java\n- SQL\n--\nShipped it\nend", template.render(resume));
+    }
+
+    @Test
+    void rejectsUnknownPlaceholders() {
+        assertThrows(IllegalStateException.class,
+            () -> PromptTemplate.compile("test", 1, PromptTemplate.Kind.STRUCTURED, "Hello {{salary}}"));
+        assertThrows(IllegalStateException.class,
+            () -> PromptTemplate.compile("test", 1, PromptTemplate.Kind.STRUCTURED, "Hello {{skills"));
+    }
+
+    @Test
+    void selectsTemplateByNameAndVersion() {
+        Resume resume = new Resume();
+        resume.setSummary("I'm Jane Doe, a platform engineer.");
+
+        String standard = promptTemplates.render(resume, PromptTemplate.Kind.SUMMARY);
+        resume.setTemplate("technical@1");
+        String technical = promptTemplates.render(resume, PromptTemplate.Kind.SUMMARY);
+
+        assertTrue(standard.startsWith("You are a professional resume writer."), standard);
+        assertTrue(technical.contains("Technical Skills"), technical);
+        assertTrue(technical.contains("SUMMARY:\nI'm Jane Doe, a platform engineer.\n\n"), technical);
+        assertTrue(promptTemplates.exists("Executive", PromptTemplate.Kind.SUMMARY));
+        assertFalse(promptTemplates.exists("executive@9", PromptTemplate.Kind.SUMMARY));
+        resume.setTemplate("pirate");
+        assertThrows(IllegalArgumentException.class, () -> promptTemplates.render(resume, PromptTemplate.Kind.SUMMARY));
+    }
+
+    @Test
+    void existenceDependsOnTheKindTheRequestUses() {
+        // src/test/resources/prompts has a structured-only "letter" template
+        Resume resume = new Resume();
+        resume.setTemplate("letter");
+        assertEquals(PromptTemplate.Kind.STRUCTURED, PromptTemplate.Kind.forInput(resume));
+        assertTrue(promptTemplates.exists("letter", PromptTemplate.Kind.forInput(resume)));
+
+        resume.setSummary("I'm Jane Doe, a platform engineer.");
+        assertEquals(PromptTemplate.Kind.SUMMARY, PromptTemplate.Kind.forInput(resume));
+        assertFalse(promptTemplates.exists("letter", PromptTemplate.Kind.forInput(resume)));
+        assertThrows(IllegalArgumentException.class, () -> promptTemplates.render(resume, PromptTemplate.Kind.SUMMARY));
+
+        // Section prompts fall back to the default template's
+        assertTrue(promptTemplates.exists("letter", PromptTemplate.Kind.SKILLS));
+    }
+
+    @Test
+    void emphasisAppearsOnlyForTargetedResumes() {
+        Resume resume = new Resume();
+        resume.setPersonalInformation(new Resume.PersonalInformation());
+        resume.getPersonalInformation().setName("Jane Doe");
+        resume.setAchievementsList(List.of("Cut p99 latency by 40%"));
+
+        String untargeted = promptTemplates.render(resume, PromptTemplate.Kind.STRUCTURED);
+        resume.setEmphasis(List.of("kafka", "spring boot"));
+        String targeted = promptTemplates.render(resume, PromptTemplate.Kind.STRUCTURED);
+
+        assertFalse(untargeted.contains("TARGET ROLE"), untargeted);
+        assertTrue(untargeted.contains("- Cut p99 latency by 40%\n\nPlease create"), untargeted);
+        assertTrue(targeted.contains("- Cut p99 latency by 40%\n\nTARGET ROLE\n"), targeted);
+        assertTrue(targeted.contains(": kafka, spring boot\n\nPlease create"), targeted);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.Resume.service;
+
+import com.example.resume.service.PromptTemplate;
+import com.example.resume.service.ResumeSections;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResumeSectionsTests {
+
+    private static final String RESUME = "# Jane Doe\n"
+        + "jane@example.com\n\n"
+        + "## Professional Summary\n"
+        + "Engineer with ten years of experience.\n\n"
+        + "## Skills\n"
+        + "- Java\n"
+        + "- SQL\n\n"
+        + "## Work Experience\n"
+        + "**Acme - Engineer** (2019-2024)\n"
+        + "- Built the billing platform\n\n"
+        + "**Education:**\n"
+        + "State University, BSc Computer Science\n";
+
+    @Test
+    void locatesSectionBodiesUnderMarkdownHeadings() {
+        Map<PromptTemplate.Kind, ResumeSections.Span> spans = ResumeSections.locate(RESUME);
+
+        assertEquals(Map.of(PromptTemplate.Kind.SKILLS, "- Java\n- SQL",
+                PromptTemplate.Kind.EXPERIENCE, "**Acme - Engineer** (2019-2024)\n- Built the billing platform",
+                PromptTemplate.Kind.EDUCATION, "State University, BSc Computer Science"),
+            Map.of(PromptTemplate.Kind.SKILLS, text(spans.get(PromptTemplate.Kind.SKILLS)),
+                PromptTemplate.Kind.EXPERIENCE, text(spans.get(PromptTemplate.Kind.EXPERIENCE)),
+                PromptTemplate.Kind.EDUCATION, text(spans.get(PromptTemplate.Kind.EDUCATION))));
+        assertFalse(spans.containsKey(PromptTemplate.Kind.ACHIEVEMENTS));
+    }
+
+    @Test
+    void splicesOnlyTheReplacedSections() {
+        Map<PromptTemplate.Kind, ResumeSections.Span> spans = ResumeSections.locate(RESUME);
+        String spliced = ResumeSections.splice(RESUME, spans, Map.of(
+            PromptTemplate.Kind.SKILLS, ResumeSections.body("SKILLS:\n- Kotlin\n- Go\n"),
+            PromptTemplate.Kind.EDUCATION, "Tech Institute, MSc"));
+
+        assertEquals(RESUME.replace("- Java\n- SQL", "- Kotlin\n- Go")
+            .replace("State University, BSc Computer Science", "Tech Institute, MSc"), spliced);
+    }
+
+    @Test
+    void repeatedHeadingIsNotLocated() {
+        String resume = RESUME + "\nSkills\n- Leadership\n";
+        Map<PromptTemplate.Kind, ResumeSections.Span> spans = ResumeSections.locate(resume);
+
+        assertFalse(spans.containsKey(PromptTemplate.Kind.SKILLS));
+        assertTrue(spans.containsKey(PromptTemplate.Kind.EXPERIENCE));
+    }
+
+    private static String text(ResumeSections.Span span) {
+        return RESUME.substring(span.start(), span.end());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.Resume.service;
+
+import com.example.resume.model.SummaryProfile;
+import com.example.resume.service.SummaryExtractor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SummaryExtractorTests {
+
+    private final SummaryExtractor extractor = new SummaryExtractor();
+
+    @Test
+    void extractsAllFieldsInOnePass() {
+        SummaryProfile profile = extractor.extract("I'm Jane Doe and my email is jane.doe@example.com. "
+            + "Call +1 (415) 555-0134 or see linkedin.com/in/janedoe and https://github.com/janedoe. "
+            + "I have 8+ years of experience, 3 of them at a bank. Skills: Java, Spring Boot and SQL.");
+
+        assertEquals("Jane Doe", profile.getName());
+        assertEquals("jane.doe@example.com", profile.getEmail());
+        assertEquals("+1 (415) 555-0134", profile.getPhone());
+        assertEquals("linkedin.com/in/janedoe", profile.getLinkedin());
+        assertEquals("https://github.com/janedoe", profile.getGithub());
+        assertEquals(8, profile.getYearsOfExperience());
+        assertEquals(List.of("Java", "Spring Boot", "SQL"), profile.getSkills());
+    }
+
+    @Test
+    void ignoresDateRangesAndFallsBackToPlaceholders() {
+        SummaryProfile profile = extractor.extract("Worked at Acme from 2019 - 2021 on billing.");
+
+        assertNull(profile.getPhone());
+        assertEquals("Professional Candidate", profile.toPersonalInformation().getName());
+        assertEquals("candidate@example.com", profile.toPersonalInformation().getEmail());
+    }
+}
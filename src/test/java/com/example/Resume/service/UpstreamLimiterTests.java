@@ -0,0 +1,221 @@
+package com.example.Resume.service;
+
+import com.example.resume.ResumeApplication;
+import com.example.resume.model.GeneratedResume;
+import com.example.resume.model.Resume;
+import com.example.resume.service.ResumeService;
+import com.example.resume.service.UpstreamLimiter;
+import com.example.resume.service.UpstreamSaturatedException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the generation paths against a stub that answers the first
+ * {@code failuresBeforeSuccess} calls with an injected error status, and
+ * checks admission order and deadlines on standalone limiters.
+ */
+@SpringBootTest(classes = ResumeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class UpstreamLimiterTests {
+
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static volatile int failuresBeforeSuccess;
+    private static volatile int failureStatus;
+    private static HttpServer stub;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private UpstreamLimiter upstreamLimiter;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            boolean fail = calls.incrementAndGet() <= failuresBeforeSuccess;
+            byte[] body = (fail ? "{\"error\":\"injected\"}" : "{\"choices\":[{\"message\":{\"content\":\"ok\"}}]}")
+                .getBytes(StandardCharsets.UTF_8);
+            if (fail && failureStatus == 429) {
+                exchange.getResponseHeaders().add("Retry-After", "0.05");
+            }
+            exchange.sendResponseHeaders(fail ? failureStatus : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        registry.add("openai.api.key", () -> "sk-test-0123456789");
+        registry.add("openai.api.url", () -> "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1");
+        registry.add("resume.cache.enabled", () -> "false");
+        registry.add("resume.retry.max-attempts", () -> "3");
+        registry.add("resume.retry.base-backoff-ms", () -> "10");
+        registry.add("resume.limiter.acquire-timeout-ms", () -> "200");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @BeforeEach
+    void reset() {
+        calls.set(0);
+    }
+
+    @Test
+    void retriesThrottledCallsAndBacksOffConcurrency() {
+        failuresBeforeSuccess = 2;
+        failureStatus = 429;
+        double limitBefore = upstreamLimiter.getConcurrencyLimit();
+
+        GeneratedResume result = resumeService.generateResume(sampleResume("sync"));
+
+        assertEquals("ok", result.getContent());
+        assertEquals(3, calls.get());
+        assertTrue(upstreamLimiter.getConcurrencyLimit() < limitBefore,
+            "expected the AIMD limit to drop after 429s, was " + upstreamLimiter.getConcurrencyLimit());
+        assertEquals(0, upstreamLimiter.getInFlight());
+    }
+
+    @Test
+    void asyncPathRetriesThrottledCalls() {
+        failuresBeforeSuccess = 2;
+        failureStatus = 429;
+
+        GeneratedResume result = resumeService.generateResumeAsync(sampleResume("async")).join();
+
+        assertEquals("ok", result.getContent());
+        assertEquals(3, calls.get());
+        assertEquals(0, upstreamLimiter.getInFlight());
+    }
+
+    @Test
+    void givesUpAfterMaxAttemptsOnServerErrors() {
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+        failureStatus = 503;
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+            () -> resumeService.generateResume(sampleResume("failing")));
+
+        assertTrue(error.getMessage().contains("injected"), error.getMessage());
+        // max-attempts=3 bounds the calls, the first one included
+        assertEquals(3, calls.get());
+        CompletionException asyncError = assertThrows(CompletionException.class,
+            () -> resumeService.generateResumeAsync(sampleResume("failing-async")).join());
+        assertTrue(asyncError.getCause().getMessage().contains("injected"));
+        assertEquals(6, calls.get());
+        assertEquals(0, upstreamLimiter.getInFlight());
+    }
+
+    @Test
+    void admitsQueuedCallsInArrivalOrderAsPermitsAreReleased() throws Exception {
+        UpstreamLimiter limiter = newLimiter(1, 2, 5000);
+        UpstreamLimiter.Permit first = limiter.acquire(10);
+        CompletableFuture<UpstreamLimiter.Permit> second = limiter.acquireAsync(10);
+        CompletableFuture<UpstreamLimiter.Permit> third = limiter.acquireAsync(10);
+
+        CompletableFuture<UpstreamLimiter.Permit> overflow = limiter.acquireAsync(10);
+        ExecutionException rejected = assertThrows(ExecutionException.class, overflow::get);
+        assertInstanceOf(UpstreamSaturatedException.class, rejected.getCause());
+        assertEquals(2, limiter.getWaiting());
+
+        first.success();
+        second.get(1, TimeUnit.SECONDS).success();
+        third.get(1, TimeUnit.SECONDS).success();
+        assertEquals(0, limiter.getWaiting());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void waitersGiveUpAtTheDeadline() {
+        UpstreamLimiter limiter = newLimiter(1, 10, 100);
+        UpstreamLimiter.Permit held = limiter.acquire(10);
+
+        long start = System.nanoTime();
+        assertThrows(UpstreamSaturatedException.class, () -> limiter.acquire(10));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+        limiter.acquireAsync(10).cancel(false);
+        assertEquals(0, limiter.getWaiting());
+        held.success();
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void generationFailsFastWhenTheLimiterIsSaturated() {
+        List<UpstreamLimiter.Permit> held = new ArrayList<>();
+        for (CompletableFuture<UpstreamLimiter.Permit> next = upstreamLimiter.acquireAsync(1); ;
+             next = upstreamLimiter.acquireAsync(1)) {
+            if (!next.isDone()) {
+                next.cancel(false);
+                break;
+            }
+            held.add(next.join());
+        }
+        try {
+            assertThrows(UpstreamSaturatedException.class,
+                () -> resumeService.generateResume(sampleResume("saturated")));
+            CompletionException asyncError = assertThrows(CompletionException.class,
+                () -> resumeService.generateResumeAsync(sampleResume("saturated-async")).join());
+            assertInstanceOf(UpstreamSaturatedException.class, asyncError.getCause());
+            assertEquals(0, calls.get());
+        } finally {
+            held.forEach(UpstreamLimiter.Permit::failed);
+        }
+        assertEquals(0, upstreamLimiter.getInFlight());
+    }
+
+    private static UpstreamLimiter newLimiter(int concurrency, int maxWaiters, long acquireTimeoutMs) {
+        UpstreamLimiter limiter = new UpstreamLimiter();
+        ReflectionTestUtils.setField(limiter, "requestsPerMinute", 3500L);
+        ReflectionTestUtils.setField(limiter, "tokensPerMinute", 200000L);
+        ReflectionTestUtils.setField(limiter, "initialConcurrency", concurrency);
+        ReflectionTestUtils.setField(limiter, "minConcurrency", 1);
+        ReflectionTestUtils.setField(limiter, "maxConcurrency", concurrency);
+        ReflectionTestUtils.setField(limiter, "backoffRatio", 0.5);
+        ReflectionTestUtils.setField(limiter, "latencyTolerance", 2.0);
+        ReflectionTestUtils.setField(limiter, "maxWaiters", maxWaiters);
+        ReflectionTestUtils.setField(limiter, "acquireTimeoutMs", acquireTimeoutMs);
+        ReflectionTestUtils.setField(limiter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(limiter, "init");
+        return limiter;
+    }
+
+    private static Resume sampleResume(String tag) {
+        Resume.PersonalInformation info = new Resume.PersonalInformation();
+        info.setName("Jane Doe");
+        info.setEmail(tag + "@example.com");
+        Resume resume = new Resume();
+        resume.setPersonalInformation(info);
+        return resume;
+    }
+}